@@ -15,6 +15,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
 import guru.mikelue.jdut.decorate.DataGrainDecorator;
+import guru.mikelue.jdut.decorate.TableSchemaLoadingDecorator;
 import guru.mikelue.jdut.jdbc.JdbcFunction;
 import guru.mikelue.jdut.jdbc.SQLExceptionConvert;
 import guru.mikelue.jdut.operation.DataGrainOperator;
@@ -33,6 +34,11 @@ import guru.mikelue.jdut.operation.OperatorFactory;
  * 	<li>The named {@link DataGrainOperator operators}</li>
  * 	<li>The named {@link DataGrainDecorator decorations}</li>
  * 	<li>The named {@link JdbcFunction JdbcFunction}</li>
+ * 	<li>The ordering of tables by their dependencies</li>
+ * 	<li>The degree of parallelism for building/cleaning independent tables</li>
+ * 	<li>The cleaning by rolling back the transaction</li>
+ * 	<li>The streaming of data rows of YAML resource</li>
+ * 	<li>The set-up of {@link TableSchemaLoadingDecorator loading schema}</li>
  * </ol>
  */
 public class ConductorConfig {
@@ -95,6 +101,90 @@ public class ConductorConfig {
 			return this;
 		}
 
+		/**
+		 * Sets whether or not to order the tables by their dependencies(foreign keys).<br>
+		 *
+		 * If the value is false, the tables are built by the sequence of definitions and cleaned by the reversed one,
+		 * the tables are never built/cleaned in parallel.
+		 *
+		 * @param flag true if the tables are ordered by {@link DependencyPlanner}
+		 *
+		 * @return cascading self
+		 */
+		public Builder dependencyPlanning(boolean flag)
+		{
+			dependencyPlanning = Optional.of(flag);
+			return this;
+		}
+
+		/**
+		 * Sets the degree of parallelism for building/cleaning independent tables.<br>
+		 *
+		 * If the value is greater than 1, the independent tables(see {@link DependencyPlanner#planLevels(java.util.List)})
+		 * are built/cleaned by a bounded pool of threads, every thread uses its own {@link Connection}.
+		 *
+		 * @param newParallelism The degree of parallelism, must be positive
+		 *
+		 * @return cascading self
+		 */
+		public Builder parallelism(int newParallelism)
+		{
+			Validate.isTrue(newParallelism > 0, "The degree of parallelism must be positive. Got: %d", newParallelism);
+
+			parallelism = Optional.of(newParallelism);
+			return this;
+		}
+
+		/**
+		 * Sets whether or not to clean data by rolling back the transaction of held connection.
+		 *
+		 * @param flag true if the data is built in a transaction and cleaned by rolling back
+		 *
+		 * @return cascading self
+		 *
+		 * @see RollbackDuetConductor
+		 */
+		public Builder rollbackClean(boolean flag)
+		{
+			rollbackClean = Optional.of(flag);
+			return this;
+		}
+
+		/**
+		 * Sets whether or not to stream the data rows of tables while loading resource of YAML.<br>
+		 *
+		 * If the value is true, the rows of tables are parsed while they are operated(by chunks),
+		 * instead of being loaded into memory before building.
+		 *
+		 * @param flag true if the rows are parsed by streaming
+		 *
+		 * @return cascading self
+		 *
+		 * @see guru.mikelue.jdut.yaml.YamlConductorFactory#conductResource(String, Consumer)
+		 */
+		public Builder streamingData(boolean flag)
+		{
+			streamingData = Optional.of(flag);
+			return this;
+		}
+
+		/**
+		 * Sets the set-up of decorator for loading schema of tables(e.g., the {@link guru.mikelue.jdut.decorate.PersistentSchemaCache persistent cache}).<br>
+		 *
+		 * This setting is used while building the factory of conductors(e.g., {@link guru.mikelue.jdut.yaml.YamlConductorFactory#build YamlConductorFactory.build}).
+		 *
+		 * @param newSchemaLoading The consumer to set-up the decorator
+		 *
+		 * @return cascading self
+		 *
+		 * @see TableSchemaLoadingDecorator#build
+		 */
+		public Builder schemaLoading(Consumer<TableSchemaLoadingDecorator.Builder> newSchemaLoading)
+		{
+			schemaLoading = Optional.ofNullable(newSchemaLoading);
+			return this;
+		}
+
 		/**
 		 * Puts named operator
 		 *
@@ -217,6 +307,11 @@ public class ConductorConfig {
 	private Optional<Function<String, Reader>> resourceLoader = Optional.empty();
 	private Optional<OperatorFactory> operatorFactory = Optional.empty();
 	private Optional<SQLExceptionConvert<?>> sqlExceptionConvert = Optional.empty();
+	private Optional<Boolean> dependencyPlanning = Optional.empty();
+	private Optional<Integer> parallelism = Optional.empty();
+	private Optional<Boolean> rollbackClean = Optional.empty();
+	private Optional<Boolean> streamingData = Optional.empty();
+	private Optional<Consumer<TableSchemaLoadingDecorator.Builder>> schemaLoading = Optional.empty();
 
 	private ConductorConfig() {}
 
@@ -375,6 +470,82 @@ public class ConductorConfig {
 		return Optional.empty();
 	}
 
+	/**
+	 * Gets whether or not to order the tables by their dependencies(foreign keys).
+	 *
+	 * @return The optional value of flag or parent's one
+	 *
+	 * @see DependencyPlanner
+	 */
+	public Optional<Boolean> getDependencyPlanning()
+	{
+		if (!dependencyPlanning.isPresent() && parent.isPresent()) {
+			return parent.get().getDependencyPlanning();
+		}
+
+		return dependencyPlanning;
+	}
+
+	/**
+	 * Gets the degree of parallelism for building/cleaning independent tables.
+	 *
+	 * @return The optional value of parallelism or parent's one
+	 */
+	public Optional<Integer> getParallelism()
+	{
+		if (!parallelism.isPresent() && parent.isPresent()) {
+			return parent.get().getParallelism();
+		}
+
+		return parallelism;
+	}
+
+	/**
+	 * Gets whether or not to clean data by rolling back the transaction of held connection.
+	 *
+	 * @return The optional value of flag or parent's one
+	 *
+	 * @see RollbackDuetConductor
+	 */
+	public Optional<Boolean> getRollbackClean()
+	{
+		if (!rollbackClean.isPresent() && parent.isPresent()) {
+			return parent.get().getRollbackClean();
+		}
+
+		return rollbackClean;
+	}
+
+	/**
+	 * Gets whether or not to stream the data rows of tables while loading resource of YAML.
+	 *
+	 * @return The optional value of flag or parent's one
+	 */
+	public Optional<Boolean> getStreamingData()
+	{
+		if (!streamingData.isPresent() && parent.isPresent()) {
+			return parent.get().getStreamingData();
+		}
+
+		return streamingData;
+	}
+
+	/**
+	 * Gets the set-up of decorator for loading schema of tables.
+	 *
+	 * @return The optional set-up or parent's one
+	 *
+	 * @see TableSchemaLoadingDecorator#build
+	 */
+	public Optional<Consumer<TableSchemaLoadingDecorator.Builder>> getSchemaLoading()
+	{
+		if (!schemaLoading.isPresent() && parent.isPresent()) {
+			return parent.get().getSchemaLoading();
+		}
+
+		return schemaLoading;
+	}
+
 	@Override
 	protected ConductorConfig clone()
 	{
@@ -405,6 +576,11 @@ public class ConductorConfig {
 		newConfig.resourceLoader = this.resourceLoader;
 		newConfig.operatorFactory = this.operatorFactory;
 		newConfig.sqlExceptionConvert = this.sqlExceptionConvert;
+		newConfig.dependencyPlanning = this.dependencyPlanning;
+		newConfig.parallelism = this.parallelism;
+		newConfig.rollbackClean = this.rollbackClean;
+		newConfig.streamingData = this.streamingData;
+		newConfig.schemaLoading = this.schemaLoading;
 
 		return newConfig;
 	}
@@ -1,41 +1,189 @@
 package guru.mikelue.jdut;
 
 import java.sql.Connection;
+import java.sql.Savepoint;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Optional;
+import javax.sql.DataSource;
 
 /**
- * Used to be access by thread-local variable of current execution of conductor.
+ * Used to be access by thread-local variable of current execution of conductor.<br>
+ *
+ * <p>While a {@link RollbackDuetConductor} has built data(and not cleaned yet), the connection held by it
+ * is provided by {@link #getCurrentConnection} to the code under test on the same thread.
+ * The nested {@link RollbackDuetConductor}s use a stack of savepoints on the held connection.</p>
  */
 public final class ConductorContext {
-	private static ThreadLocal<Connection> connOfThreadLocal = new ThreadLocal<>();
+	private static ThreadLocal<Deque<ConductingConnection>> connOfThreadLocal = ThreadLocal.withInitial(() -> new ArrayDeque<>(2));
+	private static ThreadLocal<HeldConnection> heldConnOfThreadLocal = new ThreadLocal<>();
 
 	private ConductorContext() {}
 
 	/**
-	 * Gets current connection.
+	 * Gets current connection.<br>
+	 *
+	 * If there is no conducting connection, the connection held by {@link RollbackDuetConductor} is returned.
 	 *
 	 * @return current object of connection, my be empty
 	 */
 	public static Optional<Connection> getCurrentConnection()
 	{
-		return Optional.ofNullable(connOfThreadLocal.get());
+		ConductingConnection currentConnection = connOfThreadLocal.get().peek();
+		if (currentConnection != null) {
+			return Optional.of(currentConnection.connection);
+		}
+
+		return Optional.ofNullable(heldConnOfThreadLocal.get())
+			.map(held -> held.connection);
+	}
+
+	/**
+	 * Gets current connection of the data source.<br>
+	 *
+	 * If there is no conducting connection of the data source, the connection(of the data source)
+	 * held by {@link RollbackDuetConductor} is returned.
+	 *
+	 * @param dataSource The data source of connection
+	 *
+	 * @return current object of connection, my be empty
+	 */
+	public static Optional<Connection> getCurrentConnection(DataSource dataSource)
+	{
+		ConductingConnection currentConnection = connOfThreadLocal.get().peek();
+		if (currentConnection != null && currentConnection.dataSource == dataSource) {
+			return Optional.of(currentConnection.connection);
+		}
+
+		return getHeldConnection(dataSource);
 	}
 
 	/**
-	 * Sets current connection.
+	 * Sets current connection, the previous one is restored by {@link #cleanCurrentConnection}.
 	 *
+	 * @param dataSource The data source of connection
 	 * @param connection The connection object to be keeped in thread local
 	 */
-	static void setCurrentConnection(Connection connection)
+	static void setCurrentConnection(DataSource dataSource, Connection connection)
 	{
-		connOfThreadLocal.set(connection);
+		connOfThreadLocal.get().push(new ConductingConnection(dataSource, connection));
 	}
 
 	/**
-	 * Cleans the current connection.
+	 * Cleans the current connection, the previous one(if any) becomes the current one.
 	 */
 	static void cleanCurrentConnection()
 	{
-		connOfThreadLocal.remove();
+		Deque<ConductingConnection> connections = connOfThreadLocal.get();
+		connections.poll();
+
+		if (connections.isEmpty()) {
+			connOfThreadLocal.remove();
+		}
+	}
+
+	/**
+	 * Gets the held connection of the data source.
+	 *
+	 * @param dataSource The data source of held connection
+	 *
+	 * @return The held connection, may be empty
+	 */
+	static Optional<Connection> getHeldConnection(DataSource dataSource)
+	{
+		return Optional.ofNullable(heldConnOfThreadLocal.get())
+			.filter(held -> held.dataSource == dataSource)
+			.map(held -> held.connection);
+	}
+
+	/**
+	 * Holds a connection, which would be used by conducting of the same data source.
+	 *
+	 * @param dataSource The data source of connection
+	 * @param connection The connection to be held
+	 */
+	static void holdConnection(DataSource dataSource, Connection connection)
+	{
+		if (heldConnOfThreadLocal.get() != null) {
+			throw new DataConductException("There is a held connection in current thread: [%s]", heldConnOfThreadLocal.get().connection);
+		}
+
+		heldConnOfThreadLocal.set(new HeldConnection(dataSource, connection));
+	}
+
+	/**
+	 * Releases the held connection.
+	 */
+	static void releaseHeldConnection()
+	{
+		heldConnOfThreadLocal.remove();
+	}
+
+	/**
+	 * Pushes a savepoint of held connection.
+	 *
+	 * @param savepoint The savepoint set on held connection
+	 */
+	static void pushSavepoint(Savepoint savepoint)
+	{
+		getHeldConnectionObject().savepoints.push(savepoint);
+	}
+
+	/**
+	 * Pops the savepoint of held connection, the savepoint must be the innermost one.
+	 *
+	 * @param savepoint The savepoint to be popped
+	 */
+	static void popSavepoint(Savepoint savepoint)
+	{
+		checkInnermostSavepoint(savepoint);
+		getHeldConnectionObject().savepoints.pop();
+	}
+
+	/**
+	 * Checks the savepoint of held connection, which must be the innermost one.
+	 *
+	 * @param savepoint The savepoint to be checked
+	 *
+	 * @throws DataConductException If the savepoint is not the innermost one
+	 */
+	static void checkInnermostSavepoint(Savepoint savepoint)
+	{
+		if (getHeldConnectionObject().savepoints.peek() != savepoint) {
+			throw new DataConductException("The savepoint is not the innermost one: [%s]", savepoint);
+		}
+	}
+
+	private static HeldConnection getHeldConnectionObject()
+	{
+		HeldConnection held = heldConnOfThreadLocal.get();
+		if (held == null) {
+			throw new DataConductException("There is no held connection in current thread");
+		}
+
+		return held;
+	}
+
+	private static class ConductingConnection {
+		final DataSource dataSource;
+		final Connection connection;
+
+		ConductingConnection(DataSource newDataSource, Connection newConnection)
+		{
+			dataSource = newDataSource;
+			connection = newConnection;
+		}
+	}
+
+	private static class HeldConnection {
+		final DataSource dataSource;
+		final Connection connection;
+		final Deque<Savepoint> savepoints = new ArrayDeque<>(4);
+
+		HeldConnection(DataSource newDataSource, Connection newConnection)
+		{
+			dataSource = newDataSource;
+			connection = newConnection;
+		}
 	}
 }
@@ -1,8 +1,10 @@
 package guru.mikelue.jdut;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 
 import org.slf4j.Logger;
@@ -14,6 +16,7 @@ import guru.mikelue.jdut.decorate.DataGrainDecorator;
 import guru.mikelue.jdut.decorate.TableSchemaLoadingDecorator;
 import guru.mikelue.jdut.jdbc.JdbcFunction;
 import guru.mikelue.jdut.jdbc.function.DbRelease;
+import guru.mikelue.jdut.jdbc.function.StatementCache;
 import guru.mikelue.jdut.operation.DataGrainOperator;
 import guru.mikelue.jdut.operation.DataRowOperator;
 import guru.mikelue.jdut.operation.DataRowsOperator;
@@ -25,11 +28,18 @@ import guru.mikelue.jdut.operation.DataRowsOperator;
  * <p>This object is responsible for retrieving {@link Connection} from {@link DataSource},
  * and uses the connection to execute any method of {@link #conduct(DataGrain, DataGrainOperator)}.</p>
  *
- * <p>Before operating the action on data grain, this conductor would load database schema by {@link TableSchemaLoadingDecorator} object, which caches loaded schema of tables.</p>
+ * <p>Before operating the action on data grain, this conductor would load database schema by {@link TableSchemaLoadingDecorator} object, which caches loaded schema of tables.
+ * The schema is loaded by the same connection used to operate the data grain(see {@link TableSchemaLoadingDecorator.ConnectionStrategy}).</p>
+ *
+ * <h3>Cached statements</h3>
+ * <p>While conducting, the {@link PreparedStatement}s built by {@link guru.mikelue.jdut.jdbc.function.DbStatement DbStatement}
+ * on the leased connection are cached by {@link StatementCache}. The cached statements are closed after the conducting is completed.</p>
  *
  * <h3>Afterward decorating</h3>
  * <p>Every method provided by this object has an overloading method with additional {@link DataGrainDecorator},
- * the decorator is used after the loading of table schema on the data grain.</p>
+ * the decorator is used after the loading of table schema on the data grain.
+ * The loading of schema, the decorator and the pending decorations of data grain(see {@link DataGrain#decorate})
+ * are applied in a single pass of rows.</p>
  *
  * <p>
  * The building/cleaning actions defined by {@link DuetConductor}, however, doesn't know the decorator has decorated
@@ -42,7 +52,7 @@ import guru.mikelue.jdut.operation.DataRowsOperator;
 public class DataConductor {
 	private Logger logger = LoggerFactory.getLogger(DataConductor.class);
 	private final DataSource dataSource;
-	private final DataGrainDecorator schemaLoadingDecorator;
+	private final TableSchemaLoadingDecorator schemaLoadingDecorator;
 
 	/**
 	 * Constructs this object with a valid {@link DataSource} object.
@@ -50,9 +60,32 @@ public class DataConductor {
 	 * @param newDataSource The initialized object of data source
 	 */
 	public DataConductor(DataSource newDataSource)
+	{
+		this(newDataSource, new TableSchemaLoadingDecorator(newDataSource));
+	}
+
+	/**
+	 * Constructs this object with a valid {@link DataSource} object and customized decorator for loading schema.
+	 *
+	 * @param newDataSource The initialized object of data source
+	 * @param newSchemaLoadingDecorator The decorator for loading schema
+	 *
+	 * @see TableSchemaLoadingDecorator#build
+	 */
+	public DataConductor(DataSource newDataSource, TableSchemaLoadingDecorator newSchemaLoadingDecorator)
 	{
 		dataSource = newDataSource;
-		schemaLoadingDecorator = new TableSchemaLoadingDecorator(dataSource);
+		schemaLoadingDecorator = newSchemaLoadingDecorator;
+	}
+
+	/**
+	 * Gets the decorator used to load schema of tables, which caches loaded schema of tables.
+	 *
+	 * @return The decorator for loading schema
+	 */
+	public TableSchemaLoadingDecorator getSchemaLoadingDecorator()
+	{
+		return schemaLoadingDecorator;
 	}
 
 	/**
@@ -70,14 +103,17 @@ public class DataConductor {
 		DataGrainDecorator decorator
 	) {
 		return conn -> {
-			DataGrain dataGrainOfSchemaLoaded = dataGrain.decorate(schemaLoadingDecorator);
-
-			if (decorator != null) {
-				dataGrainOfSchemaLoaded = dataGrain.decorate(decorator);
+			/**
+			 * The schema is loaded by the connection fed to this function
+			 */
+			ConductorContext.setCurrentConnection(dataSource, conn);
+			try {
+				return operator.toJdbcFunction(decorate(dataGrain, Optional.ofNullable(decorator)))
+					.applyJdbc(conn);
+			} finally {
+				ConductorContext.cleanCurrentConnection();
 			}
-
-			return operator.toJdbcFunction(dataGrainOfSchemaLoaded)
-				.asFunction().apply(conn);
+			// :~)
 		};
 	}
 	/**
@@ -174,19 +210,54 @@ public class DataConductor {
 
 	private DataGrain conduct(DataGrain dataGrain, DataGrainOperator operator, Optional<DataGrainDecorator> decorator)
 	{
-		dataGrain = dataGrain.decorate(schemaLoadingDecorator);
+		/**
+		 * Decorates the data grain with the leased connection(for loading schema)
+		 */
+		return conduct(
+			conn -> operator.toJdbcFunction(decorate(dataGrain, decorator)).applyJdbc(conn)
+		);
+		// :~)
+	}
 
-		if (decorator.isPresent()) {
-			dataGrain = dataGrain.decorate(decorator.get());
+	/**
+	 * Decorates the data grain by loading of schema and the decorator in a single pass of rows.
+	 */
+	private DataGrain decorate(DataGrain dataGrain, Optional<DataGrainDecorator> decorator)
+	{
+		/**
+		 * The rows of parallel data grain are decorated by threads of fork/join pool,
+		 * which have no connection of conducting.
+		 *
+		 * The schema of tables is loaded by current thread(and the connection of conducting) before the forking,
+		 * so the decorating on the pool only gets the schema from registry.
+		 */
+		if (dataGrain.isParallel() && !dataGrain.isStreaming()) {
+			dataGrain = dataGrain.applyDecoration();
+			schemaLoadingDecorator.prefetch(
+				dataGrain.getRows().stream()
+					.map(DataRow::getTable)
+					.collect(Collectors.toList())
+			);
 		}
+		// :~)
 
-		return conduct(
-			operator.toJdbcFunction(dataGrain)
+		DataGrain decoratedDataGrain = dataGrain.decorate(
+			decorator.map(schemaLoadingDecorator::chain)
+				.orElse(schemaLoadingDecorator)
 		);
+
+		/**
+		 * Applies the decorators before operating,
+		 * the streaming data grain is decorated while the rows are streamed
+		 */
+		return decoratedDataGrain.applyDecoration();
+		// :~)
 	}
 
 	/**
-	 * Executes a {@link JdbcFunction}, the connection would be put into {@link ConductorContext}.
+	 * Executes a {@link JdbcFunction}, the connection would be put into {@link ConductorContext}.<br>
+	 *
+	 * If there is a connection held by {@link RollbackDuetConductor}(in current thread), the held one is used.
 	 *
 	 * @param <T> The type of returned value
 	 * @param jdbcFunction The JDBC function to be executed
@@ -195,25 +266,49 @@ public class DataConductor {
 	 */
 	public <T> T conduct(JdbcFunction<Connection, T> jdbcFunction)
 	{
-		try {
-			return jdbcFunction
-				.surroundedBy(
-					f -> conn -> {
-						logger.debug("Put connection to context: [{}]", conn);
-						ConductorContext.setCurrentConnection(conn);
-
-						try {
-							return f.applyJdbc(conn);
-						} finally {
-							logger.debug("Remove connection from context: [{}]", conn);
-							ConductorContext.cleanCurrentConnection();
-						}
+		JdbcFunction<Connection, T> conductingFunction = jdbcFunction
+			.surroundedBy(
+				f -> conn -> {
+					logger.debug("Put connection to context: [{}]", conn);
+					ConductorContext.setCurrentConnection(dataSource, conn);
+
+					try {
+						return f.applyJdbc(conn);
+					} finally {
+						logger.debug("Remove connection from context: [{}]", conn);
+						ConductorContext.cleanCurrentConnection();
 					}
-				)
+				}
+			)
+			.surroundedBy(StatementCache::scoped);
+
+		try {
+			/**
+			 * The held connection is not closed after conducting
+			 */
+			Optional<Connection> heldConnection = ConductorContext.getHeldConnection(dataSource);
+			if (heldConnection.isPresent()) {
+				logger.debug("Use held connection: [{}]", heldConnection.get());
+				return conductingFunction.applyJdbc(heldConnection.get());
+			}
+			// :~)
+
+			return conductingFunction
 				.surroundedBy(DbRelease::autoClose)
 				.applyJdbc(dataSource.getConnection());
 		} catch (SQLException e) {
 			throw new DataConductException(e);
 		}
 	}
+
+	/**
+	 * Checks whether or not there is a connection(of the data source of this object) held by {@link RollbackDuetConductor}
+	 * in current thread.
+	 *
+	 * @return true if there is held connection
+	 */
+	public boolean hasHeldConnection()
+	{
+		return ConductorContext.getHeldConnection(dataSource).isPresent();
+	}
 }
@@ -0,0 +1,384 @@
+package guru.mikelue.jdut;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.jdut.datagrain.SchemaTable;
+import guru.mikelue.jdut.decorate.TableSchemaLoadingDecorator;
+import guru.mikelue.jdut.operation.DefaultOperators;
+
+/**
+ * Plans the sequence of building(and cleaning, by reversed sequence) by the dependencies(foreign keys) among tables.<br>
+ *
+ * <h3>Ordering</h3>
+ * <p>The referenced tables of a table is loaded by {@link SchemaTable#getReferencedTables},
+ * by {@link Ordering#PARENT_FIRST}(e.g., inserting), every definition of a table is built after all of the definitions of tables referenced by it;
+ * by {@link Ordering#CHILD_FIRST}(e.g., deleting), every definition of a table is built before all of the definitions of tables referenced by it.
+ * The planned sequence is <b>stable</b>: the definition with the least index is picked first among the ready ones,
+ * so that the sequence of definitions would be unchanged if it has already satisfied the dependencies.</p>
+ *
+ * <ul>
+ * 	<li>The items without table(e.g., code of JDBC function) or by {@link Ordering#DEFINITION} are barriers,
+ * 		the items are never moved across a barrier.</li>
+ * 	<li>The items are never moved across an item of different ordering.</li>
+ * 	<li>The items having the same table keep the sequence of definitions.</li>
+ * 	<li>The self-referenced foreign key is ignored.</li>
+ * 	<li>If there is a cycle of dependencies, the sequence of definitions is used for the items between barriers.</li>
+ * </ul>
+ *
+ * <h3>Levels</h3>
+ * <p>{@link #planLevels(List, Function)} groups the items into levels, the items in the same level have no dependency
+ * to each other. The levels are sorted by dependencies.</p>
+ *
+ * @see DuetFunctions#getTable
+ * @see DuetFunctions#getOrdering
+ */
+public class DependencyPlanner {
+	/**
+	 * The ordering of items by the dependencies of their tables.
+	 */
+	public enum Ordering {
+		/**
+		 * The referenced tables are built first, which is used by inserting of data.
+		 */
+		PARENT_FIRST,
+		/**
+		 * The referencing tables are built first, which is used by deleting of data.
+		 */
+		CHILD_FIRST,
+		/**
+		 * The item is not moved, which is used if the effect of building is unknown.
+		 */
+		DEFINITION;
+
+		/**
+		 * Gets the ordering by name of operator defined in {@link DefaultOperators}.<br>
+		 *
+		 * The inserting operators(including {@link DefaultOperators#REFRESH REFRESH}) are {@link #PARENT_FIRST},
+		 * the deleting operators(including {@link DefaultOperators#TRUNCATE TRUNCATE}) are {@link #CHILD_FIRST},
+		 * others are {@link #DEFINITION}.
+		 *
+		 * @param nameOfOperator The name of operator
+		 *
+		 * @return The ordering for the operator
+		 */
+		public static Ordering ofOperator(String nameOfOperator)
+		{
+			if (nameOfOperator == null) {
+				return DEFINITION;
+			}
+
+			switch (nameOfOperator) {
+				case DefaultOperators.INSERT:
+				case DefaultOperators.BATCH_INSERT:
+				case DefaultOperators.MULTI_ROW_INSERT:
+				case DefaultOperators.REFRESH:
+					return PARENT_FIRST;
+				case DefaultOperators.DELETE:
+				case DefaultOperators.BATCH_DELETE:
+				case DefaultOperators.DELETE_ALL:
+				case DefaultOperators.TRUNCATE:
+					return CHILD_FIRST;
+				default:
+					return DEFINITION;
+			}
+		}
+	}
+
+	private Logger logger = LoggerFactory.getLogger(DependencyPlanner.class);
+
+	private final Function<SchemaTable, SchemaTable> schemaLoader;
+
+	/**
+	 * Constructs with the decorator of loading schema.
+	 *
+	 * @param schemaLoadingDecorator The decorator used to load schema of tables
+	 */
+	public DependencyPlanner(TableSchemaLoadingDecorator schemaLoadingDecorator)
+	{
+		this(schemaLoadingDecorator::getSchema);
+	}
+
+	/**
+	 * Constructs with the function of loading schema.
+	 *
+	 * @param newSchemaLoader The function used to load schema(with referenced tables) of tables
+	 */
+	public DependencyPlanner(Function<SchemaTable, SchemaTable> newSchemaLoader)
+	{
+		Validate.notNull(newSchemaLoader, "Need loader of schema");
+		schemaLoader = newSchemaLoader;
+	}
+
+	/**
+	 * Plans the sequence of building for functions.
+	 *
+	 * @param duetFunctions The functions by sequence of definitions
+	 *
+	 * @return The planned sequence of functions
+	 *
+	 * @see DuetFunctions#getTable
+	 * @see DuetFunctions#getOrdering
+	 */
+	public List<DuetFunctions> plan(List<DuetFunctions> duetFunctions)
+	{
+		return plan(duetFunctions, DuetFunctions::getTable, DuetFunctions::getOrdering);
+	}
+
+	/**
+	 * Plans the levels of building for functions.
+	 *
+	 * @param duetFunctions The functions by sequence of definitions
+	 *
+	 * @return The planned levels of functions
+	 *
+	 * @see DuetFunctions#getTable
+	 * @see DuetFunctions#getOrdering
+	 */
+	public List<List<DuetFunctions>> planLevels(List<DuetFunctions> duetFunctions)
+	{
+		return planLevels(duetFunctions, DuetFunctions::getTable, DuetFunctions::getOrdering);
+	}
+
+	/**
+	 * Plans the sequence of building for items, which are ordered by {@link Ordering#PARENT_FIRST}.
+	 *
+	 * @param <T> The type of items
+	 * @param items The items by sequence of definitions
+	 * @param tableMapper The function to get table of an item, the empty value means the item is a barrier
+	 *
+	 * @return The planned sequence of items
+	 */
+	public <T> List<T> plan(List<T> items, Function<? super T, Optional<SchemaTable>> tableMapper)
+	{
+		return plan(items, tableMapper, item -> Ordering.PARENT_FIRST);
+	}
+
+	/**
+	 * Plans the sequence of building for items.
+	 *
+	 * @param <T> The type of items
+	 * @param items The items by sequence of definitions
+	 * @param tableMapper The function to get table of an item, the empty value means the item is a barrier
+	 * @param orderingMapper The function to get ordering of an item, the {@link Ordering#DEFINITION} means the item is a barrier
+	 *
+	 * @return The planned sequence of items
+	 */
+	public <T> List<T> plan(
+		List<T> items, Function<? super T, Optional<SchemaTable>> tableMapper,
+		Function<? super T, Ordering> orderingMapper
+	) {
+		List<T> result = new ArrayList<>(items.size());
+
+		planSegments(items, tableMapper, orderingMapper, segmentPlan -> result.addAll(segmentPlan.order));
+
+		return result;
+	}
+
+	/**
+	 * Plans the levels of building for items, which are ordered by {@link Ordering#PARENT_FIRST}.<br>
+	 *
+	 * A barrier(item without table) is always a level of its own.
+	 *
+	 * @param <T> The type of items
+	 * @param items The items by sequence of definitions
+	 * @param tableMapper The function to get table of an item, the empty value means the item is a barrier
+	 *
+	 * @return The planned levels of items
+	 */
+	public <T> List<List<T>> planLevels(List<T> items, Function<? super T, Optional<SchemaTable>> tableMapper)
+	{
+		return planLevels(items, tableMapper, item -> Ordering.PARENT_FIRST);
+	}
+
+	/**
+	 * Plans the levels of building for items.<br>
+	 *
+	 * A barrier(item without table or by {@link Ordering#DEFINITION}) is always a level of its own.
+	 *
+	 * @param <T> The type of items
+	 * @param items The items by sequence of definitions
+	 * @param tableMapper The function to get table of an item, the empty value means the item is a barrier
+	 * @param orderingMapper The function to get ordering of an item, the {@link Ordering#DEFINITION} means the item is a barrier
+	 *
+	 * @return The planned levels of items
+	 */
+	public <T> List<List<T>> planLevels(
+		List<T> items, Function<? super T, Optional<SchemaTable>> tableMapper,
+		Function<? super T, Ordering> orderingMapper
+	) {
+		List<List<T>> result = new ArrayList<>(items.size());
+
+		planSegments(items, tableMapper, orderingMapper, segmentPlan -> result.addAll(segmentPlan.levels));
+
+		return result;
+	}
+
+	private <T> void planSegments(
+		List<T> items, Function<? super T, Optional<SchemaTable>> tableMapper,
+		Function<? super T, Ordering> orderingMapper,
+		Consumer<SegmentPlan<T>> planConsumer
+	) {
+		List<T> itemsOfSegment = new ArrayList<>(items.size());
+		List<SchemaTable> tablesOfSegment = new ArrayList<>(items.size());
+		Ordering orderingOfSegment = null;
+
+		for (T item: items) {
+			Optional<SchemaTable> table = tableMapper.apply(item);
+			Ordering ordering = table.isPresent() ? orderingMapper.apply(item) : Ordering.DEFINITION;
+
+			/**
+			 * The segment is ended by different ordering
+			 */
+			if (!itemsOfSegment.isEmpty() && ordering != orderingOfSegment) {
+				planConsumer.accept(planSegment(itemsOfSegment, tablesOfSegment, orderingOfSegment));
+				itemsOfSegment = new ArrayList<>(items.size());
+				tablesOfSegment = new ArrayList<>(items.size());
+			}
+			// :~)
+
+			if (ordering != Ordering.DEFINITION) {
+				itemsOfSegment.add(item);
+				tablesOfSegment.add(schemaLoader.apply(table.get()));
+				orderingOfSegment = ordering;
+				continue;
+			}
+
+			/**
+			 * Barrier
+			 */
+			planConsumer.accept(new SegmentPlan<>(
+				Collections.singletonList(item),
+				Collections.singletonList(Collections.singletonList(item))
+			));
+			// :~)
+		}
+
+		if (!itemsOfSegment.isEmpty()) {
+			planConsumer.accept(planSegment(itemsOfSegment, tablesOfSegment, orderingOfSegment));
+		}
+	}
+
+	/**
+	 * Kahn's algorithm, the item with least index(of definitions) is picked first
+	 */
+	private <T> SegmentPlan<T> planSegment(List<T> items, List<SchemaTable> tables, Ordering ordering)
+	{
+		int numberOfItems = items.size();
+
+		List<List<Integer>> successors = new ArrayList<>(numberOfItems);
+		int[] numberOfPredecessors = new int[numberOfItems];
+		int[] levelOfItems = new int[numberOfItems];
+
+		for (int i = 0; i < numberOfItems; i++) {
+			successors.add(new ArrayList<>(4));
+		}
+
+		for (int after = 0; after < numberOfItems; after++) {
+			for (int before = 0; before < numberOfItems; before++) {
+				if (before == after) {
+					continue;
+				}
+
+				if (mustPrecede(tables.get(before), before, tables.get(after), after, ordering)) {
+					successors.get(before).add(after);
+					numberOfPredecessors[after]++;
+				}
+			}
+		}
+
+		PriorityQueue<Integer> readyItems = new PriorityQueue<>(numberOfItems);
+		IntStream.range(0, numberOfItems)
+			.filter(i -> numberOfPredecessors[i] == 0)
+			.forEach(readyItems::add);
+
+		List<Integer> order = new ArrayList<>(numberOfItems);
+		while (!readyItems.isEmpty()) {
+			int current = readyItems.poll();
+			order.add(current);
+
+			for (int next: successors.get(current)) {
+				levelOfItems[next] = Math.max(levelOfItems[next], levelOfItems[current] + 1);
+
+				if (--numberOfPredecessors[next] == 0) {
+					readyItems.add(next);
+				}
+			}
+		}
+
+		/**
+		 * Falls back to sequence of definitions
+		 */
+		if (order.size() < numberOfItems) {
+			logger.warn(
+				"There is cycle of dependencies among tables: {}. Uses the sequence of definitions.",
+				tables.stream().map(SchemaTable::getName).collect(Collectors.toList())
+			);
+
+			return new SegmentPlan<>(
+				new ArrayList<>(items),
+				items.stream()
+					.map(Collections::singletonList)
+					.collect(Collectors.toList())
+			);
+		}
+		// :~)
+
+		int numberOfLevels = IntStream.of(levelOfItems).max().orElse(0) + 1;
+		List<List<T>> levels = new ArrayList<>(numberOfLevels);
+		for (int i = 0; i < numberOfLevels; i++) {
+			levels.add(new ArrayList<>(numberOfItems));
+		}
+		for (int i = 0; i < numberOfItems; i++) {
+			levels.get(levelOfItems[i]).add(items.get(i));
+		}
+
+		logger.debug("Planned sequence of tables: {}", order);
+
+		return new SegmentPlan<>(
+			order.stream().map(items::get).collect(Collectors.toList()),
+			levels
+		);
+	}
+	// :~)
+
+	private static boolean mustPrecede(
+		SchemaTable beforeTable, int beforeIndex,
+		SchemaTable afterTable, int afterIndex,
+		Ordering ordering
+	) {
+		if (beforeTable.isSameTable(afterTable)) {
+			return beforeIndex < afterIndex;
+		}
+
+		if (ordering == Ordering.CHILD_FIRST) {
+			return beforeTable.getReferencedTables().stream()
+				.anyMatch(afterTable::isSameTable);
+		}
+
+		return afterTable.getReferencedTables().stream()
+			.anyMatch(beforeTable::isSameTable);
+	}
+
+	private static class SegmentPlan<T> {
+		final List<T> order;
+		final List<List<T>> levels;
+
+		SegmentPlan(List<T> newOrder, List<List<T>> newLevels)
+		{
+			order = newOrder;
+			levels = newLevels;
+		}
+	}
+}
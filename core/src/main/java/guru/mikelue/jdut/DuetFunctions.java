@@ -1,6 +1,9 @@
 package guru.mikelue.jdut;
 
 import java.sql.Connection;
+import java.util.Optional;
+
+import guru.mikelue.jdut.datagrain.SchemaTable;
 import guru.mikelue.jdut.jdbc.JdbcFunction;
 
 /**
@@ -21,4 +24,30 @@ public interface DuetFunctions {
 	 * @return The function with accepting {@link Connection}
 	 */
 	public JdbcFunction<Connection, ?> getCleanFunction();
+	/**
+	 * Gets the table affected by this functions, which is used to order the functions by dependencies of tables.<br>
+	 *
+	 * By default, this method returns empty value, which means the functions is not bound to a table.
+	 *
+	 * @return The table(only name and keys are significant) or empty
+	 *
+	 * @see DependencyPlanner
+	 */
+	default Optional<SchemaTable> getTable()
+	{
+		return Optional.empty();
+	}
+	/**
+	 * Gets the ordering of this functions by dependencies of tables, which is significant only if {@link #getTable} gives a table.<br>
+	 *
+	 * By default, this method returns {@link DependencyPlanner.Ordering#DEFINITION}, which means the functions is kept in the sequence of definitions.
+	 *
+	 * @return The ordering of building
+	 *
+	 * @see DependencyPlanner
+	 */
+	default DependencyPlanner.Ordering getOrdering()
+	{
+		return DependencyPlanner.Ordering.DEFINITION;
+	}
 }
@@ -0,0 +1,191 @@
+package guru.mikelue.jdut;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Savepoint;
+import java.util.Optional;
+import javax.sql.DataSource;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Builds data in a transaction of held connection and cleans data by rolling back the transaction.<br>
+ *
+ * <p>While {@link #build} is called, this conductor gets a connection from {@link DataSource}, disables the auto-commit of it,
+ * and holds it in {@link ConductorContext}. The wrapped conductor builds data on the held connection(see {@link DataConductor#conduct(guru.mikelue.jdut.jdbc.JdbcFunction)}),
+ * and the code under test <b>must use the connection</b> provided by {@link ConductorContext#getCurrentConnection} to see the built data.</p>
+ *
+ * <p>The {@link #clean} of this object rolls back the transaction, the clean functions of wrapped conductor are never executed.</p>
+ *
+ * <h3>Nested conductors</h3>
+ * <p>If there is already a held connection(of the same data source) in current thread, this conductor sets a {@link Savepoint} on it
+ * and the {@link #clean} rolls back to the savepoint. For example, the class-level data is built in the outer transaction
+ * and every method-level data is built in a savepoint. The nested conductors must be cleaned by reversed sequence of building.</p>
+ *
+ * <p>Since the connection is held by thread-local variable, the {@link #build}, testing code, and {@link #clean} must be executed in the same thread.</p>
+ *
+ * @see ConductorConfig.Builder#rollbackClean
+ */
+public class RollbackDuetConductor implements DuetConductor {
+	private Logger logger = LoggerFactory.getLogger(RollbackDuetConductor.class);
+
+	private final DataSource dataSource;
+	private final DuetConductor wrappedConductor;
+
+	private Connection heldConnection = null;
+	private boolean oldAutoCommit;
+	private Savepoint savepoint = null;
+
+	/**
+	 * Constructs with data source and wrapped conductor.
+	 *
+	 * @param newDataSource The data source which provides the held connection
+	 * @param newWrappedConductor The conductor of building data
+	 */
+	public RollbackDuetConductor(DataSource newDataSource, DuetConductor newWrappedConductor)
+	{
+		Validate.notNull(newDataSource, "Need viable data source");
+		Validate.notNull(newWrappedConductor, "Need viable conductor");
+
+		dataSource = newDataSource;
+		wrappedConductor = newWrappedConductor;
+	}
+
+	/**
+	 * Holds a connection with a transaction(or sets a savepoint on the held one) and builds data by the wrapped conductor.
+	 */
+	@Override
+	public void build()
+	{
+		if (heldConnection != null || savepoint != null) {
+			throw new DataConductException("The data has been built without being cleaned");
+		}
+
+		Optional<Connection> outerConnection = ConductorContext.getHeldConnection(dataSource);
+		if (outerConnection.isPresent()) {
+			setSavepoint(outerConnection.get());
+		} else {
+			holdConnection();
+		}
+
+		try {
+			wrappedConductor.build();
+		} catch (RuntimeException e) {
+			clean();
+			throw e;
+		}
+	}
+
+	/**
+	 * Rolls back the transaction(or to the savepoint) and releases the held connection.
+	 */
+	@Override
+	public void clean()
+	{
+		if (savepoint != null) {
+			rollbackToSavepoint();
+			return;
+		}
+
+		if (heldConnection == null) {
+			logger.debug("No held connection for rolling back");
+			return;
+		}
+
+		try {
+			logger.debug("Rollback held connection: [{}]", heldConnection);
+			heldConnection.rollback();
+		} catch (SQLException e) {
+			throw new DataConductException(e);
+		} finally {
+			ConductorContext.releaseHeldConnection();
+			releaseConnection();
+		}
+	}
+
+	private void holdConnection()
+	{
+		try {
+			heldConnection = dataSource.getConnection();
+			oldAutoCommit = heldConnection.getAutoCommit();
+			heldConnection.setAutoCommit(false);
+		} catch (SQLException e) {
+			releaseConnection();
+			throw new DataConductException(e);
+		}
+
+		logger.debug("Hold connection: [{}]", heldConnection);
+
+		try {
+			ConductorContext.holdConnection(dataSource, heldConnection);
+		} catch (RuntimeException e) {
+			releaseConnection();
+			throw e;
+		}
+	}
+
+	private void setSavepoint(Connection outerConnection)
+	{
+		try {
+			savepoint = outerConnection.setSavepoint();
+		} catch (SQLException e) {
+			throw new DataConductException(e);
+		}
+
+		logger.debug("Set savepoint on held connection: [{}]", outerConnection);
+		ConductorContext.pushSavepoint(savepoint);
+	}
+
+	private void rollbackToSavepoint()
+	{
+		ConductorContext.checkInnermostSavepoint(savepoint);
+
+		Connection outerConnection = ConductorContext.getHeldConnection(dataSource).get();
+		try {
+			logger.debug("Rollback to savepoint of held connection: [{}]", outerConnection);
+			outerConnection.rollback(savepoint);
+			releaseSavepoint(outerConnection);
+		} catch (SQLException e) {
+			throw new DataConductException(e);
+		}
+
+		/**
+		 * The savepoint is popped only if it is rolled back successfully
+		 */
+		ConductorContext.popSavepoint(savepoint);
+		savepoint = null;
+		// :~)
+	}
+
+	/**
+	 * Some of databases(e.g., Oracle) don't support the releasing of savepoint,
+	 * the savepoint is discarded by the rolling back of outer transaction.
+	 */
+	private void releaseSavepoint(Connection outerConnection) throws SQLException
+	{
+		try {
+			outerConnection.releaseSavepoint(savepoint);
+		} catch (SQLFeatureNotSupportedException e) {
+			logger.debug("Releasing of savepoint is not supported: {}", e.getMessage());
+		}
+	}
+
+	private void releaseConnection()
+	{
+		if (heldConnection == null) {
+			return;
+		}
+
+		try {
+			heldConnection.setAutoCommit(oldAutoCommit);
+			heldConnection.close();
+		} catch (SQLException e) {
+			logger.warn("Error while releasing held connection: {}", e.getMessage());
+		} finally {
+			heldConnection = null;
+		}
+	}
+}
@@ -2,10 +2,12 @@ package guru.mikelue.jdut.annotation;
 
 import java.lang.reflect.Method;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.Validate;
 
+import guru.mikelue.jdut.ConductorConfig;
 import guru.mikelue.jdut.DuetConductor;
 import guru.mikelue.jdut.vendor.DatabaseVendor;
 import guru.mikelue.jdut.yaml.ReaderFunctions;
@@ -85,17 +87,37 @@ public final class AnnotationUtil {
 	 */
 	public static Optional<DuetConductor> buildConductorByConvention(YamlConductorFactory conductorFactory, Method sourceMethod)
 	{
+		return buildConductorByConvention(conductorFactory, sourceMethod, builder -> {});
+	}
+	/**
+	 * Builds {@link DuetConductor} by naming(using convention) of class and method,
+	 * the file name would be {@code <class_name>-<method_name>.yaml} which should be as same as package of method's class.<br>
+	 *
+	 * The method must be annotated with {@link JdutResource}.
+	 *
+	 * @param conductorFactory The factory of conductor
+	 * @param sourceMethod The method to be tested(recommended)
+	 * @param builderConsumer The additional configuration after the loader of resource is set
+	 *
+	 * @return The conductor for data
+	 */
+	public static Optional<DuetConductor> buildConductorByConvention(
+		YamlConductorFactory conductorFactory, Method sourceMethod,
+		Consumer<ConductorConfig.Builder> builderConsumer
+	) {
 		if (!hasJdutResourceAnnotation(sourceMethod)) {
 			return Optional.empty();
 		}
 
+		Consumer<ConductorConfig.Builder> resourceLoaderConfig = builder -> builder.resourceLoader(
+			ReaderFunctions.loadByClass(sourceMethod.getDeclaringClass())
+		);
+
 		return Optional.of(conductorFactory.conductResource(
 			JdutResourceNaming.naming(
 				"{1}-{4}", sourceMethod, ".yaml"
 			),
-			builder -> builder.resourceLoader(
-				ReaderFunctions.loadByClass(sourceMethod.getDeclaringClass())
-			)
+			resourceLoaderConfig.andThen(builderConsumer)
 		));
 	}
 	/**
@@ -111,17 +133,37 @@ public final class AnnotationUtil {
 	 */
 	public static Optional<DuetConductor> buildConductorByConvention(YamlConductorFactory conductorFactory, Class<?> sourceClass)
 	{
+		return buildConductorByConvention(conductorFactory, sourceClass, builder -> {});
+	}
+	/**
+	 * Builds {@link DuetConductor} by naming(using convention) of class and method,
+	 * the file name would be {@code <class_name>.yaml} which should be as same as package of class.<br>
+	 *
+	 * The class must be annotated with {@link JdutResource}.
+	 *
+	 * @param conductorFactory The factory of conductor
+	 * @param sourceClass The source of class
+	 * @param builderConsumer The additional configuration after the loader of resource is set
+	 *
+	 * @return The conductor for data
+	 */
+	public static Optional<DuetConductor> buildConductorByConvention(
+		YamlConductorFactory conductorFactory, Class<?> sourceClass,
+		Consumer<ConductorConfig.Builder> builderConsumer
+	) {
 		if (!hasJdutResourceAnnotation(sourceClass)) {
 			return Optional.empty();
 		}
 
+		Consumer<ConductorConfig.Builder> resourceLoaderConfig = builder -> builder.resourceLoader(
+			ReaderFunctions.loadByClass(sourceClass)
+		);
+
 		return Optional.of(conductorFactory.conductResource(
 			JdutResourceNaming.naming(
 				"{1}", sourceClass, ".yaml"
 			),
-			builder -> builder.resourceLoader(
-				ReaderFunctions.loadByClass(sourceClass)
-			)
+			resourceLoaderConfig.andThen(builderConsumer)
 		));
 	}
 }
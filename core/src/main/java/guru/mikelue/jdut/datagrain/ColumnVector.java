@@ -0,0 +1,303 @@
+package guru.mikelue.jdut.datagrain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The data of a column(by index of rows) used by columnar data grain.<br>
+ *
+ * <p>The type of vector is decided by the first non-null value:</p>
+ * <ul>
+ * 	<li>{@link Integer}, {@link Long} and {@link Double} are kept by primitive array</li>
+ * 	<li>{@link String} is kept by codes of dictionary</li>
+ * 	<li>Otherwise, the value is kept by array of objects</li>
+ * </ul>
+ *
+ * <p>If a value cannot be kept by the type of vector, the vector is converted to the one of objects.
+ * The rows which don't have the column and the rows having null value are kept by bitmap.</p>
+ */
+abstract class ColumnVector {
+	private final static int INITIAL_CAPACITY = 16;
+
+	private final BitSet presences = new BitSet();
+	private final BitSet nulls = new BitSet();
+
+	/**
+	 * Builds vector with the type of value.
+	 *
+	 * @param value The value, which is not null
+	 *
+	 * @return The vector which could keep the value
+	 */
+	static ColumnVector ofValue(Object value)
+	{
+		if (Integer.class.isInstance(value)) {
+			return new IntVector();
+		}
+		if (Long.class.isInstance(value)) {
+			return new LongVector();
+		}
+		if (Double.class.isInstance(value)) {
+			return new DoubleVector();
+		}
+		if (String.class.isInstance(value)) {
+			return new StringVector();
+		}
+
+		return new ObjectVector();
+	}
+
+	/**
+	 * Sets the value of a row.
+	 *
+	 * @param rowIndex The index of row
+	 * @param value The value, could be null
+	 *
+	 * @return This vector or the converted one(of objects) if this one cannot keep the value
+	 */
+	final ColumnVector set(int rowIndex, Object value)
+	{
+		presences.set(rowIndex);
+
+		if (value == null) {
+			nulls.set(rowIndex);
+			return this;
+		}
+
+		if (!accepts(value)) {
+			ColumnVector objectVector = new ObjectVector();
+			objectVector.presences.or(presences);
+			objectVector.nulls.or(nulls);
+
+			for (int i = presences.nextSetBit(0); i >= 0; i = presences.nextSetBit(i + 1)) {
+				if (i != rowIndex && !nulls.get(i)) {
+					objectVector.setValue(i, getValue(i));
+				}
+			}
+
+			objectVector.setValue(rowIndex, value);
+			return objectVector;
+		}
+
+		setValue(rowIndex, value);
+		return this;
+	}
+
+	/**
+	 * Checks whether or not the row has this column.
+	 *
+	 * @param rowIndex The index of row
+	 *
+	 * @return true if the row has this column(even if the value is null)
+	 */
+	final boolean isPresent(int rowIndex)
+	{
+		return presences.get(rowIndex);
+	}
+
+	/**
+	 * Gets the value of a row.
+	 *
+	 * @param rowIndex The index of row
+	 *
+	 * @return The value, null if the row has null value or doesn't have this column
+	 */
+	final Object get(int rowIndex)
+	{
+		if (!presences.get(rowIndex) || nulls.get(rowIndex)) {
+			return null;
+		}
+
+		return getValue(rowIndex);
+	}
+
+	/**
+	 * Releases the unused space after all of the rows are set.
+	 *
+	 * @param numberOfRows The number of rows
+	 */
+	abstract void trim(int numberOfRows);
+
+	abstract boolean accepts(Object value);
+	abstract void setValue(int rowIndex, Object value);
+	abstract Object getValue(int rowIndex);
+
+	static int newCapacity(int currentCapacity, int rowIndex)
+	{
+		return Math.max(Math.max(currentCapacity * 2, INITIAL_CAPACITY), rowIndex + 1);
+	}
+
+	static class IntVector extends ColumnVector {
+		private int[] values = new int[0];
+
+		@Override
+		boolean accepts(Object value)
+		{
+			return Integer.class.isInstance(value);
+		}
+		@Override
+		void setValue(int rowIndex, Object value)
+		{
+			if (rowIndex >= values.length) {
+				values = Arrays.copyOf(values, newCapacity(values.length, rowIndex));
+			}
+
+			values[rowIndex] = (Integer)value;
+		}
+		@Override
+		Object getValue(int rowIndex)
+		{
+			return values[rowIndex];
+		}
+		@Override
+		void trim(int numberOfRows)
+		{
+			values = Arrays.copyOf(values, Math.min(values.length, numberOfRows));
+		}
+	}
+
+	static class LongVector extends ColumnVector {
+		private long[] values = new long[0];
+
+		@Override
+		boolean accepts(Object value)
+		{
+			return Long.class.isInstance(value);
+		}
+		@Override
+		void setValue(int rowIndex, Object value)
+		{
+			if (rowIndex >= values.length) {
+				values = Arrays.copyOf(values, newCapacity(values.length, rowIndex));
+			}
+
+			values[rowIndex] = (Long)value;
+		}
+		@Override
+		Object getValue(int rowIndex)
+		{
+			return values[rowIndex];
+		}
+		@Override
+		void trim(int numberOfRows)
+		{
+			values = Arrays.copyOf(values, Math.min(values.length, numberOfRows));
+		}
+	}
+
+	static class DoubleVector extends ColumnVector {
+		private double[] values = new double[0];
+
+		@Override
+		boolean accepts(Object value)
+		{
+			return Double.class.isInstance(value);
+		}
+		@Override
+		void setValue(int rowIndex, Object value)
+		{
+			if (rowIndex >= values.length) {
+				values = Arrays.copyOf(values, newCapacity(values.length, rowIndex));
+			}
+
+			values[rowIndex] = (Double)value;
+		}
+		@Override
+		Object getValue(int rowIndex)
+		{
+			return values[rowIndex];
+		}
+		@Override
+		void trim(int numberOfRows)
+		{
+			values = Arrays.copyOf(values, Math.min(values.length, numberOfRows));
+		}
+	}
+
+	/**
+	 * Keeps the code of string in dictionary.
+	 */
+	static class StringVector extends ColumnVector {
+		private int[] codes = new int[0];
+		private List<String> dictionary = new ArrayList<>(CollectionUsage.HASH_SPACE_OF_COLUMNS);
+		private Map<String, Integer> codeOfStrings = new HashMap<>(CollectionUsage.HASH_SPACE_OF_COLUMNS);
+
+		@Override
+		boolean accepts(Object value)
+		{
+			return String.class.isInstance(value);
+		}
+		@Override
+		void setValue(int rowIndex, Object value)
+		{
+			if (rowIndex >= codes.length) {
+				codes = Arrays.copyOf(codes, newCapacity(codes.length, rowIndex));
+			}
+
+			if (codeOfStrings == null) {
+				codeOfStrings = new HashMap<>(dictionary.size() * 2);
+				for (int i = 0; i < dictionary.size(); i++) {
+					codeOfStrings.put(dictionary.get(i), i);
+				}
+			}
+
+			codes[rowIndex] = codeOfStrings.computeIfAbsent(
+				(String)value,
+				newString -> {
+					dictionary.add(newString);
+					return dictionary.size() - 1;
+				}
+			);
+		}
+		@Override
+		Object getValue(int rowIndex)
+		{
+			return dictionary.get(codes[rowIndex]);
+		}
+		@Override
+		void trim(int numberOfRows)
+		{
+			codes = Arrays.copyOf(codes, Math.min(codes.length, numberOfRows));
+			dictionary = new ArrayList<>(dictionary);
+			codeOfStrings = null;
+		}
+
+		int getSizeOfDictionary()
+		{
+			return dictionary.size();
+		}
+	}
+
+	static class ObjectVector extends ColumnVector {
+		private Object[] values = new Object[0];
+
+		@Override
+		boolean accepts(Object value)
+		{
+			return true;
+		}
+		@Override
+		void setValue(int rowIndex, Object value)
+		{
+			if (rowIndex >= values.length) {
+				values = Arrays.copyOf(values, newCapacity(values.length, rowIndex));
+			}
+
+			values[rowIndex] = value;
+		}
+		@Override
+		Object getValue(int rowIndex)
+		{
+			return values[rowIndex];
+		}
+		@Override
+		void trim(int numberOfRows)
+		{
+			values = Arrays.copyOf(values, Math.min(values.length, numberOfRows));
+		}
+	}
+}
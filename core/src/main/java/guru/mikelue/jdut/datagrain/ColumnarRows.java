@@ -0,0 +1,344 @@
+package guru.mikelue.jdut.datagrain;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.Validate;
+
+import guru.mikelue.jdut.decorate.DataGrainDecorator;
+
+/**
+ * The rows kept by {@link ColumnVector} of every column, the {@link DataRow} is built while it is got(without caching).<br>
+ *
+ * The decorators of this object are applied to all of the rows in one pass while any of the rows is got first time,
+ * the decorated values are put into new vectors(the field having supplier is kept as it is),
+ * so every row is decorated only once and the values given by decorators(e.g., suppliers of random values)
+ * are the same ones for every reader. The table of the first decorated row is used by the decorated rows.
+ */
+class ColumnarRows extends AbstractList<DataRow> implements RandomAccess {
+	private final SchemaTable tableSchema;
+	private final List<SchemaColumn> columns;
+	private final List<ColumnVector> vectors;
+	private final int numberOfRows;
+	private final List<DataGrainDecorator> decorators;
+	private final boolean reversed;
+	/**
+	 * The rows whose vectors have the decorated values, initialized at first time of getting row
+	 */
+	private volatile ColumnarRows appliedRows = null;
+
+	/**
+	 * The builder of columnar rows, the values are put into vectors directly.
+	 */
+	static class Builder implements RowsBuilder {
+		private final SchemaTable tableSchema;
+		private final DataField.Factory fieldFactory;
+		private final Map<String, Integer> indexOfColumns = new LinkedHashMap<>(CollectionUsage.HASH_SPACE_OF_COLUMNS);
+		private final List<SchemaColumn> columns = new ArrayList<>(CollectionUsage.HASH_SPACE_OF_COLUMNS);
+		private final List<ColumnVector> vectors = new ArrayList<>(CollectionUsage.HASH_SPACE_OF_COLUMNS);
+		private int[] implicitColumns = new int[0];
+		private int numberOfRows = 0;
+
+		Builder(SchemaTable newTableSchema)
+		{
+			tableSchema = newTableSchema;
+			fieldFactory = new DataField.Factory(tableSchema);
+		}
+
+		@Override
+		public RowsBuilder implicitColumns(String... nameOfColumns)
+		{
+			implicitColumns = new int[nameOfColumns.length];
+			for (int i = 0; i < nameOfColumns.length; i++) {
+				implicitColumns[i] = indexOfColumn(nameOfColumns[i]);
+			}
+
+			return this;
+		}
+
+		@Override
+		public RowsBuilder addValues(Object... valuesOfField)
+		{
+			Validate.isTrue(
+				valuesOfField.length <= implicitColumns.length,
+				"The number of values[%d] is more than the number of implicit columns[%d]",
+				valuesOfField.length, implicitColumns.length
+			);
+
+			for (int i = 0; i < valuesOfField.length; i++) {
+				setValue(implicitColumns[i], valuesOfField[i]);
+			}
+
+			numberOfRows++;
+			return this;
+		}
+
+		@Override
+		public RowsBuilder addFields(DataField<?>... dataFields)
+		{
+			for (DataField<?> dataField: dataFields) {
+				/**
+				 * The field having supplier is kept as it is
+				 */
+				setValue(
+					indexOfColumn(dataField.getColumnName()),
+					dataField.getDataSupplier().isPresent() ? dataField : dataField.getData()
+				);
+				// :~)
+			}
+
+			numberOfRows++;
+			return this;
+		}
+
+		@Override
+		public <T> DataField<T> newField(String columnName, T fieldValue)
+		{
+			return fieldFactory.composeData(
+				columns.get(indexOfColumn(columnName)), fieldValue
+			);
+		}
+
+		@Override
+		public <T> DataField<T> newField(String columnName, Supplier<T> fieldSupplier)
+		{
+			return fieldFactory.composeDataSupplier(
+				columns.get(indexOfColumn(columnName)), fieldSupplier
+			);
+		}
+
+		/**
+		 * Adds the fields of row, the definitions of columns(by the table of row) are kept by the first row having them.
+		 */
+		Builder addRow(DataRow row)
+		{
+			SchemaTable tableOfRow = row.getTable();
+
+			for (String columnName: row.getColumns()) {
+				DataField<?> dataField = row.getDataField(columnName);
+				int indexOfSchema = tableOfRow.getColumnIndex(columnName);
+
+				/**
+				 * The field having supplier is kept as it is
+				 */
+				setValue(
+					indexOfColumn(
+						indexOfSchema >= 0 ?
+							tableOfRow.getColumn(indexOfSchema) :
+							SchemaColumn.build(builder -> builder.name(columnName))
+					),
+					dataField.getDataSupplier().isPresent() ? dataField : dataField.getData()
+				);
+				// :~)
+			}
+
+			numberOfRows++;
+			return this;
+		}
+
+		ColumnarRows build()
+		{
+			vectors.stream()
+				.filter(vector -> vector != null)
+				.forEach(vector -> vector.trim(numberOfRows));
+
+			return new ColumnarRows(
+				tableSchema, new ArrayList<>(columns), new ArrayList<>(vectors),
+				numberOfRows, Collections.emptyList(), false
+			);
+		}
+
+		private int indexOfColumn(String columnName)
+		{
+			return indexOfColumn(SchemaColumn.build(builder -> builder.name(columnName)));
+		}
+		private int indexOfColumn(SchemaColumn column)
+		{
+			return indexOfColumns.computeIfAbsent(
+				column.getName(),
+				newColumnName -> {
+					columns.add(column);
+					vectors.add(null);
+					return columns.size() - 1;
+				}
+			);
+		}
+
+		private void setValue(int columnIndex, Object value)
+		{
+			/**
+			 * The supplier(even it is given as value) is kept by field
+			 */
+			if (Supplier.class.isInstance(value)) {
+				value = fieldFactory.composeData(columns.get(columnIndex), value);
+			}
+			// :~)
+
+			ColumnVector vector = vectors.get(columnIndex);
+			if (vector == null) {
+				if (value == null) {
+					vector = new ColumnVector.ObjectVector();
+				} else {
+					vector = ColumnVector.ofValue(value);
+				}
+			}
+
+			vectors.set(columnIndex, vector.set(numberOfRows, value));
+		}
+	}
+
+	private ColumnarRows(
+		SchemaTable newTableSchema, List<SchemaColumn> newColumns, List<ColumnVector> newVectors,
+		int newNumberOfRows, List<DataGrainDecorator> newDecorators, boolean newReversed
+	) {
+		tableSchema = newTableSchema;
+		columns = newColumns;
+		vectors = newVectors;
+		numberOfRows = newNumberOfRows;
+		decorators = newDecorators;
+		reversed = newReversed;
+	}
+
+	/**
+	 * Gets new rows with the decorator, which is applied(after current ones) while the row is built.
+	 *
+	 * @param decorator The decorator
+	 *
+	 * @return The new rows
+	 */
+	ColumnarRows decorate(DataGrainDecorator decorator)
+	{
+		List<DataGrainDecorator> newDecorators = new ArrayList<>(decorators.size() + 1);
+		newDecorators.addAll(decorators);
+		newDecorators.add(decorator);
+
+		return new ColumnarRows(
+			tableSchema, columns, vectors,
+			numberOfRows, Collections.unmodifiableList(newDecorators), reversed
+		);
+	}
+
+	/**
+	 * Gets the reversed rows, which shares the vectors(with decorated values) of this object.
+	 *
+	 * @return The reversed rows
+	 */
+	ColumnarRows reverse()
+	{
+		ColumnarRows sourceRows = getAppliedRows();
+
+		return new ColumnarRows(
+			sourceRows.tableSchema, sourceRows.columns, sourceRows.vectors,
+			sourceRows.numberOfRows, Collections.emptyList(), !sourceRows.reversed
+		);
+	}
+
+	/**
+	 * Gets the vector of column.
+	 *
+	 * @param columnName The name of column(as defined by builder)
+	 *
+	 * @return The vector or null if there is no such column
+	 */
+	ColumnVector getVector(String columnName)
+	{
+		for (int i = 0; i < columns.size(); i++) {
+			if (columns.get(i).getName().equals(columnName)) {
+				return vectors.get(i);
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	public DataRow get(int index)
+	{
+		Validate.validIndex(this, index, "The index is invalid: [%d]", index);
+
+		if (!decorators.isEmpty()) {
+			return getAppliedRows().get(index);
+		}
+
+		return buildRow(reversed ? numberOfRows - 1 - index : index);
+	}
+
+	@Override
+	public int size()
+	{
+		return numberOfRows;
+	}
+
+	/**
+	 * Applies the decorators to every row in one pass, the decorated values are kept by new vectors.
+	 */
+	private ColumnarRows getAppliedRows()
+	{
+		if (decorators.isEmpty()) {
+			return this;
+		}
+
+		ColumnarRows currentRows = appliedRows;
+		if (currentRows != null) {
+			return currentRows;
+		}
+
+		synchronized (this) {
+			if (appliedRows != null) {
+				return appliedRows;
+			}
+
+			Builder appliedBuilder = null;
+			for (int i = 0; i < numberOfRows; i++) {
+				DataRow row = buildRow(reversed ? numberOfRows - 1 - i : i);
+				for (DataGrainDecorator decorator: decorators) {
+					row = DataRow.build(decorator::decorate, row);
+				}
+
+				if (appliedBuilder == null) {
+					appliedBuilder = new Builder(row.getTable());
+				}
+				appliedBuilder.addRow(row);
+			}
+
+			appliedRows = appliedBuilder != null ?
+				appliedBuilder.build() :
+				new ColumnarRows(tableSchema, columns, vectors, 0, Collections.emptyList(), false);
+
+			return appliedRows;
+		}
+	}
+
+	private DataRow buildRow(int index)
+	{
+		Map<String, DataField<?>> fields = new HashMap<>(CollectionUsage.HASH_SPACE_OF_COLUMNS);
+		DataField.Factory fieldFactory = new DataField.Factory(tableSchema);
+
+		for (int i = 0; i < columns.size(); i++) {
+			ColumnVector vector = vectors.get(i);
+			if (vector == null || !vector.isPresent(index)) {
+				continue;
+			}
+
+			Object value = vector.get(index);
+			DataField<?> dataField = DataField.class.isInstance(value) ?
+				(DataField<?>)value :
+				fieldFactory.composeData(columns.get(i), value);
+
+			fields.put(columns.get(i).getName(), dataField);
+		}
+
+		return DataRow.build(
+			builder -> builder
+				.tableSchema(tableSchema)
+				.data(fields)
+		);
+	}
+}
@@ -12,7 +12,7 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 /**
  * Container with data of a field.<br>
  *
- * This class would call the supplier only once, and keep the value.
+ * This class would call the supplier only once(even if the data is got by multiple threads), and keep the value.
  *
  * @param <T> The type of data
  */
@@ -20,7 +20,7 @@ public class DataField<T> {
     private final SchemaTable tableSchema;
     private final SchemaColumn column;
 	private Supplier<? extends T> dataSupplier;
-	private Optional<T> data;
+	private volatile Optional<T> data;
 
 	/**
 	 * Utility factory to compose fields for a table.
@@ -207,17 +207,25 @@ public class DataField<T> {
     /**
      * Gets data or gets by {@link Supplier} of data.
 	 *
- 	 * This method would call the supplier only once, and keep the value.
+ 	 * This method would call the supplier only once(thread-safe), and keep the value.
      *
      * @return The data this field is holding
      */
     public T getData()
     {
-		if (data == null) {
-			data = Optional.ofNullable(dataSupplier.get());
+		Optional<T> currentData = data;
+
+		if (currentData == null) {
+			synchronized (this) {
+				currentData = data;
+				if (currentData == null) {
+					currentData = Optional.ofNullable(dataSupplier.get());
+					data = currentData;
+				}
+			}
 		}
 
-		return data.orElse(null);
+		return currentData.orElse(null);
     }
 
 	/**
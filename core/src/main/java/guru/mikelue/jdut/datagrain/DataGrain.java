@@ -52,11 +52,52 @@ import guru.mikelue.jdut.decorate.DataGrainDecorator;
  * dataGrain = dataGrain.decorate(myDecorator)
  * </code></pre>
  *
+ * The decoration is applied at the first time of accessing rows, the successive decorations
+ * (e.g., <code>dataGrain.decorate(d1).decorate(d2)</code>) are fused into a single pass of rows,
+ * which builds every row only once.
+ *
+ * <h3>Columnar data grain</h3>
+ * For large number of rows, {@link #buildColumnar} keeps the data by columns(primitive arrays for
+ * {@link Integer}/{@link Long}/{@link Double} and dictionary for {@link String}) instead of objects of {@link DataRow}.
+ * The {@link DataRow} is built while it is got from {@link #getRows}(without caching),
+ * the {@link #decorate decoration} is applied to all of the rows at the first time of getting a row and
+ * the decorated values are kept by new columns, so that every row is decorated only once.
+ *
+ * <h3>Streaming data grain</h3>
+ * For the rows which cannot be kept in memory, {@link #streaming} builds data grain by {@link Supplier} of {@link Stream}.
+ * The rows are consumed by {@link #streamOfRows}(e.g., by the operators of {@link guru.mikelue.jdut.operation.DataRowsOperator#toDataGrainOperator})
+ * incrementally and the decoration is applied to every row while it is streamed.
+ *
+ * <pre><code class="java">
+ * DataGrain dataGrain = DataGrain.streaming(
+ *     () -&gt; IntStream.range(0, 10_000_000)
+ *         .mapToObj(i -&gt; DataRow.build(builder -&gt; builder
+ *             .tableSchema(table)
+ *             .fieldOfValue("col_id", i)
+ *         ))
+ * );
+ * </code></pre>
+ *
+ * <h3>Parallel mode</h3>
+ * For large number of rows, {@link #parallel} gives a data grain which applies the pending {@link #decorate decoration}
+ * and {@link #materialize evaluates the suppliers of data} by fork/join over ranges of rows(the order of rows is kept).
+ * The decorators and the suppliers must be thread-safe in this mode.
+ *
  * @see DataGrainDecorator
  * @see <a target="_blank" href="https://github.com/mikelue/jdata-unit-test/wiki/API-Guideline">API Guideline</a>
  */
 public class DataGrain {
-	private List<DataRow> rows;
+	private volatile List<DataRow> rows;
+	/**
+	 * The rows and the decorator to be applied at the first time of accessing rows
+	 */
+	private List<DataRow> undecoratedRows;
+	private DataGrainDecorator pendingDecorator;
+	/**
+	 * The supplier of rows for streaming data grain
+	 */
+	private Supplier<? extends Stream<DataRow>> sourceOfStream;
+	private boolean parallel = false;
 
 	/**
 	 * Builds with setup of table schema and builder of rows.
@@ -78,6 +119,54 @@ public class DataGrain {
 		return new DataGrain(rowsBuilder.toDataRows());
 	}
 
+	/**
+	 * Builds columnar data grain with setup of table schema and builder of rows.<br>
+	 *
+	 * <p>The data of rows is kept by columns, which reduces the usage of heap for large number of rows.
+	 * The {@link DataRow} is built while it is got, after {@link #decorate decoration}, the decorated values are kept by columns
+	 * so that the decorators are applied only once for a row.</p>
+	 *
+	 * @param tableBuilderConsumer The builder for table schema
+	 * @param rowsBuilderConsumer The builder for data of rows
+	 *
+	 * @return DataGrain object
+	 *
+	 * @see #isColumnar
+	 */
+	public static DataGrain buildColumnar(
+		Consumer<SchemaTable.Builder> tableBuilderConsumer,
+		Consumer<RowsBuilder> rowsBuilderConsumer
+	) {
+		ColumnarRows.Builder rowsBuilder = new ColumnarRows.Builder(
+			SchemaTable.build(tableBuilderConsumer)
+		);
+
+		rowsBuilderConsumer.accept(rowsBuilder);
+		return new DataGrain(rowsBuilder.build());
+	}
+
+	/**
+	 * Builds streaming data grain, the supplier should give a new stream(from the first row) every time it is called.<br>
+	 *
+	 * <p>The stream is closed after it is consumed by {@link #streamOfRows}.
+	 * The methods which need all of the rows(e.g., {@link #getRows}, {@link #reverse}) would load all of the rows into memory.</p>
+	 *
+	 * @param rowsSupplier The supplier of stream of rows
+	 *
+	 * @return DataGrain object
+	 *
+	 * @see #isStreaming
+	 */
+	public static DataGrain streaming(Supplier<? extends Stream<DataRow>> rowsSupplier)
+	{
+		Validate.notNull(rowsSupplier, "Need viable supplier of rows");
+
+		DataGrain newDataGrain = new DataGrain(null, null);
+		newDataGrain.sourceOfStream = rowsSupplier;
+
+		return newDataGrain;
+	}
+
 	/**
 	 * Constructs this object by list of rows.
 	 *
@@ -85,8 +174,15 @@ public class DataGrain {
 	 */
     public DataGrain(List<DataRow> rows)
 	{
-		this.rows = Collections.unmodifiableList(rows);
 		Validate.notNull(rows, "Need viable rows");
+		this.rows = ColumnarRows.class.isInstance(rows) ?
+			rows : Collections.unmodifiableList(rows);
+	}
+
+	private DataGrain(List<DataRow> newUndecoratedRows, DataGrainDecorator newPendingDecorator)
+	{
+		undecoratedRows = newUndecoratedRows;
+		pendingDecorator = newPendingDecorator;
 	}
 
 	/**
@@ -100,12 +196,25 @@ public class DataGrain {
 	 */
 	public DataRow getRow(int index)
 	{
-		Validate.inclusiveBetween(0, rows.size() - 1, index, "The index is invalid: [%d]", index);
-		return rows.get(index);
+		if (isStreaming()) {
+			Validate.isTrue(index >= 0, "The index is invalid: [%d]", index);
+
+			try (Stream<DataRow> streamOfRows = streamOfRows()) {
+				return streamOfRows.skip(index).findFirst()
+					.orElseThrow(() -> new IllegalArgumentException(String.format("The index is invalid: [%d]", index)));
+			}
+		}
+
+		List<DataRow> currentRows = getRows();
+
+		Validate.inclusiveBetween(0, currentRows.size() - 1, index, "The index is invalid: [%d]", index);
+		return currentRows.get(index);
 	}
 
 	/**
-	 * Gets number of rows.
+	 * Gets number of rows.<br>
+	 *
+	 * For {@link #isStreaming streaming} data grain, the rows are counted by iterating all of them.
 	 *
 	 * @return The number of rows
 	 *
@@ -113,41 +222,222 @@ public class DataGrain {
 	 */
 	public int getNumberOfRows()
 	{
-		return rows.size();
+		if (isStreaming()) {
+			try (Stream<DataRow> streamOfRows = streamOfRows()) {
+				return (int)streamOfRows.count();
+			}
+		}
+
+		return getRows().size();
 	}
 
 	/**
-	 * Gets data of rows.
+	 * Gets data of rows.<br>
+	 *
+	 * For {@link #isStreaming streaming} data grain, all of the rows are loaded into a new list.
 	 *
 	 * @return The data of rows
 	 */
 	public List<DataRow> getRows()
 	{
-		return rows;
+		if (isStreaming()) {
+			try (Stream<DataRow> streamOfRows = streamOfRows()) {
+				return Collections.unmodifiableList(streamOfRows.collect(Collectors.toList()));
+			}
+		}
+
+		List<DataRow> currentRows = rows;
+		if (currentRows == null) {
+			currentRows = applyPendingDecorator();
+		}
+
+		return currentRows;
+	}
+
+	/**
+	 * Whether or not the data of rows is kept by columns.
+	 *
+	 * @return true if this data grain is built by {@link #buildColumnar}
+	 */
+	public boolean isColumnar()
+	{
+		return ColumnarRows.class.isInstance(rows);
+	}
+
+	/**
+	 * Whether or not the decoration and evaluation of data are processed in parallel.
+	 *
+	 * @return true if this data grain is built by {@link #parallel}
+	 */
+	public boolean isParallel()
+	{
+		return parallel;
+	}
+
+	/**
+	 * Gets a data grain(with the same rows and pending decoration) in parallel mode.<br>
+	 *
+	 * <p>The parallel mode is kept by the data grain {@link #decorate decorated} from the returned one.
+	 * This mode has no effect on {@link #isStreaming streaming} data grain.</p>
+	 *
+	 * @return The data grain in parallel mode
+	 *
+	 * @see #materialize
+	 */
+	public DataGrain parallel()
+	{
+		DataGrain newDataGrain;
+
+		synchronized (this) {
+			newDataGrain = rows != null ?
+				new DataGrain(rows) :
+				new DataGrain(undecoratedRows, pendingDecorator);
+			newDataGrain.sourceOfStream = sourceOfStream;
+		}
+
+		newDataGrain.parallel = true;
+		return newDataGrain;
+	}
+
+	/**
+	 * Applies the pending {@link #decorate decoration} of rows now, the suppliers of data are not evaluated.<br>
+	 *
+	 * <p>For {@link #isParallel parallel} data grain, the rows are decorated by fork/join.
+	 * This method has no effect on {@link #isStreaming streaming} data grain(which is decorated while the rows are streamed)
+	 * or on {@link #isColumnar columnar} data grain(which is decorated at the first time of getting a row).</p>
+	 *
+	 * @return This data grain
+	 *
+	 * @see #materialize
+	 */
+	public DataGrain applyDecoration()
+	{
+		if (!isStreaming() && rows == null) {
+			applyPendingDecorator();
+		}
+
+		return this;
+	}
+
+	/**
+	 * Applies the pending decoration and evaluates the suppliers of data for every row eagerly.<br>
+	 *
+	 * <p>For {@link #isParallel parallel} data grain, the rows are processed by fork/join.
+	 * This method has no effect on {@link #isStreaming streaming} data grain.</p>
+	 *
+	 * @return This data grain
+	 *
+	 * @see DataField#getData
+	 */
+	public DataGrain materialize()
+	{
+		if (isStreaming()) {
+			return this;
+		}
+
+		Consumer<DataRow> evaluating = row -> row.getColumns().forEach(row::getData);
+
+		List<DataRow> currentRows = getRows();
+		if (parallel) {
+			ParallelRows.forEach(currentRows, evaluating);
+		} else {
+			currentRows.forEach(evaluating);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Whether or not the rows are supplied by stream.
+	 *
+	 * @return true if this data grain is built by {@link #streaming}
+	 */
+	public boolean isStreaming()
+	{
+		return sourceOfStream != null;
+	}
+
+	/**
+	 * Gets the rows as stream, the caller should close the stream after it is consumed.<br>
+	 *
+	 * For {@link #isStreaming streaming} data grain, the rows are supplied(and decorated) while the stream is consumed.
+	 *
+	 * @return The stream of rows
+	 */
+	public Stream<DataRow> streamOfRows()
+	{
+		if (!isStreaming()) {
+			return getRows().stream();
+		}
+
+		Stream<DataRow> streamOfRows = sourceOfStream.get();
+		if (pendingDecorator == null) {
+			return streamOfRows;
+		}
+
+		final DataGrainDecorator decorator = pendingDecorator;
+		return streamOfRows.map(row -> DataRow.build(decorator::decorate, row));
 	}
 
 	/**
-	 * Decorators this data grain and generates a new one.
+	 * Decorators this data grain and generates a new one.<br>
+	 *
+	 * <p>The decorator is applied at the first time of accessing rows of the new data grain.
+	 * If this data grain hasn't been decorated yet, the decorator is chained after the pending one,
+	 * so that every row is built only once with all of the decorators.</p>
+	 *
+	 * For {@link #isColumnar columnar} data grain, the decorator is applied to all of the rows at the first time of getting a row.
+	 * For {@link #isStreaming streaming} data grain, the decorator is applied while the row is streamed.
+	 *
+	 * <p style="color:red">Since the decoration is deferred, the exception thrown by decorator surfaces at the first time of accessing rows
+	 * (e.g., {@link #getRows}, {@link #applyDecoration}), not by this method.</p>
 	 *
 	 * @param decorator The decorator to modify this data grain
 	 *
-	 * @return The new data grain
+	 * @return The new data grain(in {@link #isParallel parallel mode} if this one is)
 	 */
 	public DataGrain decorate(final DataGrainDecorator decorator)
 	{
-		final List<DataRow> decoratedRows = new ArrayList<>(rows.size());
-		rows.forEach(
-			row -> decoratedRows.add(DataRow.build(
-				builder -> decorator.decorate(builder),
-				row
-			))
-		);
+		DataGrain newDataGrain = decorateRows(decorator);
+		newDataGrain.parallel = parallel;
+
+		return newDataGrain;
+	}
+	private DataGrain decorateRows(final DataGrainDecorator decorator)
+	{
+		if (isStreaming()) {
+			DataGrain newDataGrain = new DataGrain(
+				null,
+				pendingDecorator == null ? decorator : pendingDecorator.chain(decorator)
+			);
+			newDataGrain.sourceOfStream = sourceOfStream;
+
+			return newDataGrain;
+		}
+
+		List<DataRow> currentRows = rows;
+
+		if (currentRows == null) {
+			synchronized (this) {
+				if (rows == null) {
+					return new DataGrain(undecoratedRows, pendingDecorator.chain(decorator));
+				}
+
+				currentRows = rows;
+			}
+		}
+
+		if (ColumnarRows.class.isInstance(currentRows)) {
+			return new DataGrain(((ColumnarRows)currentRows).decorate(decorator));
+		}
 
-		return new DataGrain(decoratedRows);
+		return new DataGrain(currentRows, decorator);
 	}
 
 	/**
-	 * Aggregates another data grain(appending data of current object).
+	 * Aggregates another data grain(appending data of current object).<br>
+	 *
+	 * If any of the data grains is {@link #isStreaming streaming}, the result is a streaming data grain.
 	 *
 	 * @param dataGrain The data grain to be aggregated
 	 *
@@ -155,6 +445,12 @@ public class DataGrain {
 	 */
 	public DataGrain aggregate(DataGrain dataGrain)
 	{
+		if (isStreaming() || dataGrain.isStreaming()) {
+			return streaming(
+				() -> Stream.concat(streamOfRows(), dataGrain.streamOfRows())
+			);
+		}
+
 		List<DataRow> result = new ArrayList<>(getRows());
 		result.addAll(dataGrain.getRows());
 
@@ -162,17 +458,55 @@ public class DataGrain {
 	}
 
 	/**
-	 * Reverses the data grain.
+	 * Reverses the data grain.<br>
+	 *
+	 * For {@link #isStreaming streaming} data grain, all of the rows are loaded into memory.
+	 * For {@link #isColumnar columnar} data grain, the reversed one shares the columns of decorated values.
 	 *
 	 * @return A new data grain which is reversed(same row of copied data grain)
 	 */
 	public DataGrain reverse()
 	{
-		List<DataRow> reversedRows = new ArrayList<>(rows);
+		if (isColumnar()) {
+			return new DataGrain(((ColumnarRows)rows).reverse());
+		}
+
+		List<DataRow> reversedRows = new ArrayList<>(getRows());
 		Collections.reverse(reversedRows);
 
 		return new DataGrain(reversedRows);
 	}
+
+	/**
+	 * Builds every row by the pending decorator in one pass.
+	 */
+	private synchronized List<DataRow> applyPendingDecorator()
+	{
+		if (rows != null) {
+			return rows;
+		}
+
+		final DataGrainDecorator decorator = pendingDecorator;
+
+		if (parallel) {
+			rows = ParallelRows.map(undecoratedRows, row -> DataRow.build(decorator::decorate, row));
+		} else {
+			final List<DataRow> decoratedRows = new ArrayList<>(undecoratedRows.size());
+			undecoratedRows.forEach(
+				row -> decoratedRows.add(DataRow.build(
+					builder -> decorator.decorate(builder),
+					row
+				))
+			);
+
+			rows = Collections.unmodifiableList(decoratedRows);
+		}
+
+		undecoratedRows = null;
+		pendingDecorator = null;
+
+		return rows;
+	}
 }
 
 /**
@@ -1,8 +1,9 @@
 package guru.mikelue.jdut.datagrain;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -18,12 +19,38 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 /**
  * Represents the data of a row.<br>
  *
+ * <h3>Storage of data</h3>
+ * <p>The data of fields is kept in an array indexed by the position of columns in {@link #getTable table schema},
+ * a {@link DataField} is composed only if the field is asked by {@link #getDataField}.
+ * The fields having {@link Supplier} of data are kept as they are, so the supplier is still called only once.</p>
+ *
+ * <p>The fields which cannot be found in the table schema(e.g., the schema hasn't been loaded) are kept by name,
+ * and the attributes are allocated at the first time of {@link #putAttribute putting}.</p>
+ *
  * @see DataRow.Builder for detail information to set-up a row of data
  */
 public class DataRow {
+	/**
+	 * The value of slot for null data
+	 */
+	private final static Object NULL_DATA = new Object();
+	private final static Object[] EMPTY_SLOTS = new Object[0];
+
 	private SchemaTable tableSchema;
-	private Map<String, DataField<?>> data;
-	private Map<String, Object> attributes = new HashMap<>(8);
+	/**
+	 * The data indexed by column of table schema, the element could be:
+	 *
+	 * 1) null - There is no such field
+	 * 2) DataField - The field having supplier of data
+	 * 3) NULL_DATA - The field with null data
+	 * 4) Otherwise, the data of field
+	 */
+	private Object[] slots = EMPTY_SLOTS;
+	/**
+	 * The fields which cannot be found in table schema, lazily allocated
+	 */
+	private Map<String, DataField<?>> namedFields = null;
+	private Map<String, Object> attributes = null;
 	private boolean validated = false;
 
 	/**
@@ -64,25 +91,24 @@ public class DataRow {
 		{
 			Validate.notNull(newTableSchema, "Need viable table schema");
 
+			Map<String, DataField<?>> currentFields = getFields();
+
 			fieldFactory = new DataField.Factory(newTableSchema);
+			tableSchema = newTableSchema;
+			resetFields();
 
 			/**
 			 * Change the table schema of column
 			 */
-			Map<String, DataField<?>> dataWithNewTableSchema = new HashMap<>(data.size());
-
-			data.entrySet().forEach(
-				fieldEntry -> dataWithNewTableSchema.put(
-					newTableSchema.treatIdentifier(
-						fieldEntry.getKey()
-					),
-					fieldFactory.clone(fieldEntry.getValue())
+			currentFields.forEach(
+				(columnName, dataField) -> putField(
+					newTableSchema.treatIdentifier(columnName),
+					fieldFactory.clone(dataField)
 				)
 			);
-
-			tableSchema = newTableSchema;
-			return data(dataWithNewTableSchema);
 			// :~)
+
+			return this;
 		}
 		/**
 		 * Sets data of row.
@@ -95,7 +121,8 @@ public class DataRow {
 		{
 			Validate.notNull(newData, "Need viable data");
 
-			data = newData;
+			resetFields();
+			newData.forEach(DataRow.this::putField);
 			return this;
 		}
 
@@ -236,7 +263,7 @@ public class DataRow {
 			columnName = StringUtils.trimToNull(columnName);
 			Validate.notNull(columnName, "Need viable name of column");
 
-			return Optional.ofNullable((DataField<T>)data.get(columnName));
+			return Optional.ofNullable((DataField<T>)getField(columnName));
 		}
 
 		/**
@@ -246,12 +273,12 @@ public class DataRow {
 		 */
 		public Stream<DataField<?>> getStreamOfFields()
 		{
-			return data.values().stream();
+			return getFields().values().stream();
 		}
 
 		private <T> Builder field(DataField<T> field)
 		{
-			data.put(
+			putField(
 				tableSchema.treatIdentifier(
 					field.getColumnName()
 				),
@@ -273,7 +300,6 @@ public class DataRow {
 	public static DataRow build(Consumer<Builder> builderConsumer)
 	{
 		DataRow newRow = new DataRow();
-		newRow.data = new HashMap<>(CollectionUsage.HASH_SPACE_OF_COLUMNS);
 		Builder newBuilder = newRow.new Builder();
 
 		builderConsumer.accept(newBuilder);
@@ -317,7 +343,18 @@ public class DataRow {
 	 */
 	public List<String> getColumns()
 	{
-		return new ArrayList<>(data.keySet());
+		List<String> columns = new ArrayList<>(slots.length + (namedFields == null ? 0 : namedFields.size()));
+
+		for (int i = 0; i < slots.length; i++) {
+			if (slots[i] != null) {
+				columns.add(tableSchema.getColumnName(i));
+			}
+		}
+		if (namedFields != null) {
+			columns.addAll(namedFields.keySet());
+		}
+
+		return columns;
 	}
 
 	/**
@@ -335,7 +372,7 @@ public class DataRow {
 	@SuppressWarnings("unchecked")
 	public <T> DataField<T> getDataField(String columnName)
 	{
-		DataField<T> dataField = (DataField<T>)data.get(
+		DataField<T> dataField = (DataField<T>)getField(
 			tableSchema.treatIdentifier(columnName)
 		);
 		if (dataField == null) {
@@ -357,8 +394,18 @@ public class DataRow {
 	 *
 	 * @see #getDataField
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> T getData(String columnName)
 	{
+		/**
+		 * Gets the data from slot without composing a field
+		 */
+		int columnIndex = tableSchema.getColumnIndex(tableSchema.treatIdentifier(columnName));
+		if (columnIndex >= 0 && slots[columnIndex] != null && !DataField.class.isInstance(slots[columnIndex])) {
+			return slots[columnIndex] == NULL_DATA ? null : (T)slots[columnIndex];
+		}
+		// :~)
+
 		return this.<T>getDataField(columnName).getData();
 	}
 
@@ -378,9 +425,11 @@ public class DataRow {
 		/**
 		 * Checks defined data has corresponding definition in database
 		 */
-		for (DataField<?> dataField: data.values()) {
-			if (!tableSchema.hasColumn(dataField.getColumnName())) {
-				throw new MissedColumnException(tableSchema, dataField.getColumn());
+		if (namedFields != null) {
+			for (DataField<?> dataField: namedFields.values()) {
+				if (!tableSchema.hasColumn(dataField.getColumnName())) {
+					throw new MissedColumnException(tableSchema, dataField.getColumn());
+				}
 			}
 		}
 		// :~)
@@ -414,7 +463,7 @@ public class DataRow {
 	@SuppressWarnings("unchecked")
 	public <T> T getAttribute(String name)
 	{
-		return (T)attributes.get(name);
+		return attributes == null ? null : (T)attributes.get(name);
 	}
 	/**
 	 * Checks whether or not a attribute is existing.
@@ -428,7 +477,7 @@ public class DataRow {
 	 */
 	public boolean hasAttribute(String name)
 	{
-		return attributes.containsKey(name);
+		return attributes != null && attributes.containsKey(name);
 	}
 	/**
 	 * Puts a attribute.
@@ -441,17 +490,25 @@ public class DataRow {
 	 */
 	public void putAttribute(String name, Object value)
 	{
+		if (attributes == null) {
+			attributes = new HashMap<>(4);
+		}
+
 		attributes.put(name, value);
 	}
 
+	/**
+	 * The storage of fields is shared since the built row is not modified anymore.
+	 */
 	@Override
 	protected DataRow clone()
 	{
 		DataRow newRow = new DataRow();
 		newRow.tableSchema = this.tableSchema;
-		newRow.data = Collections.unmodifiableMap(this.data);
+		newRow.slots = this.slots;
+		newRow.namedFields = this.namedFields;
 		newRow.validated = this.validated;
-		newRow.attributes = new HashMap<>(this.attributes);
+		newRow.attributes = this.attributes == null ? null : new HashMap<>(this.attributes);
 
 		return newRow;
 	}
@@ -460,13 +517,109 @@ public class DataRow {
 	{
 		DataRow newRow = new DataRow();
 		newRow.tableSchema = this.tableSchema;
-		newRow.data = new HashMap<>(this.data);
+		newRow.slots = this.slots.clone();
+		newRow.namedFields = this.namedFields == null ? null : new HashMap<>(this.namedFields);
 		newRow.validated = this.validated;
-		newRow.attributes = new HashMap<>(this.attributes);
+		newRow.attributes = this.attributes == null ? null : new HashMap<>(this.attributes);
 
 		return newRow;
 	}
 
+	/**
+	 * Allocates the slots by current table schema and removes all of the fields.
+	 */
+	private void resetFields()
+	{
+		int numberOfColumns = tableSchema == null ? 0 : tableSchema.getNumberOfColumns();
+		slots = numberOfColumns == 0 ? EMPTY_SLOTS : new Object[numberOfColumns];
+		namedFields = null;
+	}
+
+	/**
+	 * Puts the field by processed name of column.
+	 */
+	private void putField(String columnName, DataField<?> dataField)
+	{
+		int columnIndex = tableSchema == null ? -1 : tableSchema.getColumnIndex(columnName);
+
+		if (columnIndex < 0) {
+			if (namedFields == null) {
+				namedFields = new HashMap<>(CollectionUsage.HASH_SPACE_OF_COLUMNS);
+			}
+
+			namedFields.put(columnName, dataField);
+			return;
+		}
+
+		/**
+		 * Keeps the data only if there is no supplier
+		 */
+		if (dataField.getDataSupplier().isPresent()) {
+			slots[columnIndex] = dataField;
+			return;
+		}
+
+		Object data = dataField.getData();
+		if (data == null) {
+			slots[columnIndex] = NULL_DATA;
+		} else if (DataField.class.isInstance(data)) {
+			slots[columnIndex] = dataField;
+		} else {
+			slots[columnIndex] = data;
+		}
+		// :~)
+	}
+
+	/**
+	 * Gets the field by processed name of column.
+	 */
+	private DataField<?> getField(String columnName)
+	{
+		int columnIndex = tableSchema == null ? -1 : tableSchema.getColumnIndex(columnName);
+
+		if (columnIndex < 0) {
+			return namedFields == null ? null : namedFields.get(columnName);
+		}
+
+		return composeField(columnIndex);
+	}
+
+	private DataField<?> composeField(int columnIndex)
+	{
+		Object slot = slots[columnIndex];
+
+		if (slot == null) {
+			return null;
+		}
+		if (DataField.class.isInstance(slot)) {
+			return (DataField<?>)slot;
+		}
+
+		return new DataField.Factory(tableSchema).composeData(
+			tableSchema.getColumn(columnIndex),
+			slot == NULL_DATA ? null : slot
+		);
+	}
+
+	/**
+	 * Gets all of the fields, the key of map is the processed name of column.
+	 */
+	private Map<String, DataField<?>> getFields()
+	{
+		Map<String, DataField<?>> fields = new LinkedHashMap<>(CollectionUsage.HASH_SPACE_OF_COLUMNS);
+
+		for (int i = 0; i < slots.length; i++) {
+			if (slots[i] != null) {
+				fields.put(tableSchema.getColumnName(i), composeField(i));
+			}
+		}
+		if (namedFields != null) {
+			fields.putAll(namedFields);
+		}
+
+		return fields;
+	}
+
 	/**
 	 * Hashes the table schema and data.
 	 */
@@ -475,7 +628,8 @@ public class DataRow {
 	{
 		return new HashCodeBuilder(82782651, 925373735)
 			.append(tableSchema)
-			.append(data)
+			.append(Arrays.hashCode(slots))
+			.append(namedFields)
 		.toHashCode();
 	}
 
@@ -494,7 +648,8 @@ public class DataRow {
 		DataRow rhs = (DataRow)obj;
 		return new EqualsBuilder()
 			.append(this.tableSchema, rhs.tableSchema)
-			.append(this.data, rhs.data)
+			.append(this.slots, rhs.slots)
+			.append(this.namedFields, rhs.namedFields)
 			.isEquals();
 	}
 }
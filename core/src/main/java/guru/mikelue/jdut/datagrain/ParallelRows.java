@@ -0,0 +1,92 @@
+package guru.mikelue.jdut.datagrain;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Processes rows by fork/join over ranges of rows, the order of rows is kept.<br>
+ *
+ * The tasks are executed by {@link ForkJoinPool#commonPool}.
+ */
+final class ParallelRows {
+	/**
+	 * The maximum number of rows processed by a task without forking.
+	 */
+	final static int SIZE_OF_RANGE = 256;
+
+	private ParallelRows() {}
+
+	/**
+	 * Maps every row to a new one.
+	 *
+	 * @param sourceRows The rows to be mapped
+	 * @param mapper The mapper of row, which must be thread-safe
+	 *
+	 * @return The mapped rows(unmodifiable), in the same order of source rows
+	 */
+	static List<DataRow> map(List<DataRow> sourceRows, Function<DataRow, DataRow> mapper)
+	{
+		final DataRow[] mappedRows = new DataRow[sourceRows.size()];
+		forEachIndex(mappedRows.length, index -> mappedRows[index] = mapper.apply(sourceRows.get(index)));
+
+		return Collections.unmodifiableList(Arrays.asList(mappedRows));
+	}
+
+	/**
+	 * Performs the action for every row.
+	 *
+	 * @param rows The rows to be processed
+	 * @param action The action on row, which must be thread-safe
+	 */
+	static void forEach(List<DataRow> rows, Consumer<DataRow> action)
+	{
+		forEachIndex(rows.size(), index -> action.accept(rows.get(index)));
+	}
+
+	private static void forEachIndex(int numberOfRows, IntConsumer action)
+	{
+		if (numberOfRows == 0) {
+			return;
+		}
+
+		ForkJoinPool.commonPool().invoke(new RangeTask(action, 0, numberOfRows));
+	}
+
+	private static class RangeTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final IntConsumer action;
+		private final int from;
+		private final int to;
+
+		RangeTask(IntConsumer newAction, int newFrom, int newTo)
+		{
+			action = newAction;
+			from = newFrom;
+			to = newTo;
+		}
+
+		@Override
+		protected void compute()
+		{
+			if (to - from <= SIZE_OF_RANGE) {
+				for (int i = from; i < to; i++) {
+					action.accept(i);
+				}
+				return;
+			}
+
+			int middle = (from + to) >>> 1;
+			invokeAll(
+				new RangeTask(action, from, middle),
+				new RangeTask(action, middle, to)
+			);
+		}
+	}
+}
@@ -45,6 +45,7 @@ public class SchemaTable {
     private Map<String, SchemaColumn> columns;
     private Map<String, Integer> nameToIndex;
     private Map<Integer, String> indexToName;
+	private List<SchemaTable> referencedTables;
 
     /**
      * This object is used with {@link Consumer} by {@link SchemaTable#build}.
@@ -160,6 +161,24 @@ public class SchemaTable {
 			return this;
 		}
 
+		/**
+		 * Adds a table referenced by foreign keys of this table.
+		 *
+		 * @param referencedTable The referenced table(only the name of table is significant)
+		 *
+		 * @return cascading self
+		 */
+		public Builder referencedTable(SchemaTable referencedTable)
+		{
+			Validate.notNull(referencedTable, "Need viable referenced table");
+
+			if (!referencedTables.contains(referencedTable)) {
+				referencedTables.add(referencedTable);
+			}
+
+			return this;
+		}
+
 		private void initQuotedName()
 		{
 			if (metaDataWorker == null) {
@@ -192,6 +211,7 @@ public class SchemaTable {
 		tableSchema.columns = new HashMap<>(CollectionUsage.HASH_SPACE_OF_COLUMNS);
 		tableSchema.indexToName = new HashMap<>(CollectionUsage.HASH_SPACE_OF_COLUMNS);
 		tableSchema.nameToIndex = new HashMap<>(CollectionUsage.HASH_SPACE_OF_COLUMNS);
+		tableSchema.referencedTables = new ArrayList<>(4);
 
         builderConsumer.accept(tableBuilder);
 		tableBuilder.initQuotedName();
@@ -262,6 +282,49 @@ public class SchemaTable {
 		return keys;
 	}
 
+	/**
+	 * Gets the tables referenced by foreign keys of this table.<br>
+	 *
+	 * The referenced tables are loaded by {@link java.sql.DatabaseMetaData#getImportedKeys},
+	 * which only have names(catalog, schema, and table) of tables.
+	 *
+	 * @return The referenced tables, empty if the table has no foreign key or the meta-data is not loaded
+	 *
+	 * @see #isSameTable
+	 */
+	public List<SchemaTable> getReferencedTables()
+	{
+		return referencedTables;
+	}
+
+	/**
+	 * Checks whether or not the names of two tables are the same one.<br>
+	 *
+	 * The schema(or catalog) is compared only if both of the tables have it.
+	 *
+	 * @param otherTable The other table
+	 *
+	 * @return true if the two tables have the same name
+	 */
+	public boolean isSameTable(SchemaTable otherTable)
+	{
+		if (!name.equals(otherTable.name)) {
+			return false;
+		}
+		if (schema.isPresent() && otherTable.schema.isPresent() &&
+			!schema.get().equals(otherTable.schema.get())
+		) {
+			return false;
+		}
+		if (catalog.isPresent() && otherTable.catalog.isPresent() &&
+			!catalog.get().equals(otherTable.catalog.get())
+		) {
+			return false;
+		}
+
+		return true;
+	}
+
 	/**
 	 * Gets number of columns.
 	 *
@@ -338,6 +401,31 @@ public class SchemaTable {
         return getColumn(columnName);
     }
 
+	/**
+	 * Gets the index of column by processed name(by {@link #treatIdentifier}).
+	 *
+	 * @param treatedColumnName The processed name of column
+	 *
+	 * @return The index of column, -1 if there is no such column
+	 */
+	int getColumnIndex(String treatedColumnName)
+	{
+		Integer columnIndex = nameToIndex.get(treatedColumnName);
+		return columnIndex == null ? -1 : columnIndex;
+	}
+
+	/**
+	 * Gets the processed name of column by index.
+	 *
+	 * @param columnIndex The index of column
+	 *
+	 * @return The name of column
+	 */
+	String getColumnName(int columnIndex)
+	{
+		return indexToName.get(columnIndex);
+	}
+
 	/**
 	 * Converts the case of <em>identifier</em> by meta-data of database.
 	 *
@@ -406,6 +494,7 @@ public class SchemaTable {
         clonedObject.columns = Collections.unmodifiableMap(this.columns);
         clonedObject.nameToIndex = Collections.unmodifiableMap(this.nameToIndex);
         clonedObject.indexToName = Collections.unmodifiableMap(this.indexToName);
+        clonedObject.referencedTables = Collections.unmodifiableList(this.referencedTables);
 
         return clonedObject;
     }
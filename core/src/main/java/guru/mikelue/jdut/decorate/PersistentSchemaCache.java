@@ -0,0 +1,301 @@
+package guru.mikelue.jdut.decorate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import guru.mikelue.jdut.datagrain.SchemaColumn;
+import guru.mikelue.jdut.datagrain.SchemaTable;
+import guru.mikelue.jdut.jdbc.util.MetaDataWorker;
+
+/**
+ * The file-backed cache of schema loaded by {@link TableSchemaLoadingDecorator}.<br>
+ *
+ * <p>The schema of tables is stored as a YAML file in the directory of cache, the file is identified by:</p>
+ * <ol>
+ * 	<li>The URL of JDBC({@link java.sql.DatabaseMetaData#getURL})</li>
+ * 	<li>The {@link MetaDataWorker#getIdentifierRules rules of identifiers}</li>
+ * 	<li>The version of schema, which should be changed whenever the DDL is changed.
+ * 	For example, the checksum({@link #checksumOf}) of change logs of Liquibase.</li>
+ * </ol>
+ *
+ * <p>Another JVM(e.g., a fork of Maven Surefire) with the same identity loads schema from the file
+ * instead of querying meta-data of database.
+ * This cache is an optimization, any error of I/O is logged and the schema would be loaded from database.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * TableSchemaLoadingDecorator decorator = TableSchemaLoadingDecorator.build(
+ *     dataSource, builder -> builder
+ *         .persistentCache(new PersistentSchemaCache(
+ *             Paths.get("target/jdut-schema"),
+ *             PersistentSchemaCache.checksumOf(Paths.get("src/test/resources/changelog.xml"))
+ *         ))
+ * );
+ * }</pre>
+ */
+public class PersistentSchemaCache {
+	private final static Logger logger = LoggerFactory.getLogger(PersistentSchemaCache.class);
+
+	private final Path directory;
+	private final String schemaVersion;
+
+	/**
+	 * Computes the checksum(SHA-256) of content of files, which could be used as version of schema.
+	 *
+	 * @param files The files defining schema(e.g., change logs of Liquibase)
+	 *
+	 * @return The checksum as hex string
+	 *
+	 * @throws IOException If any file cannot be read
+	 */
+	public static String checksumOf(Path... files) throws IOException
+	{
+		MessageDigest digest = newDigest();
+
+		for (Path file: files) {
+			digest.update(Files.readAllBytes(file));
+		}
+
+		return toHex(digest.digest());
+	}
+
+	/**
+	 * Constructs with directory of cache and version of schema.
+	 *
+	 * @param newDirectory The directory of cache files, would be created if not existing
+	 * @param newSchemaVersion The version of schema
+	 */
+	public PersistentSchemaCache(Path newDirectory, String newSchemaVersion)
+	{
+		Validate.notNull(newDirectory, "Need viable directory of cache");
+		Validate.notBlank(newSchemaVersion, "Need viable version of schema");
+
+		directory = newDirectory;
+		schemaVersion = newSchemaVersion;
+	}
+
+	/**
+	 * Gets the directory of cache files.
+	 *
+	 * @return The directory
+	 */
+	public Path getDirectory()
+	{
+		return directory;
+	}
+
+	/**
+	 * Gets the version of schema.
+	 *
+	 * @return The version of schema
+	 */
+	public String getSchemaVersion()
+	{
+		return schemaVersion;
+	}
+
+	/**
+	 * Gets the file of cache for the identity of database.
+	 *
+	 * @param jdbcUrl The URL of JDBC
+	 * @param metaDataWorker The worker of meta-data
+	 *
+	 * @return The path of file(may not be existing)
+	 */
+	public Path getCacheFile(String jdbcUrl, MetaDataWorker metaDataWorker)
+	{
+		MessageDigest digest = newDigest();
+		digest.update(
+			String.join("\n", String.valueOf(jdbcUrl), metaDataWorker.getIdentifierRules(), schemaVersion)
+				.getBytes(StandardCharsets.UTF_8)
+		);
+
+		return directory.resolve("schema-" + toHex(digest.digest()) + ".yaml");
+	}
+
+	/**
+	 * Loads cached tables, the key of map is {@link SchemaTable#getFullTableName} of source table.
+	 *
+	 * @param jdbcUrl The URL of JDBC
+	 * @param metaDataWorker The worker of meta-data, which is set to loaded tables
+	 *
+	 * @return The loaded tables, empty map if there is no file or the file cannot be read
+	 */
+	Map<String, SchemaTable> load(String jdbcUrl, MetaDataWorker metaDataWorker)
+	{
+		Path cacheFile = getCacheFile(jdbcUrl, metaDataWorker);
+		if (!Files.isRegularFile(cacheFile)) {
+			logger.debug("No cache file of schema: \"{}\"", cacheFile);
+			return Collections.emptyMap();
+		}
+
+		try (Reader reader = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8)) {
+			@SuppressWarnings("unchecked")
+			Map<String, Map<String, Object>> dataOfTables = (Map<String, Map<String, Object>>)new Yaml(new SafeConstructor()).load(reader);
+
+			if (dataOfTables == null) {
+				return Collections.emptyMap();
+			}
+
+			Map<String, SchemaTable> tables = new HashMap<>(dataOfTables.size() * 2);
+			dataOfTables.forEach(
+				(key, dataOfTable) -> tables.put(key, toTable(metaDataWorker, dataOfTable))
+			);
+
+			logger.debug("Loaded [{}] tables from cache file of schema: \"{}\"", tables.size(), cacheFile);
+			return tables;
+		} catch (IOException | RuntimeException e) {
+			logger.warn("Cannot load cache file of schema: \"{}\". Error: {}", cacheFile, e.getMessage());
+			return Collections.emptyMap();
+		}
+	}
+
+	/**
+	 * Saves tables to file, the file is replaced by moving a temporary file.
+	 *
+	 * @param jdbcUrl The URL of JDBC
+	 * @param metaDataWorker The worker of meta-data
+	 * @param tables The tables to be saved, the key of map is {@link SchemaTable#getFullTableName} of source table
+	 */
+	synchronized void save(String jdbcUrl, MetaDataWorker metaDataWorker, Map<String, SchemaTable> tables)
+	{
+		Path cacheFile = getCacheFile(jdbcUrl, metaDataWorker);
+
+		Map<String, Map<String, Object>> dataOfTables = new LinkedHashMap<>(tables.size() * 2);
+		tables.forEach((key, table) -> dataOfTables.put(key, toData(table)));
+
+		DumperOptions options = new DumperOptions();
+		options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+
+		try {
+			Files.createDirectories(directory);
+
+			Path tempFile = Files.createTempFile(directory, "schema-", ".tmp");
+			try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+				new Yaml(options).dump(dataOfTables, writer);
+			}
+
+			try {
+				Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+
+			logger.debug("Saved [{}] tables to cache file of schema: \"{}\"", tables.size(), cacheFile);
+		} catch (IOException e) {
+			logger.warn("Cannot save cache file of schema: \"{}\". Error: {}", cacheFile, e.getMessage());
+		}
+	}
+
+	private static Map<String, Object> toData(SchemaTable table)
+	{
+		Map<String, Object> data = new LinkedHashMap<>(8);
+		data.put("catalog", table.getCatalog().orElse(null));
+		data.put("schema", table.getSchema().orElse(null));
+		data.put("name", table.getName());
+		data.put("keys", new ArrayList<>(table.getKeys()));
+
+		List<Map<String, Object>> columns = new ArrayList<>(table.getNumberOfColumns());
+		for (SchemaColumn column: table.getColumns()) {
+			Map<String, Object> dataOfColumn = new LinkedHashMap<>(8);
+			dataOfColumn.put("name", column.getName());
+			dataOfColumn.put("jdbcType", column.getJdbcType().map(JDBCType::getName).orElse(null));
+			dataOfColumn.put("nullable", column.getNullable().orElse(null));
+			dataOfColumn.put("defaultValue", column.getDefaultValue().orElse(null));
+			dataOfColumn.put("autoIncremental", column.getAutoIncremental().orElse(null));
+			columns.add(dataOfColumn);
+		}
+		data.put("columns", columns);
+
+		List<Map<String, Object>> referencedTables = new ArrayList<>(table.getReferencedTables().size());
+		for (SchemaTable referencedTable: table.getReferencedTables()) {
+			Map<String, Object> dataOfReferenced = new LinkedHashMap<>(4);
+			dataOfReferenced.put("catalog", referencedTable.getCatalog().orElse(null));
+			dataOfReferenced.put("schema", referencedTable.getSchema().orElse(null));
+			dataOfReferenced.put("name", referencedTable.getName());
+			referencedTables.add(dataOfReferenced);
+		}
+		data.put("referencedTables", referencedTables);
+
+		return data;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static SchemaTable toTable(MetaDataWorker metaDataWorker, Map<String, Object> data)
+	{
+		return SchemaTable.build(tableBuilder -> {
+			tableBuilder.metaDataWorker(metaDataWorker)
+				.catalog((String)data.get("catalog"))
+				.schema((String)data.get("schema"))
+				.name((String)data.get("name"))
+				.keys(((List<String>)data.get("keys")).toArray(new String[0]));
+
+			for (Map<String, Object> dataOfColumn: (List<Map<String, Object>>)data.get("columns")) {
+				tableBuilder.column(SchemaColumn.build(columnBuilder -> {
+					columnBuilder
+						.name((String)dataOfColumn.get("name"))
+						.defaultValue((String)dataOfColumn.get("defaultValue"))
+						.autoIncremental((Boolean)dataOfColumn.get("autoIncremental"));
+
+					if (dataOfColumn.get("jdbcType") != null) {
+						columnBuilder.jdbcType(JDBCType.valueOf((String)dataOfColumn.get("jdbcType")));
+					}
+					if (dataOfColumn.get("nullable") != null) {
+						columnBuilder.nullable((Boolean)dataOfColumn.get("nullable"));
+					}
+				}));
+			}
+
+			for (Map<String, Object> dataOfReferenced: (List<Map<String, Object>>)data.get("referencedTables")) {
+				tableBuilder.referencedTable(SchemaTable.build(
+					refBuilder -> refBuilder
+						.metaDataWorker(metaDataWorker)
+						.catalog((String)dataOfReferenced.get("catalog"))
+						.schema((String)dataOfReferenced.get("schema"))
+						.name((String)dataOfReferenced.get("name"))
+				));
+			}
+		});
+	}
+
+	private static MessageDigest newDigest()
+	{
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static String toHex(byte[] bytes)
+	{
+		StringBuilder hex = new StringBuilder(bytes.length * 2);
+		for (byte b: bytes) {
+			hex.append(String.format("%02x", b));
+		}
+
+		return hex.toString();
+	}
+}
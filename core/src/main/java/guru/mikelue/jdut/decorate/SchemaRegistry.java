@@ -0,0 +1,316 @@
+package guru.mikelue.jdut.decorate;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import javax.sql.DataSource;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.jdut.datagrain.SchemaTable;
+
+/**
+ * The registry of loaded schema of tables, which is bounded and evicts the least-recently used table.<br>
+ *
+ * <p>Every table is loaded <b>exactly once</b> even if multiple threads ask for the same table concurrently,
+ * the other threads wait for the result of the loading thread. If the loading is failed, the table is removed from
+ * this registry and the next asking would load the table again.</p>
+ *
+ * <h3>Shared registry</h3>
+ * <p>{@link #shared(DataSource)} gives a JVM-wide registry by the identity of {@link DataSource},
+ * so that the multiple {@link TableSchemaLoadingDecorator decorators}(e.g., the ones built by integration of testing frameworks)
+ * could share the loaded schema. The registry is released after the data source is garbage collected.</p>
+ *
+ * <p>For tests which run DDL, use {@link #invalidate(SchemaTable)} or {@link #invalidateAll()} to drop the loaded schema.</p>
+ *
+ * @see TableSchemaLoadingDecorator.Builder#schemaRegistry
+ */
+public class SchemaRegistry {
+	/**
+	 * The default value of maximum number of tables.
+	 */
+	public final static int DEFAULT_MAX_SIZE = 1024;
+
+	private final static Logger logger = LoggerFactory.getLogger(SchemaRegistry.class);
+
+	private final static Map<DataSourceKey, SchemaRegistry> sharedRegistries = new HashMap<>(4);
+	private final static ReferenceQueue<DataSource> releasedDataSources = new ReferenceQueue<>();
+
+	private final int maxSize;
+	private final Map<String, RegisteredTable> tables;
+
+	/**
+	 * Gets the JVM-wide registry for the data source(by identity).
+	 *
+	 * @param dataSource The data source
+	 *
+	 * @return The shared registry with {@link #DEFAULT_MAX_SIZE}
+	 */
+	public static SchemaRegistry shared(DataSource dataSource)
+	{
+		Validate.notNull(dataSource, "Need viable data source");
+
+		synchronized (sharedRegistries) {
+			/**
+			 * Removes the registries of collected data sources
+			 */
+			for (Object releasedKey = releasedDataSources.poll(); releasedKey != null; releasedKey = releasedDataSources.poll()) {
+				sharedRegistries.remove(releasedKey);
+			}
+			// :~)
+
+			return sharedRegistries.computeIfAbsent(
+				new DataSourceKey(dataSource, releasedDataSources),
+				key -> new SchemaRegistry()
+			);
+		}
+	}
+
+	/**
+	 * Constructs with {@link #DEFAULT_MAX_SIZE}.
+	 */
+	public SchemaRegistry()
+	{
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Constructs with maximum number of tables.
+	 *
+	 * @param newMaxSize The maximum number of tables, must be positive
+	 */
+	public SchemaRegistry(int newMaxSize)
+	{
+		Validate.isTrue(newMaxSize > 0, "The maximum number of tables must be positive. Got: %d", newMaxSize);
+
+		maxSize = newMaxSize;
+		tables = new LinkedHashMap<String, RegisteredTable>(Math.min(newMaxSize, 64), 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, RegisteredTable> eldest)
+			{
+				boolean evicted = size() > maxSize;
+				if (evicted) {
+					logger.debug("Evict schema of table: [{}]", eldest.getKey());
+				}
+
+				return evicted;
+			}
+		};
+	}
+
+	/**
+	 * Gets the maximum number of tables.
+	 *
+	 * @return The maximum number of tables
+	 */
+	public int getMaxSize()
+	{
+		return maxSize;
+	}
+
+	/**
+	 * Gets the number of registered tables.
+	 *
+	 * @return The number of tables
+	 */
+	public int size()
+	{
+		synchronized (tables) {
+			return tables.size();
+		}
+	}
+
+	/**
+	 * Gets schema of table or loads it by the loader(only once for concurrent threads).
+	 *
+	 * @param table The table(only name and keys are significant)
+	 * @param loader The loader of schema
+	 *
+	 * @return The loaded schema
+	 */
+	public SchemaTable getSchema(SchemaTable table, Function<SchemaTable, SchemaTable> loader)
+	{
+		String tableIdentifier = table.getFullTableName();
+
+		RegisteredTable registeredTable;
+		boolean loadingByThisThread = false;
+
+		synchronized (tables) {
+			registeredTable = tables.get(tableIdentifier);
+
+			if (registeredTable == null) {
+				registeredTable = new RegisteredTable(table, new FutureTask<>(() -> loader.apply(table)));
+				tables.put(tableIdentifier, registeredTable);
+				loadingByThisThread = true;
+			}
+		}
+
+		if (loadingByThisThread) {
+			logger.debug("First time of loading schema: [{}]", tableIdentifier);
+			registeredTable.loading.run();
+		}
+
+		try {
+			return registeredTable.loading.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			remove(tableIdentifier, registeredTable);
+
+			if (RuntimeException.class.isInstance(e.getCause())) {
+				throw (RuntimeException)e.getCause();
+			}
+			if (Error.class.isInstance(e.getCause())) {
+				throw (Error)e.getCause();
+			}
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	/**
+	 * Gets the loaded schema of table without loading.
+	 *
+	 * @param table The table(only name and keys are significant)
+	 *
+	 * @return The loaded schema or empty if the table hasn't been loaded completely
+	 */
+	public Optional<SchemaTable> getLoadedSchema(SchemaTable table)
+	{
+		RegisteredTable registeredTable;
+		synchronized (tables) {
+			registeredTable = tables.get(table.getFullTableName());
+		}
+
+		if (registeredTable == null || !registeredTable.loading.isDone()) {
+			return Optional.empty();
+		}
+
+		try {
+			return Optional.of(registeredTable.loading.get());
+		} catch (InterruptedException | ExecutionException e) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Puts the loaded schema of table if there is no such table.
+	 *
+	 * @param table The table(only name and keys are significant)
+	 * @param loadedTable The loaded schema
+	 */
+	public void putIfAbsent(SchemaTable table, SchemaTable loadedTable)
+	{
+		FutureTask<SchemaTable> loaded = new FutureTask<>(() -> loadedTable);
+		loaded.run();
+
+		synchronized (tables) {
+			tables.putIfAbsent(table.getFullTableName(), new RegisteredTable(table, loaded));
+		}
+	}
+
+	/**
+	 * Removes the schema of table(with any keys).<br>
+	 *
+	 * The name of table is compared case-insensitively, the schema(or catalog) is compared only if both of the tables have it.
+	 *
+	 * @param table The table to be removed
+	 */
+	public void invalidate(SchemaTable table)
+	{
+		synchronized (tables) {
+			tables.values().removeIf(registeredTable -> isSameTable(registeredTable.sourceTable, table));
+		}
+
+		logger.debug("Invalidate schema of table: [{}]", table.getName());
+	}
+
+	/**
+	 * Removes all of the loaded tables.
+	 */
+	public void invalidateAll()
+	{
+		synchronized (tables) {
+			tables.clear();
+		}
+
+		logger.debug("Invalidate schema of all tables");
+	}
+
+	private void remove(String tableIdentifier, RegisteredTable registeredTable)
+	{
+		synchronized (tables) {
+			tables.remove(tableIdentifier, registeredTable);
+		}
+	}
+
+	private static boolean isSameTable(SchemaTable leftTable, SchemaTable rightTable)
+	{
+		if (!leftTable.getName().equalsIgnoreCase(rightTable.getName())) {
+			return false;
+		}
+
+		return isSameOrAbsent(leftTable.getSchema(), rightTable.getSchema()) &&
+			isSameOrAbsent(leftTable.getCatalog(), rightTable.getCatalog());
+	}
+	private static boolean isSameOrAbsent(Optional<String> left, Optional<String> right)
+	{
+		return !left.isPresent() || !right.isPresent() ||
+			left.get().equalsIgnoreCase(right.get());
+	}
+
+	private static class RegisteredTable {
+		final SchemaTable sourceTable;
+		final FutureTask<SchemaTable> loading;
+
+		RegisteredTable(SchemaTable newSourceTable, FutureTask<SchemaTable> newLoading)
+		{
+			sourceTable = newSourceTable;
+			loading = newLoading;
+		}
+	}
+
+	/**
+	 * Weak reference compared by identity of data source
+	 */
+	private static class DataSourceKey extends WeakReference<DataSource> {
+		private final int hashCode;
+
+		DataSourceKey(DataSource dataSource, ReferenceQueue<DataSource> queue)
+		{
+			super(dataSource, queue);
+			hashCode = System.identityHashCode(dataSource);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (obj == this) {
+				return true;
+			}
+			if (!DataSourceKey.class.isInstance(obj)) {
+				return false;
+			}
+
+			DataSource dataSource = get();
+			return dataSource != null && dataSource == ((DataSourceKey)obj).get();
+		}
+	}
+	// :~)
+}
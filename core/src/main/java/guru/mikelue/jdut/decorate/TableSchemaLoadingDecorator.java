@@ -6,22 +6,29 @@ import java.sql.JDBCType;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import javax.sql.DataSource;
 
+import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import guru.mikelue.jdut.ConductorContext;
 import guru.mikelue.jdut.datagrain.DataRow;
 import guru.mikelue.jdut.datagrain.DataRowException;
 import guru.mikelue.jdut.datagrain.SchemaColumn;
 import guru.mikelue.jdut.datagrain.SchemaTable;
+import guru.mikelue.jdut.jdbc.JdbcFunction;
 import guru.mikelue.jdut.jdbc.JdbcSupplier;
 import guru.mikelue.jdut.jdbc.JdbcTemplateFactory;
 import guru.mikelue.jdut.jdbc.JdbcVoidFunction;
@@ -31,14 +38,140 @@ import guru.mikelue.jdut.jdbc.util.MetaDataWorker;
 /**
  * Loads database schema and validating rows.<br>
  *
- * To improve performance, this object would cache {@link SchemaTable} by its name,
- * but this class is thread-safe for the caching mechanism.
+ * <p>The loaded schema contains tables referenced by foreign keys({@link DatabaseMetaData#getImportedKeys}),
+ * which is used by {@link guru.mikelue.jdut.DependencyPlanner} to order the building/cleaning of tables.</p>
+ *
+ * <p>To improve performance, this object would cache {@link SchemaTable} by its name(and keys) in {@link SchemaRegistry},
+ * which loads every table only once for concurrent threads.
+ * The registry could be shared by multiple decorators(see {@link Builder#sharedSchemaRegistry}).</p>
+ *
+ * <h3>Prefetching</h3>
+ * <p>Instead of loading columns table by table, {@link #prefetch(Collection)} loads the columns of all tables
+ * in the same catalog/schema by one call of {@link DatabaseMetaData#getColumns} with pattern,
+ * and {@link #prefetchSchema(String, String)} loads the columns of whole schema for the tables to be used later.</p>
+ *
+ * <h3>Persistent cache</h3>
+ * <p>With {@link Builder#persistentCache}, the loaded schema is saved to file and
+ * another JVM with the same identity of database(see {@link PersistentSchemaCache}) loads schema from the file.</p>
+ *
+ * <h3>Connection for loading</h3>
+ * <p>By default({@link ConnectionStrategy#CURRENT_CONNECTION}), the schema is loaded by the connection
+ * which is conducting(or held by {@link guru.mikelue.jdut.RollbackDuetConductor}) in current thread,
+ * so that the loading doesn't need another connection from the pool.</p>
  */
 public class TableSchemaLoadingDecorator implements DataGrainDecorator {
 	private final static Logger logger = LoggerFactory.getLogger(TableSchemaLoadingDecorator.class);
 
+	/**
+	 * Defines which connection is used to load schema.
+	 *
+	 * @see Builder#connectionStrategy
+	 */
+	public enum ConnectionStrategy {
+		/**
+		 * Always gets a new connection from data source.
+		 */
+		DATA_SOURCE,
+		/**
+		 * Uses the connection(of the same data source) in {@link ConductorContext#getCurrentConnection(DataSource)},
+		 * gets a new connection from data source if there is no such connection.
+		 */
+		CURRENT_CONNECTION;
+	}
+
+	/**
+	 * This object is fed by {@link TableSchemaLoadingDecorator#build TableSchemaLoadingDecorator.build} through {@link Consumer}.
+	 */
+	public class Builder {
+		private Builder() {}
+
+		/**
+		 * Sets the file-backed cache of schema.<br>
+		 *
+		 * The tables loaded from file are not affected by {@link SchemaRegistry#invalidate}, change the version of schema instead.
+		 *
+		 * @param newPersistentCache The persistent cache, could be null
+		 *
+		 * @return cascading self
+		 */
+		public Builder persistentCache(PersistentSchemaCache newPersistentCache)
+		{
+			persistentCache = Optional.ofNullable(newPersistentCache);
+			return this;
+		}
+
+		/**
+		 * Sets the registry of loaded schema, by default, every decorator has its own registry.
+		 *
+		 * @param newSchemaRegistry The registry of schema
+		 *
+		 * @return cascading self
+		 *
+		 * @see SchemaRegistry#shared
+		 */
+		public Builder schemaRegistry(SchemaRegistry newSchemaRegistry)
+		{
+			Validate.notNull(newSchemaRegistry, "Need viable registry of schema");
+
+			schemaRegistry = newSchemaRegistry;
+			return this;
+		}
+
+		/**
+		 * Uses the JVM-wide registry of schema for the data source.
+		 *
+		 * @return cascading self
+		 *
+		 * @see SchemaRegistry#shared
+		 */
+		public Builder sharedSchemaRegistry()
+		{
+			return schemaRegistry(SchemaRegistry.shared(dataSource));
+		}
+
+		/**
+		 * Sets the strategy of connection used to load schema, default is {@link ConnectionStrategy#CURRENT_CONNECTION}.
+		 *
+		 * @param newConnectionStrategy The strategy of connection
+		 *
+		 * @return cascading self
+		 */
+		public Builder connectionStrategy(ConnectionStrategy newConnectionStrategy)
+		{
+			Validate.notNull(newConnectionStrategy, "Need viable strategy of connection");
+
+			connectionStrategy = newConnectionStrategy;
+			return this;
+		}
+	}
+
 	private final DataSource dataSource;
-	private Map<String, SchemaTable> cachedTables = new ConcurrentHashMap<>(32);
+	private SchemaRegistry schemaRegistry = new SchemaRegistry();
+	private ConnectionStrategy connectionStrategy = ConnectionStrategy.CURRENT_CONNECTION;
+	private Map<String, Map<String, SchemaColumn>> prefetchedColumns = new ConcurrentHashMap<>(32);
+	private Set<String> prefetchedSchemas = ConcurrentHashMap.newKeySet();
+
+	private Optional<PersistentSchemaCache> persistentCache = Optional.empty();
+	private Map<String, SchemaTable> persistedTables = null;
+	private String jdbcUrlOfPersistedTables;
+	private MetaDataWorker workerOfPersistedTables;
+	private boolean persistedTablesChanged = false;
+
+	/**
+	 * Builds decorator with data source and customized settings.
+	 *
+	 * @param dataSource The data source of database
+	 * @param builderConsumer The consumer to set-up the decorator
+	 *
+	 * @return The initialized decorator
+	 */
+	public static TableSchemaLoadingDecorator build(DataSource dataSource, Consumer<Builder> builderConsumer)
+	{
+		TableSchemaLoadingDecorator newDecorator = new TableSchemaLoadingDecorator(dataSource);
+		builderConsumer.accept(newDecorator.new Builder());
+
+		return newDecorator;
+	}
 
 	public TableSchemaLoadingDecorator(DataSource newDataSource)
 	{
@@ -59,19 +192,11 @@ public class TableSchemaLoadingDecorator implements DataGrainDecorator {
 		 * Loads scehma from cache or JDBC meta-data
 		 */
 		SchemaTable table = rowBuilder.getTable();
-		String tableIdentifier = table.getFullTableName();
-		logger.debug("Decorate table for loading schema: [{}]", tableIdentifier);
-
-		if (!cachedTables.containsKey(tableIdentifier)) {
-			logger.debug("First time of loading schema");
-			SchemaTable newTableSchema = loadSchema(table);
+		logger.debug("Decorate table for loading schema: [{}]", table.getFullTableName());
 
-			cachedTables.put(tableIdentifier, newTableSchema);
-		}
+		rowBuilder.tableSchema(getSchema(table));
 		// :~)
 
-		rowBuilder.tableSchema(cachedTables.get(tableIdentifier));
-
 		/**
 		 * Validates the row data if it follow the definitions of schema.
 		 */
@@ -84,11 +209,180 @@ public class TableSchemaLoadingDecorator implements DataGrainDecorator {
 		// :~)
 	}
 
+	/**
+	 * Gets the schema of table from cache or JDBC meta-data.<br>
+	 *
+	 * The loaded schema contains the {@link SchemaTable#getReferencedTables referenced tables} of foreign keys.
+	 *
+	 * @param table The table(only name and keys are significant)
+	 *
+	 * @return The loaded schema of table
+	 */
+	public SchemaTable getSchema(SchemaTable table)
+	{
+		return schemaRegistry.getSchema(
+			table,
+			sourceTable -> {
+				SchemaTable newTableSchema = loadSchema(sourceTable);
+				savePersistedTablesIfChanged();
+
+				return newTableSchema;
+			}
+		);
+	}
+
+	/**
+	 * Gets the registry of loaded schema.
+	 *
+	 * @return The registry used by this decorator
+	 *
+	 * @see Builder#schemaRegistry
+	 */
+	public SchemaRegistry getSchemaRegistry()
+	{
+		return schemaRegistry;
+	}
+
+	/**
+	 * Gets the strategy of connection used to load schema.
+	 *
+	 * @return The strategy of connection
+	 *
+	 * @see Builder#connectionStrategy
+	 */
+	public ConnectionStrategy getConnectionStrategy()
+	{
+		return connectionStrategy;
+	}
+
+	/**
+	 * Prefetches the schema of tables, the columns of tables in the same catalog/schema
+	 * are loaded by one call of {@link DatabaseMetaData#getColumns} with pattern.<br>
+	 *
+	 * The keys and the referenced tables are still loaded for every table, but by the same connection.
+	 *
+	 * @param tables The tables(e.g., the ones in a YAML document) to be prefetched
+	 *
+	 * @see #getSchema
+	 */
+	public void prefetch(Collection<SchemaTable> tables)
+	{
+		Map<String, SchemaTable> notCachedTables = new LinkedHashMap<>(tables.size());
+		tables.stream()
+			.filter(table -> !schemaRegistry.getLoadedSchema(table).isPresent())
+			.forEach(table -> notCachedTables.putIfAbsent(table.getFullTableName(), table));
+
+		if (notCachedTables.isEmpty()) {
+			return;
+		}
+
+		logger.debug("Prefetch schema of [{}] tables", notCachedTables.size());
+
+		JdbcSupplier<Integer> funcForPrefetching = buildSupplierOfConnection(
+			conn -> {
+				MetaDataWorker metaDataWorker = new MetaDataWorker(conn.getMetaData());
+
+				/**
+				 * Uses the tables loaded from persistent cache
+				 */
+				Map<String, SchemaTable> tablesToBeLoaded = new LinkedHashMap<>(notCachedTables.size());
+				for (Map.Entry<String, SchemaTable> tableEntry: notCachedTables.entrySet()) {
+					Optional<SchemaTable> persistedTable = getPersistedTable(
+						conn.getMetaData(), metaDataWorker, tableEntry.getValue()
+					);
+
+					if (persistedTable.isPresent()) {
+						schemaRegistry.putIfAbsent(tableEntry.getValue(), persistedTable.get());
+					} else {
+						tablesToBeLoaded.put(tableEntry.getKey(), tableEntry.getValue());
+					}
+				}
+				// :~)
+
+				/**
+				 * Loads columns by catalog/schema of tables
+				 */
+				Map<String, SchemaAndTableName> namespaces = new LinkedHashMap<>(4);
+				for (SchemaTable table: tablesToBeLoaded.values()) {
+					SchemaAndTableName namespace = resolveNamespace(
+						conn, processSchemaAndTableName(metaDataWorker, table)
+					);
+					namespaces.putIfAbsent(columnsKey(namespace, null), namespace);
+				}
+
+				Map<String, Map<String, SchemaColumn>> loadedColumns = new HashMap<>(tablesToBeLoaded.size());
+				for (SchemaAndTableName namespace: namespaces.values()) {
+					if (!prefetchedSchemas.contains(columnsKey(namespace, null))) {
+						loadedColumns.putAll(loadColumnsOfNamespace(conn.getMetaData(), namespace));
+					}
+				}
+				// :~)
+
+				for (SchemaTable table: tablesToBeLoaded.values()) {
+					if (!schemaRegistry.getLoadedSchema(table).isPresent()) {
+						schemaRegistry.putIfAbsent(table, loadSchema(conn, table, loadedColumns));
+					}
+				}
+
+				return notCachedTables.size();
+			}
+		);
+
+		try {
+			funcForPrefetching.getJdbc();
+		} catch (SQLException e) {
+			logger.error("SQL error while prefetching schema of tables: {}", notCachedTables.keySet());
+			throw SQLExceptionConvert.runtimeException(e);
+		}
+
+		savePersistedTablesIfChanged();
+	}
+
+	/**
+	 * Prefetches the columns of all tables in a schema by one call of {@link DatabaseMetaData#getColumns} with pattern.<br>
+	 *
+	 * The keys and the referenced tables are loaded at the first time of using a table.
+	 * The <em>null</em> value of catalog or schema means the current one of connection.
+	 *
+	 * @param catalog The catalog, could be null
+	 * @param schema The schema, could be null
+	 *
+	 * @see #getSchema
+	 */
+	public void prefetchSchema(String catalog, String schema)
+	{
+		JdbcSupplier<Integer> funcForPrefetching = buildSupplierOfConnection(
+			conn -> {
+				MetaDataWorker metaDataWorker = new MetaDataWorker(conn.getMetaData());
+				SchemaAndTableName namespace = resolveNamespace(
+					conn,
+					new SchemaAndTableName(
+						metaDataWorker.processIdentifier(catalog),
+						metaDataWorker.processIdentifier(schema),
+						null
+					)
+				);
+
+				Map<String, Map<String, SchemaColumn>> loadedColumns = loadColumnsOfNamespace(conn.getMetaData(), namespace);
+				prefetchedColumns.putAll(loadedColumns);
+				prefetchedSchemas.add(columnsKey(namespace, null));
+
+				return loadedColumns.size();
+			}
+		);
+
+		try {
+			logger.debug("Prefetched columns of [{}] tables", funcForPrefetching.getJdbc());
+		} catch (SQLException e) {
+			logger.error("SQL error while prefetching schema: \"{}\".\"{}\"", catalog, schema);
+			throw SQLExceptionConvert.runtimeException(e);
+		}
+	}
+
 	private SchemaTable loadSchema(SchemaTable source)
 	{
-		JdbcSupplier<SchemaTable> funcForLoadingSchema = JdbcTemplateFactory.buildSupplier(
-			() -> dataSource.getConnection(),
-			conn -> loadSchema(conn, source)
+		JdbcSupplier<SchemaTable> funcForLoadingSchema = buildSupplierOfConnection(
+			conn -> loadSchema(conn, source, Collections.emptyMap())
 		);
 
 		try {
@@ -99,15 +393,73 @@ public class TableSchemaLoadingDecorator implements DataGrainDecorator {
 		}
 	}
 
-	private SchemaTable loadSchema(Connection conn, SchemaTable sourceTable)
-		throws SQLException
+	/**
+	 * Builds the supplier by the connection defined by {@link ConnectionStrategy}.<br>
+	 *
+	 * The current connection is not closed after the worker is executed.
+	 */
+	private <T> JdbcSupplier<T> buildSupplierOfConnection(JdbcFunction<Connection, T> worker)
 	{
+		if (connectionStrategy == ConnectionStrategy.CURRENT_CONNECTION) {
+			Optional<Connection> currentConnection = ConductorContext.getCurrentConnection(dataSource);
+
+			if (currentConnection.isPresent()) {
+				logger.debug("Use current connection to load schema: [{}]", currentConnection.get());
+				return () -> worker.applyJdbc(currentConnection.get());
+			}
+		}
+
+		return JdbcTemplateFactory.buildSupplier(
+			() -> dataSource.getConnection(),
+			worker
+		);
+	}
+
+	private SchemaTable loadSchema(
+		Connection conn, SchemaTable sourceTable,
+		Map<String, Map<String, SchemaColumn>> loadedColumnsOfTables
+	) throws SQLException {
 		DatabaseMetaData metaData = conn.getMetaData();
 		MetaDataWorker metaDataWorker = new MetaDataWorker(metaData);
+
+		/**
+		 * Uses the table loaded from persistent cache
+		 */
+		Optional<SchemaTable> persistedTable = getPersistedTable(metaData, metaDataWorker, sourceTable);
+		if (persistedTable.isPresent()) {
+			logger.debug("Use schema from persistent cache: [{}]", sourceTable.getFullTableName());
+			return persistedTable.get();
+		}
+		// :~)
+
+		SchemaTable loadedTable = loadSchemaByMetaData(conn, metaData, metaDataWorker, sourceTable, loadedColumnsOfTables);
+		putPersistedTable(sourceTable, loadedTable);
+
+		return loadedTable;
+	}
+
+	private SchemaTable loadSchemaByMetaData(
+		Connection conn, DatabaseMetaData metaData, MetaDataWorker metaDataWorker,
+		SchemaTable sourceTable, Map<String, Map<String, SchemaColumn>> loadedColumnsOfTables
+	) throws SQLException {
 		SchemaAndTableName cananicalName = processSchemaAndTableName(metaDataWorker, sourceTable);
 
 		logger.debug("Load schema for: {}", cananicalName);
 
+		/**
+		 * Uses the prefetched columns if there is one
+		 */
+		Map<String, SchemaColumn> prefetchedColumnsOfTable = null;
+		if (!loadedColumnsOfTables.isEmpty() || !prefetchedColumns.isEmpty()) {
+			String keyOfColumns = columnsKey(resolveNamespace(conn, cananicalName), cananicalName.table);
+
+			prefetchedColumnsOfTable = loadedColumnsOfTables.getOrDefault(
+				keyOfColumns, prefetchedColumns.get(keyOfColumns)
+			);
+		}
+		final Map<String, SchemaColumn> finalPrefetchedColumns = prefetchedColumnsOfTable;
+		// :~)
+
 		/**
 		 * In order to respect the case-sensitive of identifiers,
 		 * this new table doesn't clone from old table schema
@@ -118,7 +470,8 @@ public class TableSchemaLoadingDecorator implements DataGrainDecorator {
 			tableBuilder.name(cananicalName.table);
 			tableBuilder.keys(sourceTable.getKeys().toArray(new String[0]));
 
-			Map<String, SchemaColumn> loadedColumns = loadColumns(cananicalName, metaData);
+			Map<String, SchemaColumn> loadedColumns = finalPrefetchedColumns != null ?
+				finalPrefetchedColumns : loadColumns(cananicalName, metaData);
 			for (SchemaColumn column: loadedColumns.values()) {
 				tableBuilder.column(column);
 			}
@@ -133,10 +486,55 @@ public class TableSchemaLoadingDecorator implements DataGrainDecorator {
 				tableBuilder.keys(keys);
 			}
 			// :~)
+
+			loadReferencedTables(metaDataWorker, metaData, cananicalName)
+				.forEach(tableBuilder::referencedTable);
 		});
 		// :~)
 	}
 
+	/**
+	 * The file of persistent cache is loaded at first time, the identity of database is known by the connection
+	 */
+	private synchronized Optional<SchemaTable> getPersistedTable(
+		DatabaseMetaData metaData, MetaDataWorker metaDataWorker, SchemaTable sourceTable
+	) throws SQLException {
+		if (!persistentCache.isPresent()) {
+			return Optional.empty();
+		}
+
+		if (persistedTables == null) {
+			jdbcUrlOfPersistedTables = metaData.getURL();
+			workerOfPersistedTables = metaDataWorker;
+			persistedTables = new HashMap<>(
+				persistentCache.get().load(jdbcUrlOfPersistedTables, workerOfPersistedTables)
+			);
+		}
+
+		return Optional.ofNullable(persistedTables.get(sourceTable.getFullTableName()));
+	}
+
+	private synchronized void putPersistedTable(SchemaTable sourceTable, SchemaTable loadedTable)
+	{
+		if (persistedTables == null) {
+			return;
+		}
+
+		persistedTables.put(sourceTable.getFullTableName(), loadedTable);
+		persistedTablesChanged = true;
+	}
+
+	private synchronized void savePersistedTablesIfChanged()
+	{
+		if (!persistedTablesChanged) {
+			return;
+		}
+
+		persistentCache.get().save(jdbcUrlOfPersistedTables, workerOfPersistedTables, persistedTables);
+		persistedTablesChanged = false;
+	}
+	// :~)
+
 	private SchemaAndTableName processSchemaAndTableName(MetaDataWorker metaDataWorker, SchemaTable sourceTable)
 		throws SQLException
 	{
@@ -192,40 +590,7 @@ public class TableSchemaLoadingDecorator implements DataGrainDecorator {
 				Map<String, SchemaColumn> columns = new HashMap<>();
 
 				while (rsColumns.next()) {
-					String columnName = rsColumns.getString("COLUMN_NAME");
-					JDBCType jdbcType = JDBCType.valueOf(rsColumns.getInt("DATA_TYPE"));
-
-					logger.debug("Loading meta-data of columns: \"{}\". Type: [{}]",
-						columnName, jdbcType
-					);
-
-					JdbcVoidFunction<SchemaColumn.Builder> columnBuilder = builder -> {
-						builder
-							.name(columnName)
-							.jdbcType(jdbcType)
-							.defaultValue(rsColumns.getString("COLUMN_DEF"));
-
-						try {
-							String autoIncremental = rsColumns.getString("IS_AUTOINCREMENT");
-							if (autoIncremental != null) {
-								builder.autoIncremental("YES".equals(autoIncremental) ? true : false);
-							}
-						} catch (SQLException e) {
-							logger.info("This database doesn't have \"IS_AUTOINCREMENT\" meta data of JDBC");
-						}
-
-						switch (rsColumns.getInt("NULLABLE")) {
-							case DatabaseMetaData.columnNullable:
-								builder.nullable(true);
-								break;
-							case DatabaseMetaData.columnNoNulls:
-								builder.nullable(false);
-								break;
-						}
-					};
-
-					SchemaColumn loadedColumn =
-						SchemaColumn.build(columnBuilder.asConsumer());
+					SchemaColumn loadedColumn = buildColumn(rsColumns);
 					columns.put(loadedColumn.getName(), loadedColumn);
 				}
 				// :~)
@@ -237,6 +602,104 @@ public class TableSchemaLoadingDecorator implements DataGrainDecorator {
 		return jdbcGetColumns.asSupplier().get();
 	}
 
+	/**
+	 * Loads columns of all tables in catalog/schema, the key of result is built by {@link #columnsKey}
+	 */
+	private Map<String, Map<String, SchemaColumn>> loadColumnsOfNamespace(
+		DatabaseMetaData metaData, SchemaAndTableName namespace
+	) {
+		logger.debug("Load columns of all tables for: {}", namespace);
+
+		JdbcSupplier<Map<String, Map<String, SchemaColumn>>> jdbcGetColumns = JdbcTemplateFactory.buildSupplier(
+			() -> metaData.getColumns(
+				namespace.catalog, namespace.schema,
+				"%", null
+			),
+			(ResultSet rsColumns) -> {
+				Map<String, Map<String, SchemaColumn>> columnsOfTables = new HashMap<>(32);
+
+				while (rsColumns.next()) {
+					String keyOfColumns = columnsKey(namespace, rsColumns.getString("TABLE_NAME"));
+					SchemaColumn loadedColumn = buildColumn(rsColumns);
+
+					columnsOfTables.computeIfAbsent(keyOfColumns, key -> new HashMap<>())
+						.put(loadedColumn.getName(), loadedColumn);
+				}
+
+				return columnsOfTables;
+			}
+		);
+
+		return jdbcGetColumns.asSupplier().get();
+	}
+	// :~)
+
+	private static SchemaColumn buildColumn(ResultSet rsColumns) throws SQLException
+	{
+		String columnName = rsColumns.getString("COLUMN_NAME");
+		JDBCType jdbcType = JDBCType.valueOf(rsColumns.getInt("DATA_TYPE"));
+
+		logger.debug("Loading meta-data of columns: \"{}\". Type: [{}]",
+			columnName, jdbcType
+		);
+
+		JdbcVoidFunction<SchemaColumn.Builder> columnBuilder = builder -> {
+			builder
+				.name(columnName)
+				.jdbcType(jdbcType)
+				.defaultValue(rsColumns.getString("COLUMN_DEF"));
+
+			try {
+				String autoIncremental = rsColumns.getString("IS_AUTOINCREMENT");
+				if (autoIncremental != null) {
+					builder.autoIncremental("YES".equals(autoIncremental) ? true : false);
+				}
+			} catch (SQLException e) {
+				logger.info("This database doesn't have \"IS_AUTOINCREMENT\" meta data of JDBC");
+			}
+
+			switch (rsColumns.getInt("NULLABLE")) {
+				case DatabaseMetaData.columnNullable:
+					builder.nullable(true);
+					break;
+				case DatabaseMetaData.columnNoNulls:
+					builder.nullable(false);
+					break;
+			}
+		};
+
+		return SchemaColumn.build(columnBuilder.asConsumer());
+	}
+
+	/**
+	 * The null catalog/schema is resolved to the current one of connection,
+	 * so that the tables with or without schema could be matched to the prefetched columns.
+	 */
+	private static SchemaAndTableName resolveNamespace(Connection conn, SchemaAndTableName name)
+	{
+		String catalog = name.catalog;
+		String schema = name.schema;
+
+		try {
+			if (catalog == null) {
+				catalog = conn.getCatalog();
+			}
+			if (schema == null) {
+				schema = conn.getSchema();
+			}
+		} catch (SQLException e) {
+			logger.debug("Cannot resolve current catalog/schema: {}", e.getMessage());
+		}
+
+		return new SchemaAndTableName(catalog, schema, name.table);
+	}
+
+	private static String columnsKey(SchemaAndTableName namespace, String tableName)
+	{
+		return String.format("%s.%s.%s", namespace.catalog, namespace.schema, tableName);
+	}
+	// :~)
+
 	private String[] loadKeys(
 		Map<String, SchemaColumn> columnsInfo,
 		DatabaseMetaData metaData,
@@ -288,6 +751,55 @@ public class TableSchemaLoadingDecorator implements DataGrainDecorator {
 		return deducedKeys;
 	}
 
+	private List<SchemaTable> loadReferencedTables(
+		MetaDataWorker metaDataWorker,
+		DatabaseMetaData metaData,
+		SchemaAndTableName cananicalName
+	) {
+		logger.debug("Load referenced tables for: {}", cananicalName);
+
+		JdbcSupplier<List<SchemaTable>> loadByImportedKeys = JdbcTemplateFactory.buildSupplier(
+			() -> metaData.getImportedKeys(
+				cananicalName.catalog,
+				cananicalName.schema,
+				cananicalName.table
+			),
+			rs -> {
+				List<SchemaTable> referencedTables = new ArrayList<>(4);
+
+				while (rs.next()) {
+					String pkCatalog = rs.getString("PKTABLE_CAT");
+					String pkSchema = rs.getString("PKTABLE_SCHEM");
+					String pkTable = rs.getString("PKTABLE_NAME");
+
+					logger.debug("Fetch referenced table: \"{}\"", pkTable);
+
+					referencedTables.add(SchemaTable.build(
+						tableBuilder -> tableBuilder
+							.metaDataWorker(metaDataWorker)
+							.catalog(pkCatalog)
+							.schema(pkSchema)
+							.name(pkTable)
+					));
+				}
+
+				return referencedTables;
+			}
+		);
+
+		/**
+		 * Some of drivers don't support imported keys,
+		 * the ordering by dependencies would be unavailable for the table
+		 */
+		try {
+			return loadByImportedKeys.getJdbc();
+		} catch (SQLException e) {
+			logger.warn("Cannot load imported keys for: {}. Error: {}", cananicalName, e.getMessage());
+			return Collections.emptyList();
+		}
+		// :~)
+	}
+
 	private List<String> deduceKeys(
 		Map<String, SchemaColumn> columnsInfo,
 		JdbcSupplier<ResultSet> rsUniqueIndexSupplier
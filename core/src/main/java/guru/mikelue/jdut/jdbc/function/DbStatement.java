@@ -6,6 +6,7 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 
 import guru.mikelue.jdut.datagrain.DataRow;
@@ -40,8 +41,8 @@ public final class DbStatement {
 		DataRow dataRow,
 		JdbcVoidFunction<? super PreparedStatement> executor
 	) {
-		return JdbcTemplateFactory.buildRunnable(
-			() -> conn.prepareStatement(sql),
+		return buildRunnableForPreparedStatement(
+			conn, sql,
 			stat -> {
 				nameOfColumns.forEach(
 					new DataRowParameterSetter(stat, dataRow)
@@ -72,8 +73,8 @@ public final class DbStatement {
 		List<Object> values, Function<Object, JDBCType> jdbcTypeMapping,
 		JdbcVoidFunction<? super PreparedStatement> executor
 	) {
-		return JdbcTemplateFactory.buildRunnable(
-			() -> conn.prepareStatement(sql),
+		return buildRunnableForPreparedStatement(
+			conn, sql,
 			stat -> {
 				values.forEach(
 					new ValueParameterSetter(stat, jdbcTypeMapping)
@@ -105,8 +106,8 @@ public final class DbStatement {
 		List<Object> values, Function<Object, JDBCType> jdbcTypeMapping,
 		JdbcFunction<? super PreparedStatement, ? extends T> supplier
 	) {
-		return JdbcTemplateFactory.buildSupplier(
-			() -> conn.prepareStatement(sql),
+		return buildSupplierForPreparedStatement(
+			conn, sql,
 			stat -> {
 				values.forEach(
 					new ValueParameterSetter(stat, jdbcTypeMapping)
@@ -136,8 +137,8 @@ public final class DbStatement {
 		DataRow dataRow,
 		JdbcFunction<? super PreparedStatement, ? extends T> supplier
 	) {
-		return JdbcTemplateFactory.buildSupplier(
-			() -> conn.prepareStatement(sql),
+		return buildSupplierForPreparedStatement(
+			conn, sql,
 			stat -> {
 				nameOfColumns.forEach(
 					new DataRowParameterSetter(stat, dataRow)
@@ -149,6 +150,61 @@ public final class DbStatement {
 		);
 	}
 
+	/**
+	 * Builds runnable to prepare {@link PreparedStatement} and fed it to void function.<br>
+	 *
+	 * If there is a {@link StatementCache} of the connection bound to current thread,
+	 * the statement is reused and won't be closed by the lambda.
+	 *
+	 * @param conn The connection of database(won't be closed in the lambda)
+	 * @param sql The SQL for executing statement
+	 * @param executor The executor for built statement
+	 *
+	 * @return The instance of lambda
+	 *
+	 * @see StatementCache
+	 */
+	public static JdbcRunnable buildRunnableForPreparedStatement(
+		Connection conn, String sql,
+		JdbcVoidFunction<? super PreparedStatement> executor
+	) {
+		return () -> buildSupplierForPreparedStatement(
+			conn, sql, executor.asJdbcFunction()
+		).getJdbc();
+	}
+
+	/**
+	 * Builds supplier to prepare {@link PreparedStatement} and fed it to function.<br>
+	 *
+	 * If there is a {@link StatementCache} of the connection bound to current thread,
+	 * the statement is reused and won't be closed by the lambda.
+	 *
+	 * @param <T> The type of returned value
+	 * @param conn The connection of database(won't be closed in the lambda)
+	 * @param sql The SQL for executing statement
+	 * @param supplier The supplier for built statement
+	 *
+	 * @return The instance of lambda
+	 *
+	 * @see StatementCache
+	 */
+	public static <T> JdbcSupplier<T> buildSupplierForPreparedStatement(
+		Connection conn, String sql,
+		JdbcFunction<? super PreparedStatement, ? extends T> supplier
+	) {
+		return () -> {
+			Optional<StatementCache> statementCache = StatementCache.current(conn);
+			if (statementCache.isPresent()) {
+				return statementCache.get().apply(sql, supplier);
+			}
+
+			return JdbcTemplateFactory.<PreparedStatement, T>buildSupplier(
+				() -> conn.prepareStatement(sql),
+				stat -> supplier.applyJdbc(stat)
+			).getJdbc();
+		};
+	}
+
 	/**
 	 * Builds runnable to set-up {@link Statement} and fed it to void function.
 	 *
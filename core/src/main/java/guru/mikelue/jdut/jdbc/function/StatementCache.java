@@ -0,0 +1,241 @@
+package guru.mikelue.jdut.jdbc.function;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.jdut.jdbc.JdbcFunction;
+
+/**
+ * Cache of {@link PreparedStatement}s(keyed by SQL) on a {@link Connection}.<br>
+ *
+ * <p>The cache is bound to current thread by surrounding a {@link JdbcFunction} fed with connection:</p>
+ * <pre><code class="java">
+ * // function_1 - An instance of JdbcFunction&lt;Connection, ?&gt;
+ * function_1 = function_1.surroundedBy(StatementCache::scoped);
+ * </code></pre>
+ *
+ * <p>While the cache is bound, {@link DbStatement} reuses the prepared statements of the <b>same connection</b>,
+ * instead of preparing and closing a statement for every execution.
+ * The cached statements are closed while the surrounded function is completed.</p>
+ *
+ * <p>The batch and parameters of a statement are cleared before it is returned to the cache.</p>
+ *
+ * <p>If a statement of SQL is still in use(e.g., nested execution of same SQL), a non-cached one is prepared.<br>
+ * The cache keeps at most {@link #DEFAULT_MAX_STATEMENTS} statements, the least-recently-used one would be closed.</p>
+ *
+ * <b>This object is not thread-safe</b>, it should be used in the thread binding it.
+ *
+ * @see guru.mikelue.jdut.DataConductor
+ */
+public final class StatementCache {
+	/**
+	 * The maximum number of statements kept in a cache.
+	 */
+	public final static int DEFAULT_MAX_STATEMENTS = 64;
+
+	private static Logger logger = LoggerFactory.getLogger(StatementCache.class);
+	private static ThreadLocal<StatementCache> cacheOfThreadLocal = new ThreadLocal<>();
+
+	/**
+	 * Surrounds the function with a new cache of statements bound to current thread.<br>
+	 *
+	 * The cached statements get closed after the function is completed.
+	 *
+	 * @param <T> The type of connection object
+	 * @param <R> The type of returned value
+	 * @param jdbcFunction The function to be surrounded
+	 *
+	 * @return The function using cache of statements
+	 */
+	public static <T extends Connection, R> JdbcFunction<T, R> scoped(JdbcFunction<T, R> jdbcFunction)
+	{
+		return conn -> {
+			StatementCache previousCache = cacheOfThreadLocal.get();
+			StatementCache newCache = new StatementCache(conn);
+
+			cacheOfThreadLocal.set(newCache);
+			try {
+				return jdbcFunction.applyJdbc(conn);
+			} finally {
+				if (previousCache == null) {
+					cacheOfThreadLocal.remove();
+				} else {
+					cacheOfThreadLocal.set(previousCache);
+				}
+
+				newCache.close();
+			}
+		};
+	}
+
+	/**
+	 * Gets the cache bound to current thread.
+	 *
+	 * @return The cache, may be empty
+	 */
+	public static Optional<StatementCache> current()
+	{
+		return Optional.ofNullable(cacheOfThreadLocal.get());
+	}
+
+	/**
+	 * Gets the cache bound to current thread if the cache is of the connection.
+	 *
+	 * @param connection The connection to be matched
+	 *
+	 * @return The cache, may be empty
+	 */
+	public static Optional<StatementCache> current(Connection connection)
+	{
+		return current().filter(cache -> cache.connection == connection);
+	}
+
+	private final Connection connection;
+	private final Map<String, PreparedStatement> statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest)
+		{
+			if (size() <= DEFAULT_MAX_STATEMENTS || inUse.contains(eldest.getKey())) {
+				return false;
+			}
+
+			closeStatement(eldest.getValue());
+			return true;
+		}
+	};
+	private final Set<String> inUse = new HashSet<>();
+	private int numberOfHits = 0;
+	private int numberOfMisses = 0;
+
+	private StatementCache(Connection newConnection)
+	{
+		connection = newConnection;
+	}
+
+	/**
+	 * Applies the function with (cached) statement of SQL.<br>
+	 *
+	 * <b>The function must not close the statement.</b>
+	 *
+	 * @param <R> The type of returned value
+	 * @param sql The SQL of statement
+	 * @param worker The function fed with statement
+	 *
+	 * @return The value returned by worker
+	 *
+	 * @throws SQLException The exception of preparing statement or from worker
+	 */
+	public <R> R apply(String sql, JdbcFunction<? super PreparedStatement, ? extends R> worker)
+		throws SQLException
+	{
+		/**
+		 * The statement of SQL is in use, uses a non-cached one
+		 */
+		if (inUse.contains(sql)) {
+			numberOfMisses++;
+			try (PreparedStatement statement = connection.prepareStatement(sql)) {
+				return worker.applyJdbc(statement);
+			}
+		}
+		// :~)
+
+		PreparedStatement statement = statements.get(sql);
+		if (statement == null) {
+			numberOfMisses++;
+			statement = connection.prepareStatement(sql);
+			statements.put(sql, statement);
+		} else {
+			numberOfHits++;
+		}
+
+		inUse.add(sql);
+		try {
+			return worker.applyJdbc(statement);
+		} finally {
+			inUse.remove(sql);
+			clearStatement(sql, statement);
+		}
+	}
+
+	/**
+	 * Gets the connection of this cache.
+	 *
+	 * @return The connection
+	 */
+	public Connection getConnection()
+	{
+		return connection;
+	}
+
+	/**
+	 * Gets the number of reused statements.
+	 *
+	 * @return The number of hits
+	 */
+	public int getNumberOfHits()
+	{
+		return numberOfHits;
+	}
+
+	/**
+	 * Gets the number of prepared statements.
+	 *
+	 * @return The number of misses
+	 */
+	public int getNumberOfMisses()
+	{
+		return numberOfMisses;
+	}
+
+	/**
+	 * Clears the batch and parameters of statement before it is reused,
+	 * the statement is evicted(and closed) if it cannot be cleared.
+	 */
+	private void clearStatement(String sql, PreparedStatement statement)
+	{
+		try {
+			statement.clearBatch();
+			statement.clearParameters();
+		} catch (SQLException e) {
+			logger.debug("Evict cached statement which cannot be cleared: {}", e.getMessage());
+
+			statements.remove(sql);
+			closeStatement(statement);
+		}
+	}
+
+	private void close()
+	{
+		logger.debug(
+			"Close [{}] cached statements. Hits: [{}]. Misses: [{}].",
+			statements.size(), numberOfHits, numberOfMisses
+		);
+
+		List<PreparedStatement> closedStatements = new ArrayList<>(statements.values());
+		statements.clear();
+
+		closedStatements.forEach(StatementCache::closeStatement);
+	}
+
+	private static void closeStatement(PreparedStatement statement)
+	{
+		try {
+			statement.close();
+		} catch (SQLException e) {
+			logger.warn("Cannot close cached statement: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package guru.mikelue.jdut.jdbc.util;
+
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.apache.commons.lang3.Validate;
+
+import guru.mikelue.jdut.datagrain.DataRow;
+import guru.mikelue.jdut.datagrain.SchemaTable;
+import guru.mikelue.jdut.jdbc.util.PreparedStatements.ParameterBinder;
+
+/**
+ * The compiled binders of columns for setting parameters of {@link PreparedStatement} by many {@link DataRow}s.<br>
+ *
+ * <p>The type of JDBC of every column is resolved while this object is compiled,
+ * and the {@link ParameterBinder} is resolved by the type of data only when the type is changed(from previous row).
+ * This object is not thread-safe, it should be used in the scope of a statement.</p>
+ *
+ * <pre><code class="java">
+ * DataRowBinder binder = DataRowBinder.compile(table, nameOfColumns);
+ * for (DataRow dataRow: rows) {
+ *     binder.bind(statement, dataRow, 1);
+ *     statement.addBatch();
+ * }
+ * </code></pre>
+ *
+ * @see PreparedStatements#setParameter(PreparedStatement, DataRow, String, int)
+ */
+public class DataRowBinder {
+	private final String[] nameOfColumns;
+	private final ColumnBinder[] columnBinders;
+
+	/**
+	 * Compiles binders for the columns of table.
+	 *
+	 * @param table The table with type of JDBC of columns(loaded schema)
+	 * @param nameOfColumns The sequence of columns, which is the sequence of parameters
+	 *
+	 * @return The compiled binder
+	 */
+	public static DataRowBinder compile(SchemaTable table, List<String> nameOfColumns)
+	{
+		Validate.notNull(table, "Need table");
+		Validate.notNull(nameOfColumns, "Need columns");
+
+		ColumnBinder[] columnBinders = new ColumnBinder[nameOfColumns.size()];
+		for (int i = 0; i < columnBinders.length; i++) {
+			columnBinders[i] = new ColumnBinder(
+				table.getColumn(nameOfColumns.get(i)).getJdbcType().get()
+			);
+		}
+
+		return new DataRowBinder(
+			nameOfColumns.toArray(new String[0]), columnBinders
+		);
+	}
+
+	private DataRowBinder(String[] newNameOfColumns, ColumnBinder[] newColumnBinders)
+	{
+		nameOfColumns = newNameOfColumns;
+		columnBinders = newColumnBinders;
+	}
+
+	/**
+	 * Gets the number of parameters set by {@link #bind}.
+	 *
+	 * @return The number of columns
+	 */
+	public int getNumberOfParameters()
+	{
+		return columnBinders.length;
+	}
+
+	/**
+	 * Sets the data of row to the statement, with the sequence of compiled columns.
+	 *
+	 * @param statement The statement to be set
+	 * @param dataRow The data row
+	 * @param firstParamIndex The index of parameter for the first column
+	 *
+	 * @return The index of parameter next to the last column
+	 *
+	 * @throws SQLException The exception of SQL
+	 */
+	public int bind(PreparedStatement statement, DataRow dataRow, int firstParamIndex) throws SQLException
+	{
+		int paramIndex = firstParamIndex;
+		for (int i = 0; i < columnBinders.length; i++) {
+			columnBinders[i].bind(statement, paramIndex++, dataRow.getData(nameOfColumns[i]));
+		}
+
+		return paramIndex;
+	}
+
+	/**
+	 * Keeps the binder of latest type of data.
+	 */
+	private static class ColumnBinder {
+		private final JDBCType jdbcType;
+		private final int vendorTypeNumber;
+		private Class<?> typeOfData = null;
+		private ParameterBinder binderOfType = null;
+
+		ColumnBinder(JDBCType newJdbcType)
+		{
+			jdbcType = newJdbcType;
+			vendorTypeNumber = newJdbcType.getVendorTypeNumber();
+		}
+
+		void bind(PreparedStatement statement, int paramIndex, Object data) throws SQLException
+		{
+			if (data == null) {
+				statement.setNull(paramIndex, vendorTypeNumber);
+				return;
+			}
+
+			if (data.getClass() != typeOfData) {
+				binderOfType = PreparedStatements.getBinder(data.getClass(), jdbcType);
+				typeOfData = data.getClass();
+			}
+
+			binderOfType.bind(statement, paramIndex, data);
+		}
+	}
+}
@@ -70,6 +70,22 @@ public class MetaDataWorker {
 		return String.format("%s%s%s", identifierQuoteString, identifier, identifierQuoteString);
 	}
 
+	/**
+	 * Gets the text of rules for identifiers, which is used to check whether two workers process identifiers in the same way.
+	 *
+	 * @return The text of rules
+	 */
+	public String getIdentifierRules()
+	{
+		return String.format(
+			"upper=%b,lower=%b,mixed=%b,supportsMixed=%b,schemasInTable=%b,schemasInDml=%b,quote=%s",
+			storesUpperCaseIdentifiers, storesLowerCaseIdentifiers,
+			storesMixedCaseIdentifiers, supportsMixedCaseIdentifiers,
+			supportsSchemasInTableDefinitions, supportsSchemasInDataManipulation,
+			identifierQuoteString
+		);
+	}
+
 	public boolean supportsSchemasInTableDefinitions()
 	{
 		return supportsSchemasInTableDefinitions;
@@ -13,6 +13,8 @@ import java.sql.RowId;
 import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -20,11 +22,64 @@ import static org.slf4j.LoggerFactory.getLogger;
 import guru.mikelue.jdut.datagrain.DataRow;
 
 /**
- * Utility for {@link PreparedStatement}.
+ * Utility for {@link PreparedStatement}.<br>
+ *
+ * <p>The method of <em>setXXX</em> for a type of data is resolved once and cached as {@link ParameterBinder}(by {@link ClassValue}).
+ * For binding of many rows with the same columns, use {@link DataRowBinder}, which resolves the type of JDBC
+ * of columns once.</p>
  */
 public final class PreparedStatements {
 	private final static Logger logger = getLogger(PreparedStatements.class);
 
+	/**
+	 * The binder to set a non-null value to {@link PreparedStatement}.
+	 */
+	@FunctionalInterface
+	public interface ParameterBinder {
+		/**
+		 * Sets the data to the statement.
+		 *
+		 * @param statement The statement to be set
+		 * @param paramIndex The index of parameter
+		 * @param data The data, which is not null
+		 *
+		 * @throws SQLException The exception of SQL
+		 */
+		void bind(PreparedStatement statement, int paramIndex, Object data) throws SQLException;
+	}
+
+	private final static ParameterBinder OBJECT_BINDER = (statement, paramIndex, data) -> statement.setObject(paramIndex, data);
+
+	private final static ClassValue<ParameterBinder> bindersOfType = new ClassValue<ParameterBinder>() {
+		@Override
+		protected ParameterBinder computeValue(Class<?> type)
+		{
+			return resolveBinder(type);
+		}
+	};
+	private final static Map<JDBCType, ParameterBinder> bindersOfString = new EnumMap<>(JDBCType.class);
+	static {
+		for (JDBCType jdbcType: JDBCType.values()) {
+			switch (jdbcType) {
+				case CHAR:
+				case LONGVARCHAR:
+				case VARCHAR:
+				case CLOB:
+					bindersOfString.put(jdbcType, (statement, paramIndex, data) -> statement.setString(paramIndex, (String)data));
+					break;
+				case LONGNVARCHAR:
+				case NCHAR:
+				case NVARCHAR:
+				case NCLOB:
+					bindersOfString.put(jdbcType, (statement, paramIndex, data) -> statement.setNString(paramIndex, (String)data));
+					break;
+				default:
+					bindersOfString.put(jdbcType, OBJECT_BINDER);
+					break;
+			}
+		}
+	}
+
 	private PreparedStatements() {}
 
 	/**
@@ -38,6 +93,7 @@ public final class PreparedStatements {
 	 * @throws SQLException The exception of SQL
 	 *
 	 * @see #setParameter(PreparedStatement, Object, JDBCType, int)
+	 * @see DataRowBinder
 	 */
 	public static void setParameter(
 		PreparedStatement statement,
@@ -47,9 +103,11 @@ public final class PreparedStatements {
 		Object data = dataRow.<Object>getData(columnName);
 		JDBCType jdbcType = dataRow.getTable().getColumn(columnName).getJdbcType().get();
 
-		logger.debug(
-			"Sets data of field[\"{}\"] from data row", columnName
-		);
+		if (logger.isDebugEnabled()) {
+			logger.debug(
+				"Sets data of field[\"{}\"] from data row", columnName
+			);
+		}
 
 		setParameter(
 			statement,
@@ -76,150 +134,138 @@ public final class PreparedStatements {
 	 * @param paramIndex The index of parameter
 	 *
 	 * @throws SQLException The exception of SQL
+	 *
+	 * @see #getBinder
 	 */
 	public static void setParameter(
 		PreparedStatement statement,
 		Object data, JDBCType jdbcType,
 		int paramIndex
 	) throws SQLException {
-		logger.debug(
-			"Sets parameter[{}] data: [{}]. Type: \"{}\"",
-			paramIndex, data, jdbcType
-		);
+		if (logger.isDebugEnabled()) {
+			logger.debug(
+				"Sets parameter[{}] data: [{}]. Type: \"{}\"",
+				paramIndex, data, jdbcType
+			);
+		}
 
 		if (data == null) {
 			statement.setNull(paramIndex, jdbcType.getVendorTypeNumber());
 			return;
 		}
 
-		if (String.class.isInstance(data)) {
-			String finalData = (String)data;
-			switch (jdbcType) {
-				case CHAR:
-				case LONGVARCHAR:
-				case VARCHAR:
-				case CLOB:
-					statement.setString(paramIndex, finalData);
-					return;
-				case LONGNVARCHAR:
-				case NCHAR:
-				case NVARCHAR:
-				case NCLOB:
-					statement.setNString(paramIndex, finalData);
-					return;
-				default:
-					break;
-			}
+		getBinder(data.getClass(), jdbcType).bind(statement, paramIndex, data);
+	}
+
+	/**
+	 * Gets the binder for type of data(non-null), the binder is resolved once for every type.
+	 *
+	 * @param type The type of data
+	 * @param jdbcType The type of JDBC, currently this parameter is used to determine setXXX for {@link String} value
+	 *
+	 * @return The binder
+	 *
+	 * @see #setParameter(PreparedStatement, Object, JDBCType, int)
+	 */
+	public static ParameterBinder getBinder(Class<?> type, JDBCType jdbcType)
+	{
+		if (type == String.class) {
+			return bindersOfString.get(jdbcType);
 		}
 
-		if (java.util.Date.class.isInstance(data)) {
-			if (java.sql.Timestamp.class.isInstance(data)) {
-				statement.setTimestamp(paramIndex, (java.sql.Timestamp)data);
-				return;
+		return bindersOfType.get(type);
+	}
+
+	private static ParameterBinder resolveBinder(Class<?> type)
+	{
+		if (java.util.Date.class.isAssignableFrom(type)) {
+			if (java.sql.Timestamp.class.isAssignableFrom(type)) {
+				return (statement, paramIndex, data) -> statement.setTimestamp(paramIndex, (java.sql.Timestamp)data);
 			}
 
-			if (java.sql.Date.class.isInstance(data)) {
-				statement.setDate(paramIndex, (java.sql.Date)data);
-				return;
+			if (java.sql.Date.class.isAssignableFrom(type)) {
+				return (statement, paramIndex, data) -> statement.setDate(paramIndex, (java.sql.Date)data);
 			}
 
-			if (java.sql.Time.class.isInstance(data)) {
-				statement.setTime(paramIndex, (java.sql.Time)data);
-				return;
+			if (java.sql.Time.class.isAssignableFrom(type)) {
+				return (statement, paramIndex, data) -> statement.setTime(paramIndex, (java.sql.Time)data);
 			}
 
-			Date value = (Date)data;
-			statement.setTimestamp(paramIndex, new java.sql.Timestamp(value.getTime()));
-			return;
+			return (statement, paramIndex, data) -> statement.setTimestamp(
+				paramIndex, new java.sql.Timestamp(((Date)data).getTime())
+			);
 		}
 
-		if (Number.class.isInstance(data)) {
-			if (Integer.class.isInstance(data)) {
-				statement.setInt(paramIndex, (Integer)data);
-				return;
+		if (Number.class.isAssignableFrom(type)) {
+			if (Integer.class == type) {
+				return (statement, paramIndex, data) -> statement.setInt(paramIndex, (Integer)data);
 			}
 
-			if (Long.class.isInstance(data)) {
-				statement.setLong(paramIndex, (Long)data);
-				return;
+			if (Long.class == type) {
+				return (statement, paramIndex, data) -> statement.setLong(paramIndex, (Long)data);
 			}
 
-			if (Short.class.isInstance(data)) {
-				statement.setShort(paramIndex, (Short)data);
-				return;
+			if (Short.class == type) {
+				return (statement, paramIndex, data) -> statement.setShort(paramIndex, (Short)data);
 			}
 
-			if (Byte.class.isInstance(data)) {
-				statement.setByte(paramIndex, (Byte)data);
-				return;
+			if (Byte.class == type) {
+				return (statement, paramIndex, data) -> statement.setByte(paramIndex, (Byte)data);
 			}
 
-			if (Double.class.isInstance(data)) {
-				statement.setDouble(paramIndex, (Double)data);
-				return;
+			if (Double.class == type) {
+				return (statement, paramIndex, data) -> statement.setDouble(paramIndex, (Double)data);
 			}
 
-			if (BigDecimal.class.isInstance(data)) {
-				statement.setBigDecimal(paramIndex, (BigDecimal)data);
-				return;
+			if (BigDecimal.class.isAssignableFrom(type)) {
+				return (statement, paramIndex, data) -> statement.setBigDecimal(paramIndex, (BigDecimal)data);
 			}
 
-			if (Float.class.isInstance(data)) {
-				statement.setFloat(paramIndex, (Float)data);
-				return;
+			if (Float.class == type) {
+				return (statement, paramIndex, data) -> statement.setFloat(paramIndex, (Float)data);
 			}
 		}
 
-		if (Boolean.class.isInstance(data)) {
-			statement.setBoolean(paramIndex, (Boolean)data);
-			return;
+		if (Boolean.class == type) {
+			return (statement, paramIndex, data) -> statement.setBoolean(paramIndex, (Boolean)data);
 		}
 
-		if (Clob.class.isInstance(data)) {
-			if (NClob.class.isInstance(data)) {
-				statement.setNClob(paramIndex, (NClob)data);
-				return;
+		if (Clob.class.isAssignableFrom(type)) {
+			if (NClob.class.isAssignableFrom(type)) {
+				return (statement, paramIndex, data) -> statement.setNClob(paramIndex, (NClob)data);
 			}
 
-			statement.setClob(paramIndex, (Clob)data);
-			return;
+			return (statement, paramIndex, data) -> statement.setClob(paramIndex, (Clob)data);
 		}
 
-		if (Blob.class.isInstance(data)) {
-			statement.setBlob(paramIndex, (Blob)data);
-			return;
+		if (Blob.class.isAssignableFrom(type)) {
+			return (statement, paramIndex, data) -> statement.setBlob(paramIndex, (Blob)data);
 		}
 
-		if (new byte[0].getClass().getComponentType().isInstance(data)) {
-			statement.setBytes(paramIndex, (byte[])data);
-			return;
+		if (byte[].class == type) {
+			return (statement, paramIndex, data) -> statement.setBytes(paramIndex, (byte[])data);
 		}
 
-		if (Ref.class.isInstance(data)) {
-			statement.setRef(paramIndex, (Ref)data);
-			return;
+		if (Ref.class.isAssignableFrom(type)) {
+			return (statement, paramIndex, data) -> statement.setRef(paramIndex, (Ref)data);
 		}
 
-		if (RowId.class.isInstance(data)) {
-			statement.setRowId(paramIndex, (RowId)data);
-			return;
+		if (RowId.class.isAssignableFrom(type)) {
+			return (statement, paramIndex, data) -> statement.setRowId(paramIndex, (RowId)data);
 		}
 
-		if (Array.class.isInstance(data)) {
-			statement.setArray(paramIndex, (Array)data);
-			return;
+		if (Array.class.isAssignableFrom(type)) {
+			return (statement, paramIndex, data) -> statement.setArray(paramIndex, (Array)data);
 		}
 
-		if (SQLXML.class.isInstance(data)) {
-			statement.setSQLXML(paramIndex, (SQLXML)data);
-			return;
+		if (SQLXML.class.isAssignableFrom(type)) {
+			return (statement, paramIndex, data) -> statement.setSQLXML(paramIndex, (SQLXML)data);
 		}
 
-		if (URL.class.isInstance(data)) {
-			statement.setURL(paramIndex, (URL)data);
-			return;
+		if (URL.class == type) {
+			return (statement, paramIndex, data) -> statement.setURL(paramIndex, (URL)data);
 		}
 
-		statement.setObject(paramIndex, data);
+		return OBJECT_BINDER;
 	}
 }
@@ -0,0 +1,219 @@
+package guru.mikelue.jdut.operation;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.jdut.datagrain.CollectionUsage;
+import guru.mikelue.jdut.datagrain.DataRow;
+import guru.mikelue.jdut.datagrain.SchemaTable;
+import guru.mikelue.jdut.jdbc.function.DbStatement;
+import guru.mikelue.jdut.jdbc.util.DataRowBinder;
+import guru.mikelue.jdut.vendor.DatabaseVendor;
+
+/**
+ * Deletes rows by IN-list of keys: <code>{@code DELETE FROM t WHERE k IN (?, ?, ...)}</code>.<br>
+ *
+ * <p>The keys of consecutive rows of the same table are gathered(the sequence of rows is kept),
+ * then the rows are deleted by chunks of keys.
+ * The number of keys in a statement is limited by:</p>
+ * <ol>
+ * 	<li>{@link DatabaseVendor#getMaxBindParameters()} divided by the number of keys</li>
+ * 	<li>{@link #getMaxKeysPerStatement()}(e.g., Oracle accepts at most 1000 expressions in IN-list)</li>
+ * </ol>
+ *
+ * <p>For composite keys, IN-list of row values(<code>{@code (k1, k2) IN ((?, ?), ...)}</code>) is used if the vendor
+ * {@link DatabaseVendor#supportsRowValueInList() supports it}, otherwise the rows are deleted by batch of JDBC
+ * with <code>{@code DELETE FROM t WHERE k1 = ? AND k2 = ?}</code>.</p>
+ *
+ * @see DefaultOperators#BATCH_DELETE
+ */
+public class BatchDeleteOperator implements DataRowsOperator {
+	/**
+	 * The default number of maximum keys in a statement.
+	 */
+	public final static int DEFAULT_MAX_KEYS_PER_STATEMENT = 1000;
+
+	private Logger logger = LoggerFactory.getLogger(BatchDeleteOperator.class);
+
+	private final int maxKeysPerStatement;
+
+	/**
+	 * Constructs with {@link #DEFAULT_MAX_KEYS_PER_STATEMENT}.
+	 */
+	public BatchDeleteOperator()
+	{
+		this(DEFAULT_MAX_KEYS_PER_STATEMENT);
+	}
+
+	/**
+	 * Constructs with maximum number of keys in a statement.
+	 *
+	 * @param newMaxKeysPerStatement The maximum number of keys, must be positive
+	 */
+	public BatchDeleteOperator(int newMaxKeysPerStatement)
+	{
+		Validate.isTrue(newMaxKeysPerStatement > 0, "The maximum number of keys must be positive. Got: %d", newMaxKeysPerStatement);
+
+		maxKeysPerStatement = newMaxKeysPerStatement;
+	}
+
+	/**
+	 * Gets the maximum number of keys in a statement.
+	 *
+	 * @return The maximum number of keys
+	 */
+	public int getMaxKeysPerStatement()
+	{
+		return maxKeysPerStatement;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<DataRow> operate(Connection connection, List<DataRow> dataRows) throws SQLException
+	{
+		DatabaseVendor vendor = DatabaseVendor.getVendor(connection.getMetaData());
+
+		/**
+		 * Gathers consecutive rows of the same table, the order of deleting is kept(like DataRowGroup)
+		 */
+		List<List<DataRow>> rowsOfTables = new ArrayList<>(CollectionUsage.LIST_SIZE_OF_ROWS);
+		List<DataRow> currentRows = null;
+		String currentTableName = null;
+		for (DataRow row: dataRows) {
+			String tableName = row.getTable().getFullTableName();
+
+			if (currentRows == null || !currentTableName.equals(tableName)) {
+				currentRows = new ArrayList<>(CollectionUsage.LIST_SIZE_OF_ROWS);
+				currentTableName = tableName;
+				rowsOfTables.add(currentRows);
+			}
+
+			currentRows.add(row);
+		}
+		// :~)
+
+		for (List<DataRow> rowsOfTable: rowsOfTables) {
+			SchemaTable table = rowsOfTable.get(0).getTable();
+			List<String> keys = table.getKeys();
+
+			Validate.notEmpty(keys, "Need keys for deleting operation. Table: \"%s\"", table.getName());
+
+			if (keys.size() == 1 || vendor.supportsRowValueInList()) {
+				deleteByInList(connection, vendor, table, keys, rowsOfTable);
+			} else {
+				deleteByBatch(connection, table, keys, rowsOfTable);
+			}
+		}
+
+		return dataRows;
+	}
+
+	private void deleteByInList(
+		Connection connection, DatabaseVendor vendor,
+		SchemaTable table, List<String> keys, List<DataRow> rows
+	) throws SQLException {
+		int rowsPerStatement = Math.max(
+			1,
+			Math.min(maxKeysPerStatement, vendor.getMaxBindParameters() / keys.size())
+		);
+
+		DataRowBinder binder = DataRowBinder.compile(table, keys);
+
+		for (int fromIndex = 0; fromIndex < rows.size(); fromIndex += rowsPerStatement) {
+			List<DataRow> chunk = rows.subList(fromIndex, Math.min(rows.size(), fromIndex + rowsPerStatement));
+			String sql = buildInListSql(table, keys, chunk.size());
+
+			logger.debug("Builds SQL for [{}] keys: [{}]", chunk.size(), sql);
+
+			DbStatement.buildRunnableForPreparedStatement(
+				connection, sql,
+				stat -> {
+					int paramIndex = 1;
+					for (DataRow row: chunk) {
+						paramIndex = binder.bind(stat, row, paramIndex);
+					}
+
+					logger.debug("Delete [{}] rows.", stat.executeUpdate());
+				}
+			).runJdbc();
+		}
+	}
+
+	private void deleteByBatch(
+		Connection connection,
+		SchemaTable table, List<String> keys, List<DataRow> rows
+	) throws SQLException {
+		String sql = String.format(
+			"DELETE FROM %s WHERE %s",
+			table.getQuotedFullName(),
+			keys.stream()
+				.map(key -> String.format("%s = ?", table.quoteIdentifier(key)))
+				.collect(Collectors.joining(" AND "))
+		);
+
+		logger.debug("Builds SQL for batch: [{}]", sql);
+
+		DbStatement.buildRunnableForPreparedStatement(
+			connection, sql,
+			stat -> {
+				DataRowBinder binder = DataRowBinder.compile(table, keys);
+				int numberOfBatchedRows = 0;
+				for (DataRow row: rows) {
+					binder.bind(stat, row, 1);
+					stat.addBatch();
+
+					if (++numberOfBatchedRows == maxKeysPerStatement) {
+						executeBatch(stat, numberOfBatchedRows);
+						numberOfBatchedRows = 0;
+					}
+				}
+
+				if (numberOfBatchedRows > 0) {
+					executeBatch(stat, numberOfBatchedRows);
+				}
+			}
+		).runJdbc();
+	}
+
+	private void executeBatch(PreparedStatement stat, int numberOfBatchedRows) throws SQLException
+	{
+		stat.executeBatch();
+		logger.debug("Executed batch of deleting [{}] rows.", numberOfBatchedRows);
+	}
+
+	private static String buildInListSql(SchemaTable table, List<String> keys, int numberOfRows)
+	{
+		String placeholderOfRow = IntStream.range(0, keys.size())
+			.mapToObj(i -> "?")
+			.collect(Collectors.joining(", "));
+
+		if (keys.size() > 1) {
+			placeholderOfRow = "(" + placeholderOfRow + ")";
+		}
+
+		final String finalPlaceholderOfRow = placeholderOfRow;
+		String quotedKeys = keys.stream()
+			.map(table::quoteIdentifier)
+			.collect(Collectors.joining(", "));
+
+		return String.format(
+			"DELETE FROM %s WHERE %s IN (%s)",
+			table.getQuotedFullName(),
+			keys.size() > 1 ? "(" + quotedKeys + ")" : quotedKeys,
+			IntStream.range(0, numberOfRows)
+				.mapToObj(i -> finalPlaceholderOfRow)
+				.collect(Collectors.joining(", "))
+		);
+	}
+}
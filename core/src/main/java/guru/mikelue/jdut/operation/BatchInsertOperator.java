@@ -0,0 +1,39 @@
+package guru.mikelue.jdut.operation;
+
+import java.sql.PreparedStatement;
+
+/**
+ * Inserts rows by {@link PreparedStatement#addBatch} and {@link PreparedStatement#executeBatch}.<br>
+ *
+ * <p>The consecutive rows having the same table and the same set of columns would share
+ * one {@link PreparedStatement}(see {@link DataRowGroup}).
+ * The batch is executed for every {@link #getBatchSize() size of batch} of rows and the remaining ones of a group.</p>
+ *
+ * <p>Example of customized size of batch:</p>
+ * <pre>{@code
+ * ConductorConfig.build(builder -> builder
+ *     .namedOperator("BIG_BATCH_INSERT", new BatchInsertOperator(2000).toDataGrainOperator())
+ * );
+ * }</pre>
+ *
+ * @see DefaultOperators#BATCH_INSERT
+ */
+public class BatchInsertOperator extends BatchStatementOperator {
+	/**
+	 * Constructs with {@link #DEFAULT_BATCH_SIZE}.
+	 */
+	public BatchInsertOperator()
+	{
+		this(DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Constructs with size of batch.
+	 *
+	 * @param newBatchSize The size of batch, must be positive
+	 */
+	public BatchInsertOperator(int newBatchSize)
+	{
+		super(DefaultOperators::buildInsertSql, newBatchSize);
+	}
+}
@@ -0,0 +1,138 @@
+package guru.mikelue.jdut.operation;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.jdut.datagrain.DataRow;
+import guru.mikelue.jdut.datagrain.SchemaTable;
+import guru.mikelue.jdut.jdbc.function.DbStatement;
+import guru.mikelue.jdut.jdbc.util.DataRowBinder;
+
+/**
+ * Executes a SQL for every row by {@link PreparedStatement#addBatch} and {@link PreparedStatement#executeBatch}.<br>
+ *
+ * <p>The consecutive rows having the same table and the same set of columns would share
+ * one {@link PreparedStatement}(see {@link DataRowGroup}), which is built by {@link SqlBuilder}.
+ * The batch is executed for every {@link #getBatchSize() size of batch} of rows and the remaining ones of a group.</p>
+ *
+ * <p>The parameters of built SQL <b>must be the sequence of columns</b> given to {@link SqlBuilder#build}.</p>
+ *
+ * @see BatchInsertOperator
+ */
+public class BatchStatementOperator implements DataRowsOperator {
+	/**
+	 * The default size of batch.
+	 */
+	public final static int DEFAULT_BATCH_SIZE = 256;
+
+	/**
+	 * Builds the SQL for a group of rows.
+	 */
+	@FunctionalInterface
+	public interface SqlBuilder {
+		/**
+		 * Builds SQL, the parameters(placeholders) of SQL must be as same as the sequence of columns.
+		 *
+		 * @param table The table of rows
+		 * @param nameOfColumns The name of columns, which are set to parameters of statement by sequence
+		 *
+		 * @return The SQL
+		 */
+		String build(SchemaTable table, List<String> nameOfColumns);
+	}
+
+	private Logger logger = LoggerFactory.getLogger(BatchStatementOperator.class);
+
+	private final SqlBuilder sqlBuilder;
+	private final int batchSize;
+
+	/**
+	 * Constructs with builder of SQL and {@link #DEFAULT_BATCH_SIZE}.
+	 *
+	 * @param newSqlBuilder The builder of SQL
+	 */
+	public BatchStatementOperator(SqlBuilder newSqlBuilder)
+	{
+		this(newSqlBuilder, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Constructs with builder of SQL and size of batch.
+	 *
+	 * @param newSqlBuilder The builder of SQL
+	 * @param newBatchSize The size of batch, must be positive
+	 */
+	public BatchStatementOperator(SqlBuilder newSqlBuilder, int newBatchSize)
+	{
+		Validate.notNull(newSqlBuilder, "Need builder of SQL");
+		Validate.isTrue(newBatchSize > 0, "The size of batch must be positive. Got: %d", newBatchSize);
+
+		sqlBuilder = newSqlBuilder;
+		batchSize = newBatchSize;
+	}
+
+	/**
+	 * Gets the size of batch.
+	 *
+	 * @return The size of batch
+	 */
+	public int getBatchSize()
+	{
+		return batchSize;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<DataRow> operate(Connection connection, List<DataRow> dataRows) throws SQLException
+	{
+		for (DataRowGroup group: DataRowGroup.groupConsecutive(dataRows)) {
+			executeGroup(connection, group);
+		}
+
+		return dataRows;
+	}
+
+	private void executeGroup(Connection connection, DataRowGroup group) throws SQLException
+	{
+		List<String> nameOfColumns = group.getColumns();
+		String sql = sqlBuilder.build(group.getTable(), nameOfColumns);
+
+		logger.debug("Builds SQL for batch: [{}]", sql);
+
+		DbStatement.buildRunnableForPreparedStatement(
+			connection, sql,
+			stat -> {
+				DataRowBinder binder = DataRowBinder.compile(group.getTable(), nameOfColumns);
+				int numberOfBatchedRows = 0;
+
+				for (DataRow dataRow: group.getRows()) {
+					binder.bind(stat, dataRow, 1);
+					stat.addBatch();
+
+					if (++numberOfBatchedRows == batchSize) {
+						executeBatch(stat, numberOfBatchedRows);
+						numberOfBatchedRows = 0;
+					}
+				}
+
+				if (numberOfBatchedRows > 0) {
+					executeBatch(stat, numberOfBatchedRows);
+				}
+			}
+		).runJdbc();
+	}
+
+	private void executeBatch(PreparedStatement stat, int numberOfBatchedRows) throws SQLException
+	{
+		stat.executeBatch();
+		logger.debug("Executed batch of [{}] rows.", numberOfBatchedRows);
+	}
+}
@@ -0,0 +1,106 @@
+package guru.mikelue.jdut.operation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import guru.mikelue.jdut.datagrain.CollectionUsage;
+import guru.mikelue.jdut.datagrain.DataRow;
+import guru.mikelue.jdut.datagrain.SchemaTable;
+
+/**
+ * A run of <b>consecutive</b> {@link DataRow}s, which have the same table and the same set of columns.<br>
+ *
+ * <p>Operators which execute one SQL for many rows(e.g., batch of JDBC) could use this object to
+ * prepare the statement once per group.</p>
+ *
+ * <p>The sequence of columns({@link #getColumns}) is the one of first row in the group.</p>
+ *
+ * @see #groupConsecutive
+ */
+public class DataRowGroup {
+	private final SchemaTable table;
+	private final List<String> columns;
+	private final Set<String> setOfColumns;
+	private final List<DataRow> rows;
+
+	/**
+	 * Splits the rows into groups, the order of rows is kept.
+	 *
+	 * @param dataRows The rows to be grouped
+	 *
+	 * @return The groups of rows
+	 */
+	public static List<DataRowGroup> groupConsecutive(List<DataRow> dataRows)
+	{
+		List<DataRowGroup> groups = new ArrayList<>(CollectionUsage.LIST_SIZE_OF_ROWS);
+
+		DataRowGroup currentGroup = null;
+		for (DataRow row: dataRows) {
+			if (currentGroup == null || !currentGroup.accepts(row)) {
+				currentGroup = new DataRowGroup(row);
+				groups.add(currentGroup);
+				continue;
+			}
+
+			currentGroup.rows.add(row);
+		}
+
+		return groups;
+	}
+
+	private DataRowGroup(DataRow firstRow)
+	{
+		table = firstRow.getTable();
+		columns = Collections.unmodifiableList(firstRow.getColumns());
+		setOfColumns = new HashSet<>(columns);
+		rows = new ArrayList<>(CollectionUsage.LIST_SIZE_OF_ROWS);
+		rows.add(firstRow);
+	}
+
+	/**
+	 * Gets the table of rows.
+	 *
+	 * @return The table
+	 */
+	public SchemaTable getTable()
+	{
+		return table;
+	}
+
+	/**
+	 * Gets the name of columns, which is the sequence of first row.
+	 *
+	 * @return The name of columns
+	 */
+	public List<String> getColumns()
+	{
+		return columns;
+	}
+
+	/**
+	 * Gets the rows of this group.
+	 *
+	 * @return The rows
+	 */
+	public List<DataRow> getRows()
+	{
+		return Collections.unmodifiableList(rows);
+	}
+
+	private boolean accepts(DataRow row)
+	{
+		SchemaTable tableOfRow = row.getTable();
+		if (tableOfRow != table &&
+			!tableOfRow.getFullTableName().equals(table.getFullTableName())
+		) {
+			return false;
+		}
+
+		List<String> columnsOfRow = row.getColumns();
+		return columnsOfRow.size() == setOfColumns.size() &&
+			setOfColumns.containsAll(columnsOfRow);
+	}
+}
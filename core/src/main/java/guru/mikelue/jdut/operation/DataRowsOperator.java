@@ -2,8 +2,13 @@ package guru.mikelue.jdut.operation;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.Validate;
 
 import guru.mikelue.jdut.datagrain.DataGrain;
 import guru.mikelue.jdut.datagrain.DataRow;
@@ -48,13 +53,56 @@ public interface DataRowsOperator {
 	static List<DataRow> none(Connection conn, List<DataRow> dataRows) { return dataRows; }
 
 	/**
-	 * Converts this instance to {@link DataGrainOperator}.
+	 * The default number of rows fed to this operator at a time for {@link DataGrain#isStreaming streaming} data grain.
+	 */
+	public final static int DEFAULT_SIZE_OF_CHUNK = 1024;
+
+	/**
+	 * Converts this instance to {@link DataGrainOperator}, with {@link #DEFAULT_SIZE_OF_CHUNK}.
 	 *
 	 * @return The operator for {@link DataGrain}
+	 *
+	 * @see #toDataGrainOperator(int)
 	 */
 	default DataGrainOperator toDataGrainOperator()
 	{
-		return (connection, dataGrain) -> new DataGrain(operate(connection, dataGrain.getRows()));
+		return toDataGrainOperator(DEFAULT_SIZE_OF_CHUNK);
+	}
+
+	/**
+	 * Converts this instance to {@link DataGrainOperator}.<br>
+	 *
+	 * <p>For {@link DataGrain#isStreaming streaming} data grain, the rows are fed to this operator by chunks(in order),
+	 * so that only the rows of a chunk are kept in memory. The operated data grain is the same one fed to the operator.</p>
+	 *
+	 * @param sizeOfChunk The maximum number of rows fed to this operator at a time(for streaming data grain)
+	 *
+	 * @return The operator for {@link DataGrain}
+	 */
+	default DataGrainOperator toDataGrainOperator(int sizeOfChunk)
+	{
+		Validate.isTrue(sizeOfChunk > 0, "The size of chunk must be positive. Got: %d", sizeOfChunk);
+
+		return (connection, dataGrain) -> {
+			if (!dataGrain.isStreaming()) {
+				return new DataGrain(operate(connection, dataGrain.getRows()));
+			}
+
+			try (Stream<DataRow> streamOfRows = dataGrain.streamOfRows()) {
+				Iterator<DataRow> rows = streamOfRows.iterator();
+
+				while (rows.hasNext()) {
+					List<DataRow> chunk = new ArrayList<>(sizeOfChunk);
+					while (rows.hasNext() && chunk.size() < sizeOfChunk) {
+						chunk.add(rows.next());
+					}
+
+					operate(connection, chunk);
+				}
+			}
+
+			return dataGrain;
+		};
 	}
 
 	/**
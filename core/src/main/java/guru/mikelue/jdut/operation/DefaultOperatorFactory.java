@@ -1,36 +1,51 @@
 package guru.mikelue.jdut.operation;
 
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.stream.IntStream;
 import javax.sql.DataSource;
 
+import guru.mikelue.jdut.ConductorContext;
 import guru.mikelue.jdut.function.OperatorPredicate;
+import guru.mikelue.jdut.jdbc.JdbcFunction;
 import guru.mikelue.jdut.jdbc.JdbcSupplier;
 import guru.mikelue.jdut.jdbc.JdbcTemplateFactory;
 import guru.mikelue.jdut.vendor.DatabaseVendor;
+import guru.mikelue.jdut.vendor.h2.H2;
+import guru.mikelue.jdut.vendor.hsqldb.HsqlDb;
 import guru.mikelue.jdut.vendor.mssql.MsSql;
+import guru.mikelue.jdut.vendor.mysql.MySql;
+import guru.mikelue.jdut.vendor.oracle.Oracle;
+import guru.mikelue.jdut.vendor.postgresql.PostgreSql;
+import guru.mikelue.jdut.vendor.sqlite.Sqlite;
 
 /**
- * This implementation would cache the found operator in order to improve performance for looking for
+ * This implementation would resolve the operators(by name) only once in order to improve performance for looking for
  * corresponding operators.<br>
  *
  * <p>As with provided {@link DataSource}, this factory would use vendor-specific implementation of operations.</p>
  *
- * <b>The {@link DataGrainOperator} retrieving by this function <em style="color:red">is not thread-safe</em>.</b>
+ * <p>At the first time of {@link #get getting} an operator, the predicates are tested against the meta-data of database
+ * (by the {@link ConductorContext#getCurrentConnection(DataSource) current connection} if there is one),
+ * then the whole table of operators is resolved into an immutable map.
+ * After that, the looking for operator never touches the database and is safe for concurrent threads.</p>
  */
 public class DefaultOperatorFactory implements OperatorFactory {
 	private DataSource dataSource;
 
-	// Used for caching fetched operator
-	private Map<String, DataGrainOperator> cachedOperator = new HashMap<>(8);
+	/**
+	 * The resolved operators by name, the map is immutable once it is published
+	 */
+	private volatile Map<String, DataGrainOperator> resolvedOperators = null;
 
 	private List<OperatorPredicate> predicates = new ArrayList<>(8);
 	private List<Map<String, DataGrainOperator>> operators = new ArrayList<>(8);
@@ -80,10 +95,35 @@ public class DefaultOperatorFactory implements OperatorFactory {
 		/**
 		 * Adds build-in vendor-specific operators
 		 */
-		newBuilder.add(
-			DatabaseVendor.buildOperatorPredicate(DatabaseVendor.MsSql),
-			MsSql.DEFAULT_OPERATORS
-		);
+		newBuilder
+			.add(
+				DatabaseVendor.buildOperatorPredicate(DatabaseVendor.MsSql),
+				MsSql.DEFAULT_OPERATORS
+			)
+			.add(
+				DatabaseVendor.buildOperatorPredicate(DatabaseVendor.Oracle),
+				Oracle.DEFAULT_OPERATORS
+			)
+			.add(
+				DatabaseVendor.buildOperatorPredicate(DatabaseVendor.PostgreSql),
+				PostgreSql.DEFAULT_OPERATORS
+			)
+			.add(
+				DatabaseVendor.buildOperatorPredicate(DatabaseVendor.MySql),
+				MySql.DEFAULT_OPERATORS
+			)
+			.add(
+				DatabaseVendor.buildOperatorPredicate(DatabaseVendor.H2),
+				H2.DEFAULT_OPERATORS
+			)
+			.add(
+				DatabaseVendor.buildOperatorPredicate(DatabaseVendor.HsqlDb),
+				HsqlDb.DEFAULT_OPERATORS
+			)
+			.add(
+				DatabaseVendor.buildOperatorPredicate(DatabaseVendor.Sqlite),
+				Sqlite.DEFAULT_OPERATORS
+			);
 		// :~)
 
 		/**
@@ -114,7 +154,7 @@ public class DefaultOperatorFactory implements OperatorFactory {
 	private final static Map<String, DataGrainOperator> DEFINED;
 
 	static {
-		Map<String, DataGrainOperator> operators = new HashMap<>(8);
+		Map<String, DataGrainOperator> operators = new HashMap<>(16);
 
 		operators.put(DefaultOperators.INSERT, DefaultOperators::insert);
 		operators.put(DefaultOperators.UPDATE, DefaultOperators::update);
@@ -123,6 +163,9 @@ public class DefaultOperatorFactory implements OperatorFactory {
 		operators.put(DefaultOperators.DELETE_ALL, DefaultOperators::deleteAll);
 		operators.put(DefaultOperators.TRUNCATE, DefaultOperators::truncate);
 		operators.put(DefaultOperators.NONE, DefaultOperators::none);
+		operators.put(DefaultOperators.BATCH_INSERT, DefaultOperators::batchInsert);
+		operators.put(DefaultOperators.MULTI_ROW_INSERT, DefaultOperators::multiRowInsert);
+		operators.put(DefaultOperators.BATCH_DELETE, DefaultOperators::batchDelete);
 
 		DEFINED = Collections.unmodifiableMap(operators);
 	}
@@ -135,48 +178,67 @@ public class DefaultOperatorFactory implements OperatorFactory {
 	@Override
 	public DataGrainOperator get(String name)
 	{
-		if (cachedOperator.containsKey(name)) {
-			return cachedOperator.get(name);
+		Map<String, DataGrainOperator> currentOperators = resolvedOperators;
+
+		/**
+		 * The concurrent threads may resolve the operators simultaneously,
+		 * the results are the same so the last one wins.
+		 */
+		if (currentOperators == null) {
+			currentOperators = resolveOperators();
+			resolvedOperators = currentOperators;
 		}
+		// :~)
 
+		return currentOperators.get(name);
+	}
+
+	private Map<String, DataGrainOperator> resolveOperators()
+	{
 		/**
 		 * Finds first matched predicates by meta data of database
 		 */
-		OptionalInt matchedIndex = JdbcTemplateFactory.buildSupplier(
-			() -> dataSource.getConnection(),
-			conn -> {
-				final DatabaseMetaData metaData = conn.getMetaData();
-
-				return IntStream.range(0, predicates.size())
-					.filter(
-						i -> ((JdbcSupplier<Boolean>) () ->
-							predicates.get(i).testMetaData(metaData)
-						)
-							.asSupplier().get()
+		JdbcFunction<Connection, OptionalInt> findMatchedIndex = conn -> {
+			final DatabaseMetaData metaData = conn.getMetaData();
+
+			return IntStream.range(0, predicates.size())
+				.filter(
+					i -> ((JdbcSupplier<Boolean>) () ->
+						predicates.get(i).testMetaData(metaData)
 					)
-					.findFirst();
-			}
-		).asSupplier().get();
+						.asSupplier().get()
+				)
+				.findFirst();
+		};
+
+		Optional<Connection> currentConnection = ConductorContext.getCurrentConnection(dataSource);
+		OptionalInt matchedIndex = currentConnection.isPresent() ?
+			findMatchedIndex.asFunction().apply(currentConnection.get()) :
+			JdbcTemplateFactory.buildSupplier(
+				() -> dataSource.getConnection(),
+				findMatchedIndex
+			).asSupplier().get();
 		// :~)
 
 		/**
-		 * Adds operator to cache if the there is matched operator.
+		 * Resolves the table of operators
 		 *
 		 * 1) The defined operators may not be matched
-		 * 2) The customized ones may not be matched, try to find one from defined operators
+		 * 2) The customized ones may not be matched, the defined operators are used
 		 */
-		DataGrainOperator operator = null;
+		Map<String, DataGrainOperator> operatorsOfDatabase = new HashMap<>(DEFINED);
 		if (matchedIndex.isPresent()) {
-			operator = operators.get(matchedIndex.getAsInt()).get(name);
-		}
-		if (operator == null) {
-			operator = DEFINED.get(name);
+			operators.get(matchedIndex.getAsInt()).forEach(
+				(name, operator) -> {
+					if (operator != null) {
+						operatorsOfDatabase.put(name, operator);
+					}
+				}
+			);
 		}
-
-		cachedOperator.put(name, operator);
 		// :~)
 
-		return operator;
+		return Collections.unmodifiableMap(operatorsOfDatabase);
 	}
 
 	@Override
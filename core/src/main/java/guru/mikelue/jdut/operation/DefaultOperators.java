@@ -52,6 +52,24 @@ public final class DefaultOperators {
 	 * As the name of TRUNCATE(non-undo truncating of data of table).
 	 */
 	public final static String TRUNCATE = "TRUNCATE";
+	/**
+	 * As the name of BATCH_INSERT(data must not be existing, executed by batch of JDBC).
+	 *
+	 * @see BatchInsertOperator
+	 */
+	public final static String BATCH_INSERT = "BATCH_INSERT";
+	/**
+	 * As the name of MULTI_ROW_INSERT(data must not be existing, executed by multi-row VALUES).
+	 *
+	 * @see MultiRowInsertOperator
+	 */
+	public final static String MULTI_ROW_INSERT = "MULTI_ROW_INSERT";
+	/**
+	 * As the name of BATCH_DELETE(delete data by IN-list of keys).
+	 *
+	 * @see BatchDeleteOperator
+	 */
+	public final static String BATCH_DELETE = "BATCH_DELETE";
 	/**
 	 * As the name of NONE(do nothing).
 	 */
@@ -84,6 +102,60 @@ public final class DefaultOperators {
 		return result;
 	}
 
+	/**
+	 * Default operator of batch insertion. As lambda of {@link DataGrainOperator}.
+	 *
+	 * <p>The size of batch is {@link BatchStatementOperator#DEFAULT_BATCH_SIZE}.</p>
+	 *
+	 * @param conn The connection object of initialized
+	 * @param dataGrain The data grain to be processed
+	 *
+	 * @return input data grain
+	 *
+	 * @throws SQLException as the defined functional interface
+	 *
+	 * @see BatchInsertOperator
+	 */
+	public static DataGrain batchInsert(Connection conn, DataGrain dataGrain)
+		throws SQLException
+	{
+		logger.debug("Start default BATCH_INSERT");
+
+		DataGrain result = new BatchInsertOperator().toDataGrainOperator()
+			.operate(conn, dataGrain);
+
+		logger.debug("End default BATCH_INSERT");
+
+		return result;
+	}
+
+	/**
+	 * Default operator of multi-row insertion. As lambda of {@link DataGrainOperator}.
+	 *
+	 * <p>The number of rows in a statement is limited by the vendor of database.</p>
+	 *
+	 * @param conn The connection object of initialized
+	 * @param dataGrain The data grain to be processed
+	 *
+	 * @return input data grain
+	 *
+	 * @throws SQLException as the defined functional interface
+	 *
+	 * @see MultiRowInsertOperator
+	 */
+	public static DataGrain multiRowInsert(Connection conn, DataGrain dataGrain)
+		throws SQLException
+	{
+		logger.debug("Start default MULTI_ROW_INSERT");
+
+		DataGrain result = new MultiRowInsertOperator().toDataGrainOperator()
+			.operate(conn, dataGrain);
+
+		logger.debug("End default MULTI_ROW_INSERT");
+
+		return result;
+	}
+
 	/**
 	 * Default operator of update. As lambda of {@link DataGrainOperator}.
 	 *
@@ -150,6 +222,30 @@ public final class DefaultOperators {
 		return result;
 	}
 
+	/**
+	 * Default operator of removal of rows by IN-list of keys. As lambda of {@link DataGrainOperator}.
+	 *
+	 * @param conn The connection object of initialized
+	 * @param dataGrain The data grain to be processed
+	 *
+	 * @return input data grain
+	 *
+	 * @throws SQLException as the defined functional interface
+	 *
+	 * @see BatchDeleteOperator
+	 */
+	public static DataGrain batchDelete(Connection conn, DataGrain dataGrain)
+		throws SQLException
+	{
+		logger.debug("Start default BATCH_DELETE");
+
+		DataGrain result = new BatchDeleteOperator().toDataGrainOperator()
+			.operate(conn, dataGrain);
+
+		logger.debug("End default BATCH_DELETE");
+		return result;
+	}
+
 	/**
 	 * Default operator of removal of all data of a table. As lambda of {@link DataGrainOperator}.<br>
 	 *
@@ -237,18 +333,7 @@ public final class DefaultOperators {
 		SchemaTable table = dataRow.getTable();
 		List<String> nameOfColumns = dataRow.getColumns();
 
-		String sql = String.format(
-			"INSERT INTO %s(%s) VALUES(%s)",
-			table.getQuotedFullName(),
-			join(
-				nameOfColumns,
-				columnName -> table.quoteIdentifier(columnName),
-				", "
-			),
-			IntStream.range(0, nameOfColumns.size())
-				.mapToObj(i -> "?")
-				.collect(Collectors.joining(", "))
-		);
+		String sql = buildInsertSql(table, nameOfColumns);
 
 		logger.debug("Builds SQL: [{}]", sql);
 
@@ -483,6 +568,25 @@ public final class DefaultOperators {
 		return dataRow;
 	}
 
+	/**
+	 * Builds the INSERT statement with placeholders of JDBC.
+	 */
+	static String buildInsertSql(SchemaTable table, List<String> nameOfColumns)
+	{
+		return String.format(
+			"INSERT INTO %s(%s) VALUES(%s)",
+			table.getQuotedFullName(),
+			join(
+				nameOfColumns,
+				columnName -> table.quoteIdentifier(columnName),
+				", "
+			),
+			IntStream.range(0, nameOfColumns.size())
+				.mapToObj(i -> "?")
+				.collect(Collectors.joining(", "))
+		);
+	}
+
 	private static String join(
 		List<String> listOfString,
 		UnaryOperator<String> mapToString,
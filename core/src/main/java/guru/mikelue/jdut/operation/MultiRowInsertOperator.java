@@ -0,0 +1,179 @@
+package guru.mikelue.jdut.operation;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import guru.mikelue.jdut.datagrain.DataRow;
+import guru.mikelue.jdut.datagrain.SchemaTable;
+import guru.mikelue.jdut.jdbc.function.DbStatement;
+import guru.mikelue.jdut.jdbc.util.DataRowBinder;
+import guru.mikelue.jdut.vendor.DatabaseVendor;
+
+/**
+ * Inserts rows by multi-row VALUES: <code>{@code INSERT INTO t(a, b) VALUES (?, ?), (?, ?), ...}</code>.<br>
+ *
+ * <p>The consecutive rows having the same table and the same set of columns are collapsed(see {@link DataRowGroup}).
+ * The number of rows in a statement is limited by:</p>
+ * <ol>
+ * 	<li>{@link DatabaseVendor#getMaxBindParameters()} divided by the number of columns</li>
+ * 	<li>{@link #getMaxRowsPerStatement()}(e.g., MS SQL server accepts at most 1000 rows in VALUES)</li>
+ * </ol>
+ *
+ * <p>If the vendor doesn't {@link DatabaseVendor#supportsMultiRowValues() support multi-row VALUES}(e.g. Oracle),
+ * this operator falls back to {@link BatchInsertOperator}.</p>
+ *
+ * @see DefaultOperators#MULTI_ROW_INSERT
+ */
+public class MultiRowInsertOperator implements DataRowsOperator {
+	/**
+	 * The default number of maximum rows in a statement.
+	 */
+	public final static int DEFAULT_MAX_ROWS_PER_STATEMENT = 1000;
+
+	private Logger logger = LoggerFactory.getLogger(MultiRowInsertOperator.class);
+
+	private final int maxRowsPerStatement;
+	private final DataRowsOperator fallbackOperator = new BatchInsertOperator();
+
+	/**
+	 * Constructs with {@link #DEFAULT_MAX_ROWS_PER_STATEMENT}.
+	 */
+	public MultiRowInsertOperator()
+	{
+		this(DEFAULT_MAX_ROWS_PER_STATEMENT);
+	}
+
+	/**
+	 * Constructs with maximum number of rows in a statement.
+	 *
+	 * @param newMaxRowsPerStatement The maximum number of rows, must be positive
+	 */
+	public MultiRowInsertOperator(int newMaxRowsPerStatement)
+	{
+		Validate.isTrue(newMaxRowsPerStatement > 0, "The maximum number of rows must be positive. Got: %d", newMaxRowsPerStatement);
+
+		maxRowsPerStatement = newMaxRowsPerStatement;
+	}
+
+	/**
+	 * Gets the maximum number of rows in a statement.
+	 *
+	 * @return The maximum number of rows
+	 */
+	public int getMaxRowsPerStatement()
+	{
+		return maxRowsPerStatement;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<DataRow> operate(Connection connection, List<DataRow> dataRows) throws SQLException
+	{
+		DatabaseVendor vendor = DatabaseVendor.getVendor(connection.getMetaData());
+
+		if (!vendor.supportsMultiRowValues()) {
+			logger.debug("Multi-row VALUES is not supported by [{}]. Uses batch insertion.", vendor);
+			return fallbackOperator.operate(connection, dataRows);
+		}
+
+		for (DataRowGroup group: DataRowGroup.groupConsecutive(dataRows)) {
+			insertGroup(connection, vendor, group);
+		}
+
+		return dataRows;
+	}
+
+	private void insertGroup(
+		Connection connection, DatabaseVendor vendor, DataRowGroup group
+	) throws SQLException {
+		List<String> nameOfColumns = group.getColumns();
+		List<DataRow> rows = group.getRows();
+
+		int rowsPerStatement = Math.max(
+			1,
+			Math.min(maxRowsPerStatement, vendor.getMaxBindParameters() / Math.max(1, nameOfColumns.size()))
+		);
+
+		int numberOfFullChunks = rows.size() / rowsPerStatement;
+		DataRowBinder binder = DataRowBinder.compile(group.getTable(), nameOfColumns);
+
+		/**
+		 * The statement of full chunks is prepared once
+		 */
+		if (numberOfFullChunks > 0) {
+			String sql = buildSql(group.getTable(), nameOfColumns, rowsPerStatement);
+
+			DbStatement.buildRunnableForPreparedStatement(
+				connection, sql,
+				stat -> {
+					for (int i = 0; i < numberOfFullChunks; i++) {
+						int fromIndex = i * rowsPerStatement;
+						executeChunk(
+							stat, binder,
+							rows.subList(fromIndex, fromIndex + rowsPerStatement)
+						);
+					}
+				}
+			).runJdbc();
+		}
+		// :~)
+
+		/**
+		 * The remaining rows
+		 */
+		List<DataRow> remainingRows = rows.subList(numberOfFullChunks * rowsPerStatement, rows.size());
+		if (!remainingRows.isEmpty()) {
+			String sql = buildSql(group.getTable(), nameOfColumns, remainingRows.size());
+
+			DbStatement.buildRunnableForPreparedStatement(
+				connection, sql,
+				stat -> executeChunk(stat, binder, remainingRows)
+			).runJdbc();
+		}
+		// :~)
+	}
+
+	private void executeChunk(
+		PreparedStatement stat, DataRowBinder binder, List<DataRow> chunk
+	) throws SQLException {
+		int paramIndex = 1;
+		for (DataRow dataRow: chunk) {
+			paramIndex = binder.bind(stat, dataRow, paramIndex);
+		}
+
+		int affectedRows = stat.executeUpdate();
+		logger.debug("Insert [{}] rows by multi-row VALUES.", affectedRows);
+	}
+
+	private String buildSql(SchemaTable table, List<String> nameOfColumns, int numberOfRows)
+	{
+		String valuesOfRow = IntStream.range(0, nameOfColumns.size())
+			.mapToObj(i -> "?")
+			.collect(Collectors.joining(", ", "(", ")"));
+
+		String sql = String.format(
+			"INSERT INTO %s(%s) VALUES%s",
+			table.getQuotedFullName(),
+			nameOfColumns.stream()
+				.map(table::quoteIdentifier)
+				.collect(Collectors.joining(", ")),
+			IntStream.range(0, numberOfRows)
+				.mapToObj(i -> valuesOfRow)
+				.collect(Collectors.joining(",\n"))
+		);
+
+		logger.debug("Builds SQL for [{}] rows: [{}...]", numberOfRows, sql.substring(0, sql.indexOf(valuesOfRow) + valuesOfRow.length()));
+
+		return sql;
+	}
+}
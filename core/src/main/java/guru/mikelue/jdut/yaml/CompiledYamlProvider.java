@@ -0,0 +1,53 @@
+package guru.mikelue.jdut.yaml;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The provider of YAML documents which are compiled to Java code(e.g., by annotation processor of <em>jdut-processor</em>).<br>
+ *
+ * <p>The providers are loaded by {@link java.util.ServiceLoader}, {@link YamlConductorFactory#conductResource} would use
+ * the documents provided by this interface(matched by {@link #hash hash of content}) instead of parsing the resource.</p>
+ *
+ * <p>The documents are the objects loaded by YAML:</p>
+ * <ul>
+ * 	<li>Every document is a {@link List} of nodes</li>
+ * 	<li>The name of table(<em>!sql!table</em>) is {@link guru.mikelue.jdut.yaml.node.TableNode.TableName}</li>
+ * 	<li>The mapping of YAML is {@link java.util.Map} and the sequence of YAML is {@link List}</li>
+ * </ul>
+ */
+public interface CompiledYamlProvider {
+	/**
+	 * Hashes the content of YAML, which is used to match the compiled documents.
+	 *
+	 * @param content The content of YAML
+	 *
+	 * @return The hash(SHA-256 with Base64)
+	 */
+	static String hash(String content)
+	{
+		try {
+			return Base64.getEncoder().encodeToString(
+				MessageDigest.getInstance("SHA-256")
+					.digest(content.getBytes(StandardCharsets.UTF_8))
+			);
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Gets the compiled documents by hash of content.
+	 *
+	 * @param hashOfContent The hash of content of YAML
+	 *
+	 * @return The documents or empty if this provider doesn't have the documents
+	 *
+	 * @see #hash
+	 */
+	Optional<List<List<?>>> getDocuments(String hashOfContent);
+}
@@ -0,0 +1,559 @@
+package guru.mikelue.jdut.yaml;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.composer.Composer;
+import org.yaml.snakeyaml.constructor.BaseConstructor;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.DocumentEndEvent;
+import org.yaml.snakeyaml.events.DocumentStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceEndEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.events.StreamEndEvent;
+import org.yaml.snakeyaml.events.StreamStartEvent;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import static guru.mikelue.jdut.yaml.YamlTags.NAMESPACE_SQL;
+
+/**
+ * Loads YAML by events of parser, the rows of tables are parsed while they are consumed.<br>
+ *
+ * <p>The documents are loaded without the rows of tables(the sequence of table or the <em>"data"</em> of table),
+ * every sequence of rows is parsed again(from the beginning of resource) by the supplier of stream of rows,
+ * and every row is constructed as an individual document. So there is only one row kept in memory by this loader.</p>
+ *
+ * <p>The row could use the aliases of anchors defined before it(e.g., the <em>"defines"</em> node),
+ * the events of anchored nodes are kept and prepended to the row which uses them.
+ * The sequence of rows having an anchor is not streamed.</p>
+ */
+class StreamingYamlLoader {
+	private Logger logger = LoggerFactory.getLogger(StreamingYamlLoader.class);
+
+	private final Supplier<Reader> readerSupplier;
+	private final Supplier<? extends BaseConstructor> constructorSupplier;
+
+	/**
+	 * The document loaded without rows of tables.
+	 */
+	static class Document {
+		final List<?> elements;
+		private final Set<Integer> elementsOfStreamingRows;
+		private final int indexOfDocument;
+		private final StreamingYamlLoader loader;
+
+		private Document(StreamingYamlLoader newLoader, int newIndexOfDocument, List<?> newElements, Set<Integer> newElementsOfStreamingRows)
+		{
+			loader = newLoader;
+			indexOfDocument = newIndexOfDocument;
+			elements = newElements;
+			elementsOfStreamingRows = newElementsOfStreamingRows;
+		}
+
+		/**
+		 * Gets the supplier of rows of the element, if the rows of the element are streamed.
+		 */
+		Optional<Supplier<? extends Stream<?>>> getStreamingRows(int indexOfElement)
+		{
+			if (!elementsOfStreamingRows.contains(indexOfElement)) {
+				return Optional.empty();
+			}
+
+			return Optional.of(() -> loader.streamRows(indexOfDocument, indexOfElement));
+		}
+	}
+
+	StreamingYamlLoader(Supplier<Reader> newReaderSupplier, Supplier<? extends BaseConstructor> newConstructorSupplier)
+	{
+		readerSupplier = newReaderSupplier;
+		constructorSupplier = newConstructorSupplier;
+	}
+
+	/**
+	 * Loads the documents, the rows of tables are skipped.
+	 */
+	List<Document> load()
+	{
+		List<Document> documents = new ArrayList<>(4);
+
+		try (Reader reader = readerSupplier.get()) {
+			SkippingRowsParser parser = new SkippingRowsParser(new ParserImpl(new StreamReader(reader)));
+			BaseConstructor constructor = constructorSupplier.get();
+			constructor.setComposer(new Composer(parser, new Resolver()));
+
+			for (int indexOfDocument = 0; constructor.checkData(); indexOfDocument++) {
+				List<?> elements = (List<?>)constructor.getData();
+
+				documents.add(new Document(
+					this, indexOfDocument, elements,
+					parser.positions.elementsOfStreamingRows(indexOfDocument)
+				));
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+
+		return documents;
+	}
+
+	/**
+	 * Parses the rows of element in document, every row is constructed while it is consumed.
+	 */
+	private Stream<Object> streamRows(int indexOfDocument, int indexOfElement)
+	{
+		logger.debug("Streams rows of element[{}] in document[{}]", indexOfElement, indexOfDocument);
+
+		Reader reader = readerSupplier.get();
+		RowsIterator rowsIterator = new RowsIterator(
+			new ParserImpl(new StreamReader(reader)), constructorSupplier.get(),
+			indexOfDocument, indexOfElement
+		);
+
+		return StreamSupport.stream(
+			Spliterators.spliteratorUnknownSize(rowsIterator, Spliterator.ORDERED),
+			false
+		).onClose(() -> {
+			try {
+				reader.close();
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		});
+	}
+
+	/**
+	 * Tracks the positions of events to recognize the sequences of rows.<br>
+	 *
+	 * The sequence of rows is the value of table name(<em>!sql!table</em>) in elements of document,
+	 * or the value of <em>"data"</em> in the mapping of table.
+	 */
+	private static class PositionTracker {
+		private enum Kind { Root, Element, Table, Rows, Other }
+
+		private static class Frame {
+			final Kind kind;
+			final boolean mapping;
+			boolean expectingKey = true;
+			ScalarEvent key = null;
+			int indexOfElement = -1;
+
+			Frame(Kind newKind, boolean newMapping)
+			{
+				kind = newKind;
+				mapping = newMapping;
+			}
+		}
+
+		private final Deque<Frame> frames = new ArrayDeque<>();
+		private final Map<Integer, Set<Integer>> streamingRows = new LinkedHashMap<>();
+		int indexOfDocument = -1;
+		int indexOfElement = -1;
+
+		/**
+		 * Updates the position by the event.
+		 *
+		 * @return true if the event is the start of sequence of rows
+		 */
+		boolean update(Event event)
+		{
+			if (event.is(Event.ID.DocumentStart)) {
+				indexOfDocument++;
+				indexOfElement = -1;
+				frames.clear();
+				return false;
+			}
+			if (event.is(Event.ID.SequenceEnd) || event.is(Event.ID.MappingEnd)) {
+				frames.pop();
+				return false;
+			}
+			if (!(event instanceof NodeEvent)) {
+				return false;
+			}
+
+			Frame parent = frames.peek();
+			Kind kind = Kind.Other;
+
+			if (parent == null) {
+				kind = Kind.Root;
+			} else if (parent.kind == Kind.Root) {
+				indexOfElement = ++parent.indexOfElement;
+				kind = Kind.Element;
+			} else if (parent.mapping && parent.expectingKey) {
+				parent.key = event instanceof ScalarEvent ? (ScalarEvent)event : null;
+				parent.expectingKey = false;
+			} else if (parent.mapping) {
+				parent.expectingKey = true;
+
+				if (parent.kind == Kind.Element && isTableName(parent.key)) {
+					kind = Kind.Table;
+				} else if (parent.kind == Kind.Table && parent.key != null && "data".equals(parent.key.getValue())) {
+					kind = Kind.Rows;
+				}
+			}
+
+			boolean startOfRows = false;
+			if (event.is(Event.ID.SequenceStart)) {
+				startOfRows = kind == Kind.Rows || kind == Kind.Table;
+				startOfRows &= ((NodeEvent)event).getAnchor() == null;
+
+				frames.push(new Frame(startOfRows ? Kind.Rows : kind, false));
+			} else if (event.is(Event.ID.MappingStart)) {
+				frames.push(new Frame(kind == Kind.Rows ? Kind.Other : kind, true));
+			}
+
+			if (startOfRows) {
+				streamingRows.computeIfAbsent(indexOfDocument, key -> new HashSet<>())
+					.add(indexOfElement);
+			}
+
+			return startOfRows;
+		}
+
+		Set<Integer> elementsOfStreamingRows(int indexOfDocument)
+		{
+			return streamingRows.getOrDefault(indexOfDocument, new HashSet<>());
+		}
+
+		private static boolean isTableName(ScalarEvent key)
+		{
+			return key != null && (NAMESPACE_SQL + "table").equals(key.getTag());
+		}
+	}
+
+	/**
+	 * Gives the events without the ones of rows(the sequences of rows are empty).
+	 */
+	private static class SkippingRowsParser implements Parser {
+		private final Parser sourceParser;
+		private final PositionTracker positions = new PositionTracker();
+		private final Deque<Event> pendingEvents = new ArrayDeque<>(2);
+
+		SkippingRowsParser(Parser newSourceParser)
+		{
+			sourceParser = newSourceParser;
+		}
+
+		@Override
+		public boolean checkEvent(Event.ID choice)
+		{
+			Event event = peekEvent();
+			return event != null && event.is(choice);
+		}
+		@Override
+		public Event peekEvent()
+		{
+			if (pendingEvents.isEmpty()) {
+				Event event = sourceParser.getEvent();
+				if (event == null) {
+					return null;
+				}
+
+				pendingEvents.add(event);
+
+				if (positions.update(event)) {
+					Event endOfRows = skipNode(sourceParser, 1);
+					positions.update(endOfRows);
+					pendingEvents.add(endOfRows);
+				}
+			}
+
+			return pendingEvents.peek();
+		}
+		@Override
+		public Event getEvent()
+		{
+			peekEvent();
+			return pendingEvents.poll();
+		}
+	}
+
+	/**
+	 * Iterates the rows by constructing every row as an individual document.
+	 */
+	private static class RowsIterator implements Iterator<Object> {
+		private final Parser sourceParser;
+		private final BaseConstructor constructor;
+		private final Resolver resolver = new Resolver();
+		private final AnchoredNodes anchoredNodes = new AnchoredNodes();
+		private boolean endOfRows = false;
+
+		RowsIterator(Parser newSourceParser, BaseConstructor newConstructor, int indexOfDocument, int indexOfElement)
+		{
+			sourceParser = newSourceParser;
+			constructor = newConstructor;
+
+			/**
+			 * Seeks to the sequence of rows
+			 */
+			PositionTracker positions = new PositionTracker();
+			for (Event event = sourceParser.getEvent(); ; event = sourceParser.getEvent()) {
+				if (event == null) {
+					throw new LoadingYamlException(
+						"Cannot find rows of element[%d] in document[%d]. The content of resource has been changed?",
+						indexOfElement, indexOfDocument
+					);
+				}
+
+				boolean startOfRows = positions.update(event);
+				if (startOfRows &&
+					positions.indexOfDocument == indexOfDocument &&
+					positions.indexOfElement == indexOfElement
+				) {
+					break;
+				}
+
+				anchoredNodes.record(event);
+			}
+			// :~)
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			if (endOfRows) {
+				return false;
+			}
+
+			if (sourceParser.checkEvent(Event.ID.SequenceEnd)) {
+				endOfRows = true;
+				return false;
+			}
+
+			return true;
+		}
+
+		@Override
+		public Object next()
+		{
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			List<Event> eventsOfRow = new ArrayList<>(16);
+			Event firstEvent = sourceParser.getEvent();
+			eventsOfRow.add(firstEvent);
+			anchoredNodes.record(firstEvent);
+
+			if (firstEvent.is(Event.ID.SequenceStart) || firstEvent.is(Event.ID.MappingStart)) {
+				for (int depth = 1; depth > 0; ) {
+					Event event = sourceParser.getEvent();
+					depth += depthOf(event);
+
+					eventsOfRow.add(event);
+					anchoredNodes.record(event);
+				}
+			}
+
+			return construct(eventsOfRow);
+		}
+
+		/**
+		 * The events of anchored nodes used by the row are wrapped with it in a sequence.
+		 */
+		private Object construct(List<Event> eventsOfRow)
+		{
+			List<Event> definitions = anchoredNodes.definitionsOf(eventsOfRow);
+			Event firstEvent = eventsOfRow.get(0);
+
+			List<Event> events = new ArrayList<>(eventsOfRow.size() + definitions.size() + 6);
+			events.add(new StreamStartEvent(firstEvent.getStartMark(), firstEvent.getStartMark()));
+			events.add(new DocumentStartEvent(firstEvent.getStartMark(), firstEvent.getStartMark(), false, null, null));
+			if (!definitions.isEmpty()) {
+				events.add(new SequenceStartEvent(
+					null, null, true, firstEvent.getStartMark(), firstEvent.getStartMark(), DumperOptions.FlowStyle.BLOCK
+				));
+				events.addAll(definitions);
+			}
+			events.addAll(eventsOfRow);
+			if (!definitions.isEmpty()) {
+				events.add(new SequenceEndEvent(firstEvent.getStartMark(), firstEvent.getStartMark()));
+			}
+			events.add(new DocumentEndEvent(firstEvent.getStartMark(), firstEvent.getStartMark(), false));
+			events.add(new StreamEndEvent(firstEvent.getStartMark(), firstEvent.getStartMark()));
+
+			constructor.setComposer(new Composer(new ListParser(events), resolver));
+			Object constructedObject = constructor.getSingleData(Object.class);
+
+			if (definitions.isEmpty()) {
+				return constructedObject;
+			}
+
+			List<?> wrappedObjects = (List<?>)constructedObject;
+			return wrappedObjects.get(wrappedObjects.size() - 1);
+		}
+	}
+
+	/**
+	 * Keeps the events of anchored nodes, which are used by the aliases in rows.
+	 */
+	private static class AnchoredNodes {
+		private static class Recording {
+			final List<Event> events = new ArrayList<>(8);
+			int depth = 0;
+		}
+
+		private final Map<String, List<Event>> definitions = new LinkedHashMap<>();
+		private final List<Recording> openRecordings = new ArrayList<>(2);
+		private final Map<String, Recording> recordingsOfAnchor = new LinkedHashMap<>();
+
+		void record(Event event)
+		{
+			if (event instanceof NodeEvent && !(event instanceof AliasEvent) && ((NodeEvent)event).getAnchor() != null) {
+				Recording recording = new Recording();
+				openRecordings.add(recording);
+				recordingsOfAnchor.put(((NodeEvent)event).getAnchor(), recording);
+			}
+
+			for (Iterator<Recording> recordings = openRecordings.iterator(); recordings.hasNext(); ) {
+				Recording recording = recordings.next();
+				recording.events.add(event);
+				recording.depth += depthOf(event);
+
+				if (recording.depth == 0) {
+					recordings.remove();
+				}
+			}
+
+			/**
+			 * Moves the completed recordings to definitions
+			 */
+			for (Iterator<Map.Entry<String, Recording>> entries = recordingsOfAnchor.entrySet().iterator(); entries.hasNext(); ) {
+				Map.Entry<String, Recording> entry = entries.next();
+				if (entry.getValue().depth == 0) {
+					definitions.remove(entry.getKey());
+					definitions.put(entry.getKey(), entry.getValue().events);
+					entries.remove();
+				}
+			}
+			// :~)
+		}
+
+		/**
+		 * Gets the events of definitions(in order of definition) which are used by the events of row.
+		 */
+		List<Event> definitionsOf(List<Event> eventsOfRow)
+		{
+			Set<String> usedAnchors = new HashSet<>();
+			collectAliases(eventsOfRow, usedAnchors);
+			if (usedAnchors.isEmpty()) {
+				return new ArrayList<>(0);
+			}
+
+			/**
+			 * Collects the anchors used by definitions(transitively)
+			 */
+			for (int numberOfAnchors = 0; numberOfAnchors != usedAnchors.size(); ) {
+				numberOfAnchors = usedAnchors.size();
+
+				for (String anchor: new ArrayList<>(usedAnchors)) {
+					if (definitions.containsKey(anchor)) {
+						collectAliases(definitions.get(anchor), usedAnchors);
+					}
+				}
+			}
+			// :~)
+
+			List<Event> events = new ArrayList<>(16);
+			definitions.forEach((anchor, definition) -> {
+				if (usedAnchors.contains(anchor)) {
+					events.addAll(definition);
+				}
+			});
+
+			return events;
+		}
+
+		private static void collectAliases(List<Event> events, Set<String> anchors)
+		{
+			for (Event event: events) {
+				if (event.is(Event.ID.Alias)) {
+					anchors.add(((AliasEvent)event).getAnchor());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gives the events of a list.
+	 */
+	private static class ListParser implements Parser {
+		private final Iterator<Event> events;
+		private Event currentEvent = null;
+
+		ListParser(List<Event> newEvents)
+		{
+			events = newEvents.iterator();
+		}
+
+		@Override
+		public boolean checkEvent(Event.ID choice)
+		{
+			Event event = peekEvent();
+			return event != null && event.is(choice);
+		}
+		@Override
+		public Event peekEvent()
+		{
+			if (currentEvent == null && events.hasNext()) {
+				currentEvent = events.next();
+			}
+
+			return currentEvent;
+		}
+		@Override
+		public Event getEvent()
+		{
+			Event event = peekEvent();
+			currentEvent = null;
+			return event;
+		}
+	}
+
+	private static Event skipNode(Parser parser, int depth)
+	{
+		Event event = null;
+		while (depth > 0) {
+			event = parser.getEvent();
+			depth += depthOf(event);
+		}
+
+		return event;
+	}
+
+	private static int depthOf(Event event)
+	{
+		if (event.is(Event.ID.SequenceStart) || event.is(Event.ID.MappingStart)) {
+			return 1;
+		}
+		if (event.is(Event.ID.SequenceEnd) || event.is(Event.ID.MappingEnd)) {
+			return -1;
+		}
+
+		return 0;
+	}
+}
@@ -1,8 +1,14 @@
 package guru.mikelue.jdut.yaml;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Connection;
@@ -10,12 +16,28 @@ import java.sql.JDBCType;
 import java.sql.NClob;
 import java.sql.SQLXML;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.sql.DataSource;
 
 import org.slf4j.Logger;
@@ -24,6 +46,7 @@ import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.constructor.AbstractConstruct;
 import org.yaml.snakeyaml.constructor.Construct;
 import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.nodes.MappingNode;
 import org.yaml.snakeyaml.nodes.Node;
 import org.yaml.snakeyaml.nodes.Tag;
 
@@ -31,8 +54,12 @@ import guru.mikelue.jdut.ConductorConfig;
 import guru.mikelue.jdut.ConductorContext;
 import guru.mikelue.jdut.DataConductException;
 import guru.mikelue.jdut.DataConductor;
+import guru.mikelue.jdut.DependencyPlanner;
 import guru.mikelue.jdut.DuetConductor;
 import guru.mikelue.jdut.DuetFunctions;
+import guru.mikelue.jdut.RollbackDuetConductor;
+import guru.mikelue.jdut.datagrain.SchemaTable;
+import guru.mikelue.jdut.decorate.TableSchemaLoadingDecorator;
 import guru.mikelue.jdut.jdbc.JdbcFunction;
 import guru.mikelue.jdut.jdbc.JdbcSupplier;
 import guru.mikelue.jdut.jdbc.JdbcTemplateFactory;
@@ -43,13 +70,29 @@ import guru.mikelue.jdut.yaml.node.*;
 import static guru.mikelue.jdut.yaml.YamlTags.*;
 
 /**
- * The factory used to build {@link DuetConductor} by data definition of YAML format.
+ * The factory used to build {@link DuetConductor} by data definition of YAML format.<br>
+ *
+ * <h3>Compiled fixtures</h3>
+ * <p>The resource loaded by {@link #conductResource} is parsed once and kept as compiled fixture(the nodes of documents)
+ * by this factory, keyed by the name of resource and the hash of its content.
+ * The following conducting of the same resource(with the same content) builds new {@link DuetConductor} from the compiled fixture
+ * without parsing the YAML again. If the content of resource is changed, the resource is parsed again.
+ * The compiled fixtures are kept by the instance of factory, which should be reused(e.g., one factory for a data source).</p>
+ *
+ * <p>If there is {@link CompiledYamlProvider}(loaded by {@link ServiceLoader}) providing the documents of the same content,
+ * the provided documents are used instead of parsing the resource.</p>
+ *
+ * <h3>Streaming data</h3>
+ * <p>For large resource, {@link ConductorConfig.Builder#streamingData} could be used to parse the rows of tables
+ * while they are operated by chunks of {@link guru.mikelue.jdut.operation.DataRowsOperator}, so the memory used by rows is bounded.</p>
  */
 public class YamlConductorFactory {
 	private Logger logger = LoggerFactory.getLogger(YamlConductorFactory.class);
+	private DataSource dataSource;
 	private DataConductor dataConductor;
+	private DependencyPlanner dependencyPlanner;
 	private ConductorConfig conductorConfig;
-	private Constructor jdutConstructor;
+	private final Map<String, CompiledFixture> compiledFixtures = new ConcurrentHashMap<>();
 
     /**
      * Builds factory by {@link DataSource}.<br>
@@ -103,8 +146,12 @@ public class YamlConductorFactory {
 
 		YamlConductorFactory newFactory = new YamlConductorFactory();
 		newFactory.conductorConfig = finalConfig;
-		newFactory.dataConductor = new DataConductor(dataSource);
-		newFactory.jdutConstructor = new JdutConstructor(finalConfig);
+		newFactory.dataSource = dataSource;
+		newFactory.dataConductor = new DataConductor(
+			dataSource,
+			TableSchemaLoadingDecorator.build(dataSource, finalConfig.getSchemaLoading().orElse(loadingBuilder -> {}))
+		);
+		newFactory.dependencyPlanner = new DependencyPlanner(newFactory.dataConductor.getSchemaLoadingDecorator());
 
 		return newFactory;
     }
@@ -124,7 +171,10 @@ public class YamlConductorFactory {
         return conductResource(yamlResourceName, builder -> {});
     }
     /**
-     * Builds conductor by resource of YAML.
+     * Builds conductor by resource of YAML.<br>
+	 *
+	 * If {@link ConductorConfig#getStreamingData} is true, the rows of tables are parsed while they are operated(by chunks),
+	 * the resource is read again for every table while building/cleaning, and the compiled fixture is not kept.
      *
      * @param yamlResourceName The name of resource
      * @param builderConsumer The configuration builder
@@ -137,15 +187,51 @@ public class YamlConductorFactory {
     ) {
 		final ConductorConfig finalConfig = buildConfig(builderConsumer);
 
+		if (finalConfig.getStreamingData().orElse(false)) {
+			return conduct(compileByStreaming(yamlResourceName, finalConfig), finalConfig);
+		}
+
+		final Function<String, Reader> resourceLoader = finalConfig.getResourceLoader().get();
+
+		String hashOfContent;
 		try (
-			Reader yamlReader = finalConfig.getResourceLoader().get().apply(yamlResourceName)
+			Reader yamlReader = resourceLoader.apply(yamlResourceName)
 		) {
-        	return conductYaml(
-				yamlReader, builderConsumer
-			);
+			hashOfContent = CompiledFixture.hash(yamlReader);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
+
+		/**
+		 * Parses the resource only if it is not compiled or its content is changed,
+		 * the resource is read again only for parsing at runtime
+		 */
+		CompiledFixture compiledFixture = compiledFixtures.compute(
+			yamlResourceName,
+			(name, existingFixture) -> {
+				if (existingFixture != null && existingFixture.hashOfContent.equals(hashOfContent)) {
+					return existingFixture;
+				}
+
+				Optional<List<List<?>>> providedDocuments = CompiledFixture.getProvidedDocuments(hashOfContent);
+				if (providedDocuments.isPresent()) {
+					logger.debug("Uses provided documents of resource: \"{}\"", name);
+					return compile(providedDocuments.get(), hashOfContent);
+				}
+
+				logger.debug("Compiles fixture of resource: \"{}\"", name);
+				try (
+					Reader yamlReader = resourceLoader.apply(name)
+				) {
+					return compile(yamlReader, hashOfContent);
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		);
+		// :~)
+
+		return conduct(compiledFixture, finalConfig);
     }
 
     /**
@@ -176,52 +262,122 @@ public class YamlConductorFactory {
         Reader yamlReader,
         Consumer<ConductorConfig.Builder> builderConsumer
     ) {
-		final ConductorConfig finalConfig = buildConfig(builderConsumer);
+		return conduct(compile(yamlReader, null), buildConfig(builderConsumer));
+    }
 
-		List<DuetFunctions> operationsInAllDoc = new ArrayList<>(4);
+	/**
+	 * Gets the compiled fixture of resource.
+	 */
+	Optional<CompiledFixture> getCompiledFixture(String yamlResourceName)
+	{
+		return Optional.ofNullable(compiledFixtures.get(yamlResourceName));
+	}
 
-		Yaml yaml = new Yaml(jdutConstructor);
-		for (Object object: yaml.loadAll(yamlReader)) {
-			List<?> conductorDoc = (List<?>)object;
-			logger.trace("Got [{}] conduct elements.", conductorDoc.size());
+	/**
+	 * Parses the documents of YAML to nodes, the constructor of YAML is only built for parsing at runtime.
+	 */
+	private CompiledFixture compile(Reader yamlReader, String hashOfContent)
+	{
+		Yaml yaml = new Yaml(new JdutConstructor(conductorConfig));
+		return compile(yaml.loadAll(yamlReader), hashOfContent);
+	}
+	/**
+	 * Loads the documents by events of YAML, the rows of tables are parsed while they are operated.
+	 */
+	private CompiledFixture compileByStreaming(String yamlResourceName, ConductorConfig finalConfig)
+	{
+		logger.debug("Loads resource by streaming: \"{}\"", yamlResourceName);
 
-			/**
-			 * Loads nodes and config
-			 */
-			ConfigNode configNode = new ConfigNode();
+		final Function<String, Reader> resourceLoader = finalConfig.getResourceLoader().get();
+		StreamingYamlLoader loader = new StreamingYamlLoader(
+			() -> resourceLoader.apply(yamlResourceName),
+			() -> new JdutConstructor(conductorConfig)
+		);
 
-			List<NodeBase> nodes = new ArrayList<>(8);
-			for (Object conductElement: conductorDoc) {
-				switch (NodeType.getNodeType(conductElement)) {
-					case Config:
-						configNode = new ConfigNode(conductElement);
-						break;
-					case Table:
-						nodes.add(new TableNode(conductElement));
-						break;
-					case Code:
-						nodes.add((CodeNode)conductElement);
-						break;
-					case Defines:
-						// Do nothing for defines
-						break;
-					default:
-						throw new LoadingYamlException("Unknown node: \"%s\" for conduction", conductElement);
-				}
+		List<CompiledFixture.Document> documents = new ArrayList<>(4);
+		for (StreamingYamlLoader.Document document: loader.load()) {
+			documents.add(compileDocument(document.elements, document::getStreamingRows));
+		}
+
+		return new CompiledFixture(null, documents);
+	}
+	/**
+	 * Converts the loaded documents to nodes.
+	 */
+	private CompiledFixture compile(Iterable<?> loadedDocuments, String hashOfContent)
+	{
+		List<CompiledFixture.Document> documents = new ArrayList<>(4);
+
+		for (Object object: loadedDocuments) {
+			documents.add(compileDocument((List<?>)object, indexOfElement -> Optional.empty()));
+		}
+
+		return new CompiledFixture(hashOfContent, documents);
+	}
+	/**
+	 * Converts the elements of a document to nodes.
+	 */
+	private CompiledFixture.Document compileDocument(
+		List<?> conductorDoc,
+		IntFunction<Optional<Supplier<? extends Stream<?>>>> streamingRowsOfElement
+	) {
+		logger.trace("Got [{}] conduct elements.", conductorDoc.size());
+
+		/**
+		 * Loads nodes and config
+		 */
+		ConfigNode configNode = new ConfigNode();
+
+		List<NodeBase> nodes = new ArrayList<>(8);
+		for (int i = 0; i < conductorDoc.size(); i++) {
+			Object conductElement = conductorDoc.get(i);
+
+			switch (NodeType.getNodeType(conductElement)) {
+				case Config:
+					configNode = new ConfigNode(conductElement);
+					break;
+				case Table:
+					Optional<Supplier<? extends Stream<?>>> streamingRows = streamingRowsOfElement.apply(i);
+					nodes.add(
+						streamingRows.isPresent() ?
+							new TableNode(conductElement, streamingRows.get()) :
+							new TableNode(conductElement)
+					);
+					break;
+				case Code:
+					nodes.add((CodeNode)conductElement);
+					break;
+				case Defines:
+					// Do nothing for defines
+					break;
+				default:
+					throw new LoadingYamlException("Unknown node: \"%s\" for conduction", conductElement);
 			}
-			// :~)
+		}
+		// :~)
+
+		return new CompiledFixture.Document(configNode, nodes);
+	}
+
+	/**
+	 * Builds new conductor from the compiled nodes.
+	 */
+	private DuetConductor conduct(CompiledFixture compiledFixture, ConductorConfig finalConfig)
+	{
+		List<DuetFunctionsImpleOfDoc> operationsInAllDoc = new ArrayList<>(compiledFixture.documents.size());
 
+		for (CompiledFixture.Document document: compiledFixture.documents) {
 			/**
 			 * Builds building and cleaning functions for a document
 			 */
-			final DuetFunctionsImpleOfDoc operationsInDoc =
-				new DuetFunctionsImpleOfDoc(finalConfig);
-			operationsInDoc.setTransactional(configNode.getTransactionl());
-			operationsInDoc.setTransactionIsolation(configNode.getTransactionIsolation());
+			final ConfigNode finalConfigNode = document.configNode;
 
-			final ConfigNode finalConfigNode = configNode;
+			final DuetFunctionsImpleOfDoc operationsInDoc =
+				new DuetFunctionsImpleOfDoc(finalConfig, dataConductor, dependencyPlanner);
+			operationsInDoc.setTransactional(finalConfigNode.getTransactionl());
+			operationsInDoc.setTransactionIsolation(finalConfigNode.getTransactionIsolation());
 
-			nodes.forEach(
+			document.nodes.forEach(
 				node -> { switch (node.getNodeType()) {
 					case Table:
 						operationsInDoc.add(
@@ -245,8 +401,17 @@ public class YamlConductorFactory {
 			operationsInAllDoc.add(operationsInDoc);
 		}
 
-		return new DuetConductorImplOfAssembly(dataConductor, operationsInAllDoc);
-    }
+		DuetConductor conductor = new DuetConductorImplOfAssembly(
+			dataConductor, operationsInAllDoc,
+			finalConfig.getParallelism().orElse(1)
+		);
+
+		if (finalConfig.getRollbackClean().orElse(false)) {
+			return new RollbackDuetConductor(dataSource, conductor);
+		}
+
+		return conductor;
+	}
 
 	private ConductorConfig buildConfig(Consumer<ConductorConfig.Builder> builderConsumer)
 	{
@@ -259,6 +424,114 @@ public class YamlConductorFactory {
 	}
 }
 
+/**
+ * The parsed nodes of YAML documents, which are not modified while building {@link DuetConductor}.
+ */
+class CompiledFixture {
+	final String hashOfContent;
+	final List<Document> documents;
+
+	CompiledFixture(String newHashOfContent, List<Document> newDocuments)
+	{
+		hashOfContent = newHashOfContent;
+		documents = Collections.unmodifiableList(newDocuments);
+	}
+
+	/**
+	 * Hashes the content read from the reader, which is the same as {@link CompiledYamlProvider#hash}
+	 * but the content is not kept in memory.
+	 */
+	static String hash(Reader reader) throws IOException
+	{
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+
+		/**
+		 * Encodes the characters as UTF-8 into the digest
+		 */
+		Writer digestWriter = new OutputStreamWriter(
+			new OutputStream() {
+				@Override
+				public void write(int b)
+				{
+					digest.update((byte)b);
+				}
+				@Override
+				public void write(byte[] b, int off, int len)
+				{
+					digest.update(b, off, len);
+				}
+			},
+			StandardCharsets.UTF_8
+		);
+
+		char[] buffer = new char[4096];
+		for (int numberOfChars = reader.read(buffer); numberOfChars >= 0; numberOfChars = reader.read(buffer)) {
+			digestWriter.write(buffer, 0, numberOfChars);
+		}
+		digestWriter.flush();
+		// :~)
+
+		return Base64.getEncoder().encodeToString(digest.digest());
+	}
+
+	/**
+	 * Gets the documents from the providers loaded by {@link ServiceLoader}.
+	 */
+	static Optional<List<List<?>>> getProvidedDocuments(String hashOfContent)
+	{
+		for (CompiledYamlProvider provider: ProvidersHolder.providers) {
+			Optional<List<List<?>>> documents = provider.getDocuments(hashOfContent);
+			if (documents.isPresent()) {
+				return documents;
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * The providers are loaded at first time of use, the provider which cannot be loaded(e.g., stale entry of service file
+	 * after its type is removed) is skipped.
+	 */
+	private static class ProvidersHolder {
+		private final static List<CompiledYamlProvider> providers;
+		static {
+			List<CompiledYamlProvider> loadedProviders = new ArrayList<>(4);
+			Iterator<CompiledYamlProvider> loader = ServiceLoader.load(CompiledYamlProvider.class).iterator();
+			while (true) {
+				try {
+					if (!loader.hasNext()) {
+						break;
+					}
+					loadedProviders.add(loader.next());
+				} catch (ServiceConfigurationError e) {
+					LoggerFactory.getLogger(YamlConductorFactory.class)
+						.warn("Cannot load provider of compiled YAML: {}", e.getMessage());
+				}
+			}
+
+			providers = Collections.unmodifiableList(loadedProviders);
+		}
+	}
+	// :~)
+
+	static class Document {
+		final ConfigNode configNode;
+		final List<NodeBase> nodes;
+
+		Document(ConfigNode newConfigNode, List<NodeBase> newNodes)
+		{
+			configNode = newConfigNode;
+			nodes = Collections.unmodifiableList(newNodes);
+		}
+	}
+}
+
 class JdutConstructor extends Constructor {
 	private Logger logger = LoggerFactory.getLogger(YamlConductorFactory.class);
 
@@ -492,6 +765,7 @@ class JdutConstructor extends Constructor {
 		private JdutConstruct() {}
 
 		@Override
+		@SuppressWarnings("unchecked")
 		public Object construct(Node node)
 		{
 			String tagValue = node.getTag().getValue().replace(NAMESPACE_JDUT, "");
@@ -505,10 +779,111 @@ class JdutConstructor extends Constructor {
 					return conductorConfig.getSupplier(supplierName).orElseThrow(
 						() -> new LoadingYamlException("Cannot found supplier: \"%s\"", supplierName)
 					);
+				case "generate":
+					return constructRowsGenerator(
+						(Map<String, Object>)JdutConstructor.this.yamlConstructors.get(Tag.MAP).construct(node)
+					);
 				default:
 					throw new LoadingYamlException("Cannot recgonize tag: \"%s\"", tagValue);
 			}
 		}
+
+		/**
+		 * The generator is defined by "rows", "seed", and "columns"(the expressions of columns).
+		 */
+		@SuppressWarnings("unchecked")
+		private RowsGenerator constructRowsGenerator(Map<String, Object> properties)
+		{
+			if (!properties.containsKey("rows") || !properties.containsKey("columns")) {
+				throw new LoadingYamlException("Need \"rows\" and \"columns\" for !jdut!generate");
+			}
+
+			return RowsGenerator.build(builder -> properties.forEach(
+				(key, value) -> {
+					switch (key) {
+						case "rows":
+							builder.numberOfRows(((Number)value).longValue());
+							break;
+						case "seed":
+							builder.seed(((Number)value).longValue());
+							break;
+						case "columns":
+							if (!Map.class.isInstance(value)) {
+								throw new LoadingYamlException("\"columns\" of !jdut!generate need to be !!map");
+							}
+							((Map<String, Object>)value).forEach(
+								(columnName, expression) -> generateColumn(builder, columnName, expression)
+							);
+							break;
+						default:
+							throw new LoadingYamlException("Unknown property[%s] of !jdut!generate", key);
+					}
+				}
+			));
+		}
+		@SuppressWarnings("unchecked")
+		private void generateColumn(RowsGenerator.Builder builder, String columnName, Object expression)
+		{
+			/**
+			 * Fixed value(or supplier by !jdut!supplier)
+			 */
+			if (!Map.class.isInstance(expression)) {
+				builder.value(columnName, expression);
+				return;
+			}
+			// :~)
+
+			Map<String, Object> expressionMap = (Map<String, Object>)expression;
+			if (expressionMap.size() != 1) {
+				throw new LoadingYamlException("Need exactly one expression for generated column: \"%s\"", columnName);
+			}
+
+			Map.Entry<String, Object> entry = expressionMap.entrySet().iterator().next();
+			Object argument = entry.getValue();
+			List<Object> arguments = List.class.isInstance(argument) ?
+				(List<Object>)argument : Collections.singletonList(argument);
+
+			logger.trace("Generate column: \"{}\" by [{}]", columnName, entry.getKey());
+
+			switch (entry.getKey()) {
+				case "sequence":
+					builder.sequence(
+						columnName,
+						((Number)arguments.get(0)).longValue(),
+						arguments.size() > 1 ? ((Number)arguments.get(1)).longValue() : 1
+					);
+					break;
+				case "random":
+					if (arguments.size() != 2) {
+						throw new LoadingYamlException("Need [min, max] for random value of column: \"%s\"", columnName);
+					}
+
+					Number min = (Number)arguments.get(0);
+					Number max = (Number)arguments.get(1);
+					if (Double.class.isInstance(min) || Double.class.isInstance(max)) {
+						builder.random(columnName, min.doubleValue(), max.doubleValue());
+					} else {
+						builder.random(columnName, min.longValue(), max.longValue());
+					}
+					break;
+				case "random_of":
+					builder.randomOf(columnName, arguments);
+					break;
+				case "template":
+					builder.template(columnName, (String)argument);
+					break;
+				case "supplier":
+					builder.supplier(
+						columnName,
+						conductorConfig.getSupplier((String)argument).orElseThrow(
+							() -> new LoadingYamlException("Cannot found supplier: \"%s\"", argument)
+						)
+					);
+					break;
+				default:
+					throw new LoadingYamlException("Unknown expression[%s] for generated column: \"%s\"", entry.getKey(), columnName);
+			}
+		}
 	}
 
 	private class SqlConstruct extends AbstractConstruct {
@@ -545,10 +920,60 @@ class JdutConstructor extends Constructor {
 					return conductorConfig.getJdbcFunction(functionName).orElseThrow(
 						() -> new LoadingYamlException("Cannot found JDBC function: \"%s\"", functionName)
 					);
+				case "csv":
+					return constructCsvResource(node, CsvResource.SEPARATOR_OF_CSV);
+				case "tsv":
+					return constructCsvResource(node, CsvResource.SEPARATOR_OF_TSV);
 				default:
 					throw new LoadingYamlException("Cannot recgonize tag: \"%s\"", tagValue);
 			}
 		}
+
+		/**
+		 * The resource could be defined by its name or a mapping with "resource", "separator", and "header".
+		 */
+		@SuppressWarnings("unchecked")
+		private CsvResource constructCsvResource(Node node, char defaultSeparator)
+		{
+			if (!(node instanceof MappingNode)) {
+				String resourceName = (String)JdutConstructor.this.yamlConstructors.get(Tag.STR).construct(node);
+				logger.trace("Load CSV resource: \"{}\"", resourceName);
+
+				return new CsvResource(resourceName, defaultSeparator, true);
+			}
+
+			Map<String, Object> properties = (Map<String, Object>)JdutConstructor.this.yamlConstructors.get(Tag.MAP).construct(node);
+
+			String resourceName = null;
+			char separator = defaultSeparator;
+			boolean header = true;
+			for (Map.Entry<String, Object> property: properties.entrySet()) {
+				switch (property.getKey()) {
+					case "resource":
+						resourceName = (String)property.getValue();
+						break;
+					case "separator":
+						String separatorValue = String.valueOf(property.getValue());
+						if (separatorValue.length() != 1) {
+							throw new LoadingYamlException("The \"separator\" of CSV must be one character: \"%s\"", separatorValue);
+						}
+						separator = separatorValue.charAt(0);
+						break;
+					case "header":
+						header = (Boolean)property.getValue();
+						break;
+					default:
+						throw new LoadingYamlException("Unknown property[%s] of CSV resource", property.getKey());
+				}
+			}
+
+			if (resourceName == null) {
+				throw new LoadingYamlException("Need \"resource\" of CSV");
+			}
+
+			logger.trace("Load CSV resource: \"{}\"", resourceName);
+			return new CsvResource(resourceName, separator, header);
+		}
 	}
 }
 
@@ -557,11 +982,22 @@ class DuetFunctionsImpleOfDoc implements DuetFunctions {
 	private Optional<Integer> transactionIsolation = null;
 	private Optional<SQLExceptionConvert<?>> sqlExceptionConvert = null;
 
+	private final DataConductor dataConductor;
+	private final DependencyPlanner dependencyPlanner;
+	private final boolean dependencyPlanning;
+	private List<DuetFunctions> plannedFunctions = null;
+	private List<List<DuetFunctions>> plannedLevels = null;
+
 	final List<DuetFunctions> buildFunctions = new ArrayList<>(4);
 
-	DuetFunctionsImpleOfDoc(ConductorConfig conductorConfig)
-	{
+	DuetFunctionsImpleOfDoc(
+		ConductorConfig conductorConfig,
+		DataConductor newDataConductor, DependencyPlanner newDependencyPlanner
+	) {
 		sqlExceptionConvert = conductorConfig.getSqlExceptionConvert();
+		dataConductor = newDataConductor;
+		dependencyPlanner = newDependencyPlanner;
+		dependencyPlanning = conductorConfig.getDependencyPlanning().orElse(true);
 	}
 
 	void add(DuetFunctions duetFunctions)
@@ -582,11 +1018,13 @@ class DuetFunctionsImpleOfDoc implements DuetFunctions {
 	public JdbcFunction<Connection, ?> getBuildFunction()
 	{
 		JdbcFunction<Connection, ?> mainFunction = conn -> {
-			buildFunctions.forEach(duetFunc -> duetFunc.getBuildFunction()
+			List<DuetFunctions> functions = getPlannedFunctions();
+
+			functions.forEach(duetFunc -> duetFunc.getBuildFunction()
 				.asFunction(sqlExceptionConvert.orElse(SQLExceptionConvert::runtimeException))
 				.apply(conn)
 			);
-			return buildFunctions.size();
+			return functions.size();
 		};
 
 		return wrapTransactionIfPresent(mainFunction);
@@ -595,10 +1033,12 @@ class DuetFunctionsImpleOfDoc implements DuetFunctions {
 	@Override
 	public JdbcFunction<Connection, ?> getCleanFunction()
 	{
-		final List<DuetFunctions> cleanFunctions = new ArrayList<>(buildFunctions);
-		Collections.reverse(cleanFunctions);
-
 		JdbcFunction<Connection, ?> mainFunction = conn -> {
+			final List<DuetFunctions> cleanFunctions = new ArrayList<>(
+				plannedFunctions != null ? plannedFunctions : buildFunctions
+			);
+			Collections.reverse(cleanFunctions);
+
 			cleanFunctions.forEach(duetFunc -> duetFunc.getCleanFunction()
 				.asFunction(sqlExceptionConvert.orElse(SQLExceptionConvert::runtimeException))
 				.apply(conn)
@@ -609,11 +1049,104 @@ class DuetFunctionsImpleOfDoc implements DuetFunctions {
 		return wrapTransactionIfPresent(mainFunction);
 	}
 
+	boolean isTransactional()
+	{
+		return transactional;
+	}
+
+	/**
+	 * Gets the tables of building functions, which are used to prefetch schema.
+	 */
+	List<SchemaTable> getTables()
+	{
+		List<SchemaTable> tables = new ArrayList<>(buildFunctions.size());
+		buildFunctions.forEach(duetFunc -> duetFunc.getTable().ifPresent(tables::add));
+
+		return tables;
+	}
+
+	/**
+	 * Gets the levels of building functions, the functions in the same level are independent to each other.
+	 */
+	List<List<JdbcFunction<Connection, ?>>> getBuildLevels()
+	{
+		return toJdbcFunctions(getPlannedLevels(), DuetFunctions::getBuildFunction);
+	}
+
+	/**
+	 * Gets the levels of cleaning functions, which are reversed levels of building.
+	 */
+	List<List<JdbcFunction<Connection, ?>>> getCleanLevels()
+	{
+		List<List<DuetFunctions>> cleanLevels = new ArrayList<>(getPlannedLevels());
+		Collections.reverse(cleanLevels);
+
+		return toJdbcFunctions(cleanLevels, DuetFunctions::getCleanFunction);
+	}
+
+	private List<List<JdbcFunction<Connection, ?>>> toJdbcFunctions(
+		List<List<DuetFunctions>> levels,
+		Function<DuetFunctions, JdbcFunction<Connection, ?>> functionGetter
+	) {
+		List<List<JdbcFunction<Connection, ?>>> result = new ArrayList<>(levels.size());
+
+		for (List<DuetFunctions> level: levels) {
+			List<JdbcFunction<Connection, ?>> functionsOfLevel = new ArrayList<>(level.size());
+
+			for (DuetFunctions duetFunc: level) {
+				functionsOfLevel.add(conn -> functionGetter.apply(duetFunc)
+					.asFunction(sqlExceptionConvert.orElse(SQLExceptionConvert::runtimeException))
+					.apply(conn)
+				);
+			}
+
+			result.add(functionsOfLevel);
+		}
+
+		return result;
+	}
+
+	/**
+	 * The sequence is planned(by dependencies of tables) at first time of building.<br>
+	 *
+	 * If the planning is disabled, the sequence of definitions is used.
+	 */
+	private List<DuetFunctions> getPlannedFunctions()
+	{
+		if (plannedFunctions == null) {
+			plannedFunctions = dependencyPlanning ?
+				dependencyPlanner.plan(buildFunctions) :
+				buildFunctions;
+		}
+
+		return plannedFunctions;
+	}
+
+	/**
+	 * If the planning is disabled, every function is a level of its own.
+	 */
+	private List<List<DuetFunctions>> getPlannedLevels()
+	{
+		if (plannedLevels == null) {
+			plannedLevels = dependencyPlanning ?
+				dependencyPlanner.planLevels(buildFunctions) :
+				buildFunctions.stream()
+					.map(Collections::singletonList)
+					.collect(Collectors.toList());
+		}
+
+		return plannedLevels;
+	}
+
 	private JdbcFunction<Connection, ?> wrapTransactionIfPresent(JdbcFunction<Connection, ?> ordinaryFunction)
 	{
-		if (!transactional) {
+		/**
+		 * The transaction of held connection must not be committed
+		 */
+		if (!transactional || dataConductor.hasHeldConnection()) {
 			return ordinaryFunction;
 		}
+		// :~)
 
 		if (transactionIsolation.isPresent()) {
 			return ordinaryFunction.surroundedBy(new Transactional<>(transactionIsolation.get()));
@@ -623,42 +1156,162 @@ class DuetFunctionsImpleOfDoc implements DuetFunctions {
 	}
 }
 
+/**
+ * Builds/Cleans the documents by sequence.<br>
+ *
+ * If the parallelism is greater than 1, the independent functions(the same level planned by {@link DependencyPlanner})
+ * of non-transactional document are executed by a bounded pool of threads, every thread uses its own connection.
+ * The functions are executed by sequence if there is a connection held by {@link RollbackDuetConductor}.
+ * The exceptions are joined by the sequence of functions, the first one is thrown with others as suppressed ones.
+ *
+ * Before building, the schema of all tables in documents is prefetched by {@link TableSchemaLoadingDecorator#prefetch}.
+ */
 class DuetConductorImplOfAssembly implements DuetConductor {
+	private Logger logger = LoggerFactory.getLogger(DuetConductorImplOfAssembly.class);
+
 	private final DataConductor dataConductor;
+	private final int parallelism;
 
-	final List<DuetFunctions> buildFunctions;
-	final List<DuetFunctions> cleanFunctions;
+	final List<DuetFunctionsImpleOfDoc> buildFunctions;
+	final List<DuetFunctionsImpleOfDoc> cleanFunctions;
 
-	DuetConductorImplOfAssembly(DataConductor newDataConductor, List<DuetFunctions> newFunctions)
-	{
+	DuetConductorImplOfAssembly(
+		DataConductor newDataConductor, List<DuetFunctionsImpleOfDoc> newFunctions,
+		int newParallelism
+	) {
 		buildFunctions = newFunctions;
 
-		List<DuetFunctions> reversedFunctions = new ArrayList<>(buildFunctions);
+		List<DuetFunctionsImpleOfDoc> reversedFunctions = new ArrayList<>(buildFunctions);
 		Collections.reverse(reversedFunctions);
 		cleanFunctions = reversedFunctions;
 
 		dataConductor = newDataConductor;
+		parallelism = newParallelism;
 	}
 
 	@Override
 	public void build()
 	{
-		dataConductor.conduct(
-			conn -> {
-				buildFunctions.forEach(duetFunc -> duetFunc.getBuildFunction().asFunction().apply(conn));
-				return buildFunctions.size();
-			}
-		);
+		prefetchSchema();
+
+		if (parallelism <= 1 || dataConductor.hasHeldConnection()) {
+			dataConductor.conduct(
+				conn -> {
+					buildFunctions.forEach(duetFunc -> duetFunc.getBuildFunction().asFunction().apply(conn));
+					return buildFunctions.size();
+				}
+			);
+			return;
+		}
+
+		conductInParallel(buildFunctions, DuetFunctionsImpleOfDoc::getBuildFunction, DuetFunctionsImpleOfDoc::getBuildLevels);
 	}
 
 	@Override
 	public void clean()
 	{
-		dataConductor.conduct(
-			conn -> {
-				cleanFunctions.forEach(duetFunc -> duetFunc.getCleanFunction().asFunction().apply(conn));
-				return cleanFunctions.size();
+		if (parallelism <= 1 || dataConductor.hasHeldConnection()) {
+			dataConductor.conduct(
+				conn -> {
+					cleanFunctions.forEach(duetFunc -> duetFunc.getCleanFunction().asFunction().apply(conn));
+					return cleanFunctions.size();
+				}
+			);
+			return;
+		}
+
+		conductInParallel(cleanFunctions, DuetFunctionsImpleOfDoc::getCleanFunction, DuetFunctionsImpleOfDoc::getCleanLevels);
+	}
+
+	private void prefetchSchema()
+	{
+		List<SchemaTable> tables = new ArrayList<>(8);
+		buildFunctions.forEach(doc -> tables.addAll(doc.getTables()));
+
+		if (!tables.isEmpty()) {
+			dataConductor.getSchemaLoadingDecorator().prefetch(tables);
+		}
+	}
+
+	private void conductInParallel(
+		List<DuetFunctionsImpleOfDoc> docs,
+		Function<DuetFunctionsImpleOfDoc, JdbcFunction<Connection, ?>> serialFunction,
+		Function<DuetFunctionsImpleOfDoc, List<List<JdbcFunction<Connection, ?>>>> levelsOfDoc
+	) {
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism, new ConductorThreadFactory());
+
+		try {
+			for (DuetFunctionsImpleOfDoc doc: docs) {
+				/**
+				 * The transaction of document cannot be shared by multiple connections
+				 */
+				if (doc.isTransactional()) {
+					dataConductor.conduct(serialFunction.apply(doc));
+					continue;
+				}
+				// :~)
+
+				for (List<JdbcFunction<Connection, ?>> level: levelsOfDoc.apply(doc)) {
+					conductLevel(executor, level);
+				}
 			}
-		);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void conductLevel(ExecutorService executor, List<JdbcFunction<Connection, ?>> level)
+	{
+		if (level.size() == 1) {
+			dataConductor.conduct(level.get(0));
+			return;
+		}
+
+		logger.debug("Conducts [{}] functions in parallel", level.size());
+
+		List<Future<?>> futures = new ArrayList<>(level.size());
+		for (JdbcFunction<Connection, ?> function: level) {
+			futures.add(executor.submit(() -> dataConductor.conduct(function)));
+		}
+
+		/**
+		 * Joins the results by sequence of functions
+		 */
+		RuntimeException firstException = null;
+		for (Future<?> future: futures) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				futures.forEach(f -> f.cancel(true));
+				throw new DataConductException(e);
+			} catch (ExecutionException e) {
+				RuntimeException exception = RuntimeException.class.isInstance(e.getCause()) ?
+					(RuntimeException)e.getCause() : new DataConductException(e.getCause());
+
+				if (firstException == null) {
+					firstException = exception;
+				} else {
+					firstException.addSuppressed(exception);
+				}
+			}
+		}
+
+		if (firstException != null) {
+			throw firstException;
+		}
+		// :~)
+	}
+}
+
+class ConductorThreadFactory implements ThreadFactory {
+	private final static AtomicInteger numberOfThreads = new AtomicInteger(0);
+
+	@Override
+	public Thread newThread(Runnable runnable)
+	{
+		Thread newThread = new Thread(runnable, "jdut-conductor-" + numberOfThreads.incrementAndGet());
+		newThread.setDaemon(true);
+		return newThread;
 	}
 }
@@ -0,0 +1,191 @@
+package guru.mikelue.jdut.yaml.node;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import guru.mikelue.jdut.yaml.LoadingYamlException;
+
+/**
+ * Reads records of CSV(RFC 4180) by a fixed buffer of characters.<br>
+ *
+ * <ul>
+ * 	<li>The value could be quoted by <em>'"'</em>, the quote in quoted value is escaped by <em>'""'</em>.</li>
+ * 	<li>The empty value without quotes is {@code null}, the quoted one(<em>""</em>) is empty string.</li>
+ * 	<li>The blank lines are skipped.</li>
+ * </ul>
+ */
+class CsvRecordReader implements Iterator<String[]>, Closeable {
+	private final static int SIZE_OF_BUFFER = 8192;
+	private final static int END = -1;
+
+	private final Reader reader;
+	private final char separator;
+	private final char[] buffer = new char[SIZE_OF_BUFFER];
+	private int position = 0;
+	private int limit = 0;
+
+	private final StringBuilder value = new StringBuilder(64);
+	private final List<String> values = new ArrayList<>(16);
+	private String[] nextRecord = null;
+	private int lineNumber = 1;
+
+	CsvRecordReader(Reader newReader, char newSeparator)
+	{
+		reader = newReader;
+		separator = newSeparator;
+	}
+
+	@Override
+	public boolean hasNext()
+	{
+		if (nextRecord == null) {
+			nextRecord = readRecord();
+		}
+
+		return nextRecord != null;
+	}
+
+	@Override
+	public String[] next()
+	{
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more record of CSV");
+		}
+
+		String[] currentRecord = nextRecord;
+		nextRecord = null;
+		return currentRecord;
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		reader.close();
+	}
+
+	/**
+	 * Reads values of next non-blank record.
+	 *
+	 * @return null if there is no more record
+	 */
+	private String[] readRecord()
+	{
+		while (peek() != END) {
+			values.clear();
+
+			int c;
+			do {
+				value.setLength(0);
+				boolean quoted = peek() == '"';
+
+				if (quoted) {
+					read();
+					c = readQuotedValue();
+				} else {
+					for (c = read(); c != END && c != separator && c != '\r' && c != '\n'; c = read()) {
+						value.append((char)c);
+					}
+				}
+
+				values.add(quoted || value.length() > 0 ? value.toString() : null);
+			} while (c == separator);
+
+			if (c == '\r' && peek() == '\n') {
+				read();
+			}
+			if (c != END) {
+				lineNumber++;
+			}
+
+			/**
+			 * Skips blank line
+			 */
+			if (values.size() == 1 && values.get(0) == null) {
+				continue;
+			}
+			// :~)
+
+			return values.toArray(new String[0]);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Reads the quoted value(after the opening quote).
+	 *
+	 * @return the character after the closing quote
+	 */
+	private int readQuotedValue()
+	{
+		int startLine = lineNumber;
+
+		while (true) {
+			int c = read();
+
+			if (c == END) {
+				throw new LoadingYamlException("Unclosed quote of CSV value at line: %d", startLine);
+			}
+			if (c == '"') {
+				if (peek() != '"') {
+					break;
+				}
+				read();
+			}
+			if (c == '\n') {
+				lineNumber++;
+			}
+
+			value.append((char)c);
+		}
+
+		int c = read();
+		if (c != END && c != separator && c != '\r' && c != '\n') {
+			throw new LoadingYamlException("Unexpected character['%c'] after quoted CSV value at line: %d", (char)c, lineNumber);
+		}
+
+		return c;
+	}
+
+	private int read()
+	{
+		int c = peek();
+		if (c != END) {
+			position++;
+		}
+
+		return c;
+	}
+	private int peek()
+	{
+		if (position >= limit && !fill()) {
+			return END;
+		}
+
+		return buffer[position];
+	}
+	private boolean fill()
+	{
+		try {
+			int numberOfChars;
+			do {
+				numberOfChars = reader.read(buffer);
+			} while (numberOfChars == 0);
+
+			if (numberOfChars < 0) {
+				return false;
+			}
+
+			position = 0;
+			limit = numberOfChars;
+			return true;
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
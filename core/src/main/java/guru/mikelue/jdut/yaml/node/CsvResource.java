@@ -0,0 +1,242 @@
+package guru.mikelue.jdut.yaml.node;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.commons.lang3.Validate;
+
+import guru.mikelue.jdut.datagrain.DataRow;
+import guru.mikelue.jdut.datagrain.SchemaColumn;
+import guru.mikelue.jdut.datagrain.SchemaTable;
+import guru.mikelue.jdut.yaml.LoadingYamlException;
+
+/**
+ * Defines the resource of CSV(or TSV) used as rows of table.<br>
+ *
+ * <p>The records are read while they are operated and the values(as text) are converted
+ * by the {@link JDBCType} of columns in loaded schema.</p>
+ *
+ * @see TableNode
+ */
+public class CsvResource {
+	/**
+	 * The default separator of CSV.
+	 */
+	public final static char SEPARATOR_OF_CSV = ',';
+	/**
+	 * The default separator of TSV.
+	 */
+	public final static char SEPARATOR_OF_TSV = '\t';
+
+	private final String resourceName;
+	private final char separator;
+	private final boolean header;
+
+	/**
+	 * Constructs the resource.
+	 *
+	 * @param newResourceName The name of resource, which is loaded by {@link guru.mikelue.jdut.ConductorConfig#getResourceLoader}
+	 * @param newSeparator The separator of values
+	 * @param newHeader Whether or not the first record is the names of columns
+	 */
+	public CsvResource(String newResourceName, char newSeparator, boolean newHeader)
+	{
+		Validate.notBlank(newResourceName, "Need viable name of resource");
+		Validate.isTrue(newSeparator != '"' && newSeparator != '\r' && newSeparator != '\n', "Illegal separator: '%s'", newSeparator);
+
+		resourceName = newResourceName;
+		separator = newSeparator;
+		header = newHeader;
+	}
+
+	/**
+	 * Gets the name of resource.
+	 *
+	 * @return The name of resource
+	 */
+	public String getResourceName()
+	{
+		return resourceName;
+	}
+
+	/**
+	 * Gets the separator of values.
+	 *
+	 * @return The separator
+	 */
+	public char getSeparator()
+	{
+		return separator;
+	}
+
+	/**
+	 * Whether or not the first record is the names of columns.
+	 *
+	 * @return true if the resource has header
+	 */
+	public boolean getHeader()
+	{
+		return header;
+	}
+
+	/**
+	 * Streams the rows(values as text) of resource, the stream must be closed.<br>
+	 *
+	 * If the <em>columns</em> is empty, the names of columns are read from header of resource.
+	 */
+	Stream<DataRow> streamRows(Function<String, Reader> resourceLoader, SchemaTable table, List<String> columns)
+	{
+		CsvRecordReader recordReader = new CsvRecordReader(resourceLoader.apply(resourceName), separator);
+
+		String[] namesOfColumns = columns.toArray(new String[0]);
+		if (header && recordReader.hasNext()) {
+			String[] headerRecord = recordReader.next();
+			if (namesOfColumns.length == 0) {
+				namesOfColumns = Stream.of(headerRecord)
+					.map(name -> name == null ? "" : name.trim())
+					.toArray(String[]::new);
+			}
+		}
+
+		if (namesOfColumns.length == 0) {
+			closeReader(recordReader);
+			throw new LoadingYamlException("Need \"columns\" or header of CSV: \"%s\" for table: %s", resourceName, table.getName());
+		}
+
+		final String[] finalNamesOfColumns = namesOfColumns;
+		return StreamSupport.stream(
+			Spliterators.spliteratorUnknownSize(recordReader, Spliterator.ORDERED | Spliterator.NONNULL),
+			false
+		)
+			.map(values -> toDataRow(table, finalNamesOfColumns, values))
+			.onClose(() -> closeReader(recordReader));
+	}
+
+	/**
+	 * Converts the values(as text) of row by the types of columns in loaded schema.<br>
+	 *
+	 * This decorator should be used after the loading of schema.
+	 *
+	 * @param rowBuilder The builder of row
+	 */
+	static void convertValues(DataRow.Builder rowBuilder)
+	{
+		SchemaTable table = rowBuilder.getTable();
+
+		rowBuilder.getStreamOfFields()
+			.filter(field -> !field.getDataSupplier().isPresent() && String.class.isInstance(field.getData()))
+			.collect(Collectors.toList())
+			.forEach(field -> rowBuilder.fieldOfValue(
+				field.getColumnName(),
+				convert(table.getColumn(field.getColumnName()), (String)field.getData())
+			));
+	}
+
+	/**
+	 * Converts the text of value by the type of column.<br>
+	 *
+	 * The value is kept as text if the type of column is unknown or not supported.
+	 */
+	static Object convert(SchemaColumn column, String value)
+	{
+		if (value == null || !column.getJdbcType().isPresent()) {
+			return value;
+		}
+
+		JDBCType jdbcType = column.getJdbcType().get();
+
+		try {
+			switch (jdbcType) {
+				case BIT:
+				case BOOLEAN:
+					return toBoolean(value);
+				case TINYINT:
+					return Byte.valueOf(value.trim());
+				case SMALLINT:
+					return Short.valueOf(value.trim());
+				case INTEGER:
+					return Integer.valueOf(value.trim());
+				case BIGINT:
+					return Long.valueOf(value.trim());
+				case REAL:
+					return Float.valueOf(value.trim());
+				case FLOAT:
+				case DOUBLE:
+					return Double.valueOf(value.trim());
+				case NUMERIC:
+				case DECIMAL:
+					return new BigDecimal(value.trim());
+				case DATE:
+					return Date.valueOf(value.trim());
+				case TIME:
+					return Time.valueOf(value.trim());
+				case TIMESTAMP:
+					return Timestamp.valueOf(value.trim().replace('T', ' '));
+				case BINARY:
+				case VARBINARY:
+				case LONGVARBINARY:
+					return Base64.getDecoder().decode(value.trim());
+				default:
+					return value;
+			}
+		} catch (IllegalArgumentException e) {
+			throw new LoadingYamlException(
+				"Cannot convert \"%s\" to [%s] for column: \"%s\". %s",
+				value, jdbcType, column.getName(), e.getMessage()
+			);
+		}
+	}
+
+	private DataRow toDataRow(SchemaTable table, String[] namesOfColumns, String[] values)
+	{
+		if (values.length > namesOfColumns.length) {
+			throw new LoadingYamlException(
+				"The number of values[%d] is greater than columns[%d] in CSV: \"%s\" for table: %s",
+				values.length, namesOfColumns.length, resourceName, table.getName()
+			);
+		}
+
+		return DataRow.build(builder -> {
+			builder.tableSchema(table);
+			for (int i = 0; i < values.length; i++) {
+				builder.fieldOfValue(namesOfColumns[i], values[i]);
+			}
+		});
+	}
+
+	private static void closeReader(CsvRecordReader recordReader)
+	{
+		try {
+			recordReader.close();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static Boolean toBoolean(String value)
+	{
+		switch (value.trim().toLowerCase()) {
+			case "true":
+			case "1":
+				return Boolean.TRUE;
+			case "false":
+			case "0":
+				return Boolean.FALSE;
+			default:
+				throw new IllegalArgumentException("Not a boolean value");
+		}
+	}
+}
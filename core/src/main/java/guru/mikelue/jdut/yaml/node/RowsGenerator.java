@@ -0,0 +1,309 @@
+package guru.mikelue.jdut.yaml.node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+import guru.mikelue.jdut.datagrain.DataRow;
+import guru.mikelue.jdut.datagrain.SchemaTable;
+
+/**
+ * Generates rows of table by expressions of columns, the rows are generated while they are operated.<br>
+ *
+ * <p>The random values are generated by the seed, every stream of rows(e.g., for building and cleaning)
+ * starts from the same seed, so the generated rows are the same ones, except the values from suppliers.</p>
+ *
+ * <pre><code class="java">
+ * RowsGenerator generator = RowsGenerator.build(
+ *     builder -&gt; builder
+ *         .numberOfRows(10000).seed(31)
+ *         .sequence("col_id", 1, 1)
+ *         .template("col_name", "name-%d")
+ *         .random("col_score", 1, 100)
+ * );
+ * </code></pre>
+ *
+ * @see TableNode
+ */
+public class RowsGenerator {
+	/**
+	 * Generates the value of column for a row.
+	 */
+	@FunctionalInterface
+	private interface ValueGenerator {
+		Object generate(long rowNumber, Random random);
+	}
+
+	/**
+	 * This object is fed by {@link RowsGenerator#build RowsGenerator.build} through {@link Consumer}.
+	 */
+	public class Builder {
+		private Builder() {}
+
+		/**
+		 * Sets the number of generated rows.
+		 *
+		 * @param newNumberOfRows The number of rows
+		 *
+		 * @return cascading self
+		 */
+		public Builder numberOfRows(long newNumberOfRows)
+		{
+			Validate.isTrue(newNumberOfRows >= 0, "The number of rows must be >= 0. Current: %d", newNumberOfRows);
+
+			numberOfRows = newNumberOfRows;
+			return this;
+		}
+
+		/**
+		 * Sets the seed of random values, by default, the seed is random(and fixed for this generator).
+		 *
+		 * @param newSeed The seed of random values
+		 *
+		 * @return cascading self
+		 */
+		public Builder seed(long newSeed)
+		{
+			seed = newSeed;
+			return this;
+		}
+
+		/**
+		 * Generates sequence of numbers(<em>start + step * (rowNumber - 1)</em>).<br>
+		 *
+		 * The values are {@link Integer} if the first and the last values of sequence are in range of integer,
+		 * otherwise the values are {@link Long}.
+		 *
+		 * @param columnName The name of column
+		 * @param start The number of first row
+		 * @param step The increment between rows
+		 *
+		 * @return cascading self
+		 */
+		public Builder sequence(String columnName, long start, long step)
+		{
+			/**
+			 * The type of values is decided by the final number of rows(while building the generator)
+			 */
+			return column(
+				columnName,
+				() -> {
+					boolean asInteger = isInteger(start) &&
+						isInteger(start + step * Math.max(numberOfRows - 1, 0));
+
+					return (rowNumber, random) -> {
+						long value = start + step * (rowNumber - 1);
+						return asInteger ? (Object)(int)value : (Object)value;
+					};
+				}
+			);
+			// :~)
+		}
+
+		/**
+		 * Generates random integer between <em>min</em> and <em>max</em>(inclusive).
+		 *
+		 * @param columnName The name of column
+		 * @param min The minimum value
+		 * @param max The maximum value
+		 *
+		 * @return cascading self
+		 */
+		public Builder random(String columnName, long min, long max)
+		{
+			Validate.isTrue(min <= max, "The min[%d] is greater than max[%d]", min, max);
+
+			boolean asInteger = isInteger(min) && isInteger(max);
+			long range = max - min + 1;
+
+			return column(
+				columnName,
+				(rowNumber, random) -> {
+					long value = range > 0 ?
+						min + Math.floorMod(random.nextLong(), range) :
+						random.nextLong();
+
+					return asInteger ? (Object)(int)value : (Object)value;
+				}
+			);
+		}
+
+		/**
+		 * Generates random decimal number between <em>min</em>(inclusive) and <em>max</em>(exclusive).
+		 *
+		 * @param columnName The name of column
+		 * @param min The minimum value
+		 * @param max The maximum value
+		 *
+		 * @return cascading self
+		 */
+		public Builder random(String columnName, double min, double max)
+		{
+			Validate.isTrue(min <= max, "The min[%f] is greater than max[%f]", min, max);
+
+			return column(columnName, (rowNumber, random) -> min + random.nextDouble() * (max - min));
+		}
+
+		/**
+		 * Generates value which is randomly chosen from the values.
+		 *
+		 * @param columnName The name of column
+		 * @param values The values to be chosen
+		 *
+		 * @return cascading self
+		 */
+		public Builder randomOf(String columnName, List<?> values)
+		{
+			Validate.notEmpty(values, "Need at least one value to be chosen");
+
+			final List<?> finalValues = new ArrayList<>(values);
+			return column(columnName, (rowNumber, random) -> finalValues.get(random.nextInt(finalValues.size())));
+		}
+
+		/**
+		 * Generates text by {@link String#format} with the number of row(starts from 1).
+		 *
+		 * @param columnName The name of column
+		 * @param template The template of text, e.g., <em>"name-%05d"</em>
+		 *
+		 * @return cascading self
+		 */
+		public Builder template(String columnName, String template)
+		{
+			Validate.notNull(template, "Need viable template");
+
+			return column(columnName, (rowNumber, random) -> String.format(template, rowNumber));
+		}
+
+		/**
+		 * Uses the supplier as value of every row, which is called while the row is operated.<br>
+		 *
+		 * The supplier is called again while the rows are generated for cleaning,
+		 * so it cannot be used for the keys of table({@link guru.mikelue.jdut.yaml.LoadingYamlException} is thrown while building).
+		 *
+		 * @param columnName The name of column
+		 * @param supplier The supplier of value
+		 *
+		 * @return cascading self
+		 *
+		 * @see guru.mikelue.jdut.ConductorConfig#getSupplier
+		 */
+		public Builder supplier(String columnName, Supplier<?> supplier)
+		{
+			Validate.notNull(supplier, "Need viable supplier");
+
+			return column(columnName, (rowNumber, random) -> supplier);
+		}
+
+		/**
+		 * Uses the fixed value for every row.
+		 *
+		 * @param columnName The name of column
+		 * @param value The value, could be null
+		 *
+		 * @return cascading self
+		 */
+		public Builder value(String columnName, Object value)
+		{
+			return column(columnName, (rowNumber, random) -> value);
+		}
+
+		private Builder column(String columnName, ValueGenerator generator)
+		{
+			return column(columnName, () -> generator);
+		}
+		private Builder column(String columnName, Supplier<ValueGenerator> generatorSupplier)
+		{
+			columnName = StringUtils.trimToNull(columnName);
+			Validate.notNull(columnName, "Need viable name of column");
+
+			suppliersOfGenerator.put(columnName, generatorSupplier);
+			return this;
+		}
+
+		private boolean isInteger(long value)
+		{
+			return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+		}
+	}
+
+	private long numberOfRows = 0;
+	private long seed = new Random().nextLong();
+	/**
+	 * The generators are supplied after the setting-up of builder(e.g., with the final number of rows)
+	 */
+	private Map<String, Supplier<ValueGenerator>> suppliersOfGenerator = new LinkedHashMap<>(8);
+	private Map<String, ValueGenerator> generators;
+
+	/**
+	 * Builds the generator.
+	 *
+	 * @param builderConsumer The consumer to set-up the generator
+	 *
+	 * @return The initialized generator
+	 */
+	public static RowsGenerator build(Consumer<Builder> builderConsumer)
+	{
+		RowsGenerator newGenerator = new RowsGenerator();
+		builderConsumer.accept(newGenerator.new Builder());
+
+		Validate.notEmpty(newGenerator.suppliersOfGenerator, "Need at least one column to be generated");
+
+		Map<String, ValueGenerator> generators = new LinkedHashMap<>(newGenerator.suppliersOfGenerator.size());
+		newGenerator.suppliersOfGenerator.forEach(
+			(columnName, supplier) -> generators.put(columnName, supplier.get())
+		);
+		newGenerator.generators = Collections.unmodifiableMap(generators);
+		newGenerator.suppliersOfGenerator = null;
+
+		return newGenerator;
+	}
+
+	private RowsGenerator() {}
+
+	/**
+	 * Gets the number of generated rows.
+	 *
+	 * @return The number of rows
+	 */
+	public long getNumberOfRows()
+	{
+		return numberOfRows;
+	}
+
+	/**
+	 * Gets the seed of random values.
+	 *
+	 * @return The seed
+	 */
+	public long getSeed()
+	{
+		return seed;
+	}
+
+	/**
+	 * Streams the generated rows, every stream starts from the same seed.
+	 */
+	Stream<DataRow> streamRows(SchemaTable table)
+	{
+		Random random = new Random(seed);
+
+		return LongStream.rangeClosed(1, numberOfRows)
+			.mapToObj(rowNumber -> DataRow.build(builder -> {
+				builder.tableSchema(table);
+				generators.forEach(
+					(columnName, generator) -> builder.fieldOfValue(columnName, generator.generate(rowNumber, random))
+				);
+			}));
+	}
+}
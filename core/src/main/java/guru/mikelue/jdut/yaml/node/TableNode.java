@@ -1,11 +1,16 @@
 package guru.mikelue.jdut.yaml.node;
 
+import java.io.Reader;
 import java.sql.Connection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,9 +21,12 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import guru.mikelue.jdut.ConductorConfig;
 import guru.mikelue.jdut.DataConductException;
 import guru.mikelue.jdut.DataConductor;
+import guru.mikelue.jdut.DependencyPlanner;
 import guru.mikelue.jdut.DuetFunctions;
 import guru.mikelue.jdut.datagrain.DataField;
 import guru.mikelue.jdut.datagrain.DataGrain;
+import guru.mikelue.jdut.datagrain.DataRow;
+import guru.mikelue.jdut.datagrain.SchemaTable;
 import guru.mikelue.jdut.decorate.DataGrainDecorator;
 import guru.mikelue.jdut.jdbc.JdbcFunction;
 import guru.mikelue.jdut.operation.DataGrainOperator;
@@ -78,6 +86,9 @@ public class TableNode implements NodeBase {
 	private Optional<String> decorator = Optional.empty();
 	private Config config = new Config();
 	private TableName tableName;
+	private Optional<Supplier<? extends Stream<?>>> streamingRows = Optional.empty();
+	private Optional<CsvResource> csvResource = Optional.empty();
+	private Optional<RowsGenerator> rowsGenerator = Optional.empty();
 
 	@SuppressWarnings("unchecked")
 	public TableNode(Object tableNode)
@@ -87,6 +98,24 @@ public class TableNode implements NodeBase {
 		tableName = unknownTable.keySet().stream().findFirst().get();
 		setData(unknownTable.get(tableName));
 	}
+	/**
+	 * Constructs the node whose rows are parsed while they are operated.<br>
+	 *
+	 * The rows defined in the node(sequence of table or <em>"data"</em>) are ignored,
+	 * every row given by the stream must be a {@link List}(by <em>"columns"</em>) or a {@link Map}.
+	 *
+	 * @param tableNode The loaded node of table
+	 * @param rowsSupplier The supplier gives a new stream of rows every time it is called
+	 *
+	 * @see DataGrain#streaming
+	 */
+	public TableNode(Object tableNode, Supplier<? extends Stream<?>> rowsSupplier)
+	{
+		this(tableNode);
+
+		Validate.notNull(rowsSupplier, "Need viable supplier of rows");
+		streamingRows = Optional.of(rowsSupplier);
+	}
 
 	/**
 	 * Converts this node to {@link DuetFunctions}.
@@ -102,34 +131,42 @@ public class TableNode implements NodeBase {
 		DataConductor dataConductor, ConductorConfig conductorConfig,
 		ConfigNode configNode
 	) {
-		DataGrain dataGrain = DataGrain.build(
-			tableBuilder -> tableBuilder
-				.name(tableName.name)
-				.keys(keys.toArray(new String[0])),
-			dataBuilder -> {
-				dataBuilder.implicitColumns(columns.toArray(new String[0]));
-
-				dataRows.forEach(
-					row -> {
-						if (List.class.isInstance(row)) {
-							dataBuilder.addValues(((List<Object>)row).toArray(new Object[0]));
-							return;
-						}
-						if (Map.class.isInstance(row)) {
-							dataBuilder.addFields(
-								((Map<String, Object>)row).entrySet().stream()
-									.map(entry -> dataBuilder.newField(entry.getKey(), entry.getValue()))
-									.collect(Collectors.toList())
-									.toArray(new DataField<?>[0])
-							);
-							return;
-						}
+		Consumer<SchemaTable.Builder> tableBuilderConsumer = tableBuilder -> tableBuilder
+			.name(tableName.name)
+			.keys(keys.toArray(new String[0]));
+
+		DataGrain dataGrain = csvResource.isPresent() ?
+			buildCsvDataGrain(SchemaTable.build(tableBuilderConsumer), csvResource.get(), conductorConfig) :
+			rowsGenerator.isPresent() ?
+			buildGeneratedDataGrain(SchemaTable.build(tableBuilderConsumer), rowsGenerator.get()) :
+			streamingRows.isPresent() ?
+			buildStreamingDataGrain(SchemaTable.build(tableBuilderConsumer), streamingRows.get()) :
+			DataGrain.build(
+				tableBuilderConsumer,
+				dataBuilder -> {
+					dataBuilder.implicitColumns(columns.toArray(new String[0]));
+
+					dataRows.forEach(
+						row -> {
+							if (List.class.isInstance(row)) {
+								dataBuilder.addValues(((List<Object>)row).toArray(new Object[0]));
+								return;
+							}
+							if (Map.class.isInstance(row)) {
+								dataBuilder.addFields(
+									((Map<String, Object>)row).entrySet().stream()
+										.map(entry -> dataBuilder.newField(entry.getKey(), entry.getValue()))
+										.collect(Collectors.toList())
+										.toArray(new DataField<?>[0])
+								);
+								return;
+							}
 
-						throw new LoadingYamlException("Unknown type of \"data\"[%s] for table: %s", row.getClass(), tableName.name);
-					}
-				);
-			}
-		);
+							throw new LoadingYamlException("Unknown type of \"data\"[%s] for table: %s", row.getClass(), tableName.name);
+						}
+					);
+				}
+			);
 
 		String nameOfBuilding = config.buildOperation.orElseGet(() -> configNode.getNameOfBuildOperator());
 		String nameOfCleaning = config.cleanOperation.orElseGet(() -> configNode.getNameOfCleanOperator());
@@ -162,12 +199,22 @@ public class TableNode implements NodeBase {
 		// :~)
 
 		return new DuetFunctionsImplOfDataGrain(
-			dataConductor,
+			dataConductor, SchemaTable.build(tableBuilderConsumer),
+			/**
+			 * The ordering by dependencies of tables is decided by the effect of building operator
+			 */
+			DependencyPlanner.Ordering.ofOperator(nameOfBuilding),
 			dataConductor.buildJdbcFunction(
 				dataGrain.decorate(decoratorObject),
 				conductorConfig.getOperator(nameOfBuilding).orElseThrow(
 					() -> new LoadingYamlException("Cannot found operator: \"%s\"", nameOfBuilding)
-				)
+				),
+				/**
+				 * The values of CSV are converted after the loading of schema,
+				 * the keys of other streamed rows are checked after the loading of schema
+				 */
+				csvResource.isPresent() ? CsvResource::convertValues :
+				dataGrain.isStreaming() ? this::checkKeysOfStreamedRow : null
 			),
 			conductorConfig.getOperator(nameOfCleaning).orElseThrow(
 				() -> new LoadingYamlException("Cannot found operator: \"%s\"", nameOfBuilding)
@@ -181,11 +228,107 @@ public class TableNode implements NodeBase {
 		return NodeType.Table;
 	}
 
+	private DataGrain buildCsvDataGrain(SchemaTable table, CsvResource csv, ConductorConfig conductorConfig)
+	{
+		Function<String, Reader> resourceLoader = conductorConfig.getResourceLoader().orElseThrow(
+			() -> new LoadingYamlException("Need resource loader for CSV: \"%s\"", csv.getResourceName())
+		);
+
+		return DataGrain.streaming(
+			() -> csv.streamRows(resourceLoader, table, columns)
+		);
+	}
+
+	private DataGrain buildGeneratedDataGrain(SchemaTable table, RowsGenerator generator)
+	{
+		return DataGrain.streaming(
+			() -> generator.streamRows(table)
+		);
+	}
+
+	/**
+	 * The streamed rows are streamed again for cleaning,
+	 * the value of key given by supplier would be a different one, which cannot be used to clean the built data.
+	 */
+	private void checkKeysOfStreamedRow(DataRow.Builder rowBuilder)
+	{
+		rowBuilder.getTable().getKeys().stream()
+			.filter(key -> rowBuilder.getDataSupplier(key).isPresent())
+			.findFirst()
+			.ifPresent(key -> {
+				throw new LoadingYamlException(
+					"The key[%s] of streamed rows cannot be given by supplier, the rows are streamed again for cleaning. Table: %s",
+					key, tableName.name
+				);
+			});
+	}
+
+	private DataGrain buildStreamingDataGrain(SchemaTable table, Supplier<? extends Stream<?>> rowsSupplier)
+	{
+		return DataGrain.streaming(
+			() -> rowsSupplier.get().map(row -> toDataRow(table, row))
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private DataRow toDataRow(SchemaTable table, Object row)
+	{
+		if (List.class.isInstance(row)) {
+			List<Object> values = (List<Object>)row;
+			if (values.size() > columns.size()) {
+				throw new LoadingYamlException(
+					"The number of values[%d] is greater than \"columns\"[%d] for table: %s",
+					values.size(), columns.size(), tableName.name
+				);
+			}
+
+			return DataRow.build(builder -> {
+				builder.tableSchema(table);
+				for (int i = 0; i < values.size(); i++) {
+					builder.fieldOfValue(columns.get(i), values.get(i));
+				}
+			});
+		}
+		if (Map.class.isInstance(row)) {
+			return DataRow.build(builder -> {
+				builder.tableSchema(table);
+				((Map<String, Object>)row).forEach(builder::fieldOfValue);
+			});
+		}
+
+		throw new LoadingYamlException("Unknown type of \"data\"[%s] for table: %s", row.getClass(), tableName.name);
+	}
+
+	/**
+	 * Sets the source of rows if the value is {@link CsvResource} or {@link RowsGenerator}.
+	 */
+	private boolean setSourceOfRows(Object value)
+	{
+		if (CsvResource.class.isInstance(value)) {
+			csvResource = Optional.of((CsvResource)value);
+			return true;
+		}
+		if (RowsGenerator.class.isInstance(value)) {
+			rowsGenerator = Optional.of((RowsGenerator)value);
+			return true;
+		}
+
+		return false;
+	}
+
 	@SuppressWarnings("unchecked")
 	private void setData(Object unknownData)
 	{
 		logger.trace("Load table: {}", tableName.name);
 
+		/**
+		 * Rows from resource of CSV or generator
+		 */
+		if (setSourceOfRows(unknownData)) {
+			return;
+		}
+		// :~)
+
 		/**
 		 * Simple data configuration
 		 */
@@ -204,7 +347,11 @@ public class TableNode implements NodeBase {
 						columns = (List<String>)value;
 						break;
 					case "data":
-						Validate.isTrue(List.class.isInstance(value), "\"data\" need to be !!seq");
+						if (setSourceOfRows(value)) {
+							break;
+						}
+
+						Validate.isTrue(List.class.isInstance(value), "\"data\" need to be !!seq, !sql!csv, or !jdut!generate");
 						dataRows = (List<?>)value;
 						break;
 					case "keys":
@@ -240,20 +387,35 @@ public class TableNode implements NodeBase {
 }
 
 class DuetFunctionsImplOfDataGrain implements DuetFunctions {
+	private final SchemaTable table;
+	private final DependencyPlanner.Ordering ordering;
 	private DataGrain cleanDataGrain;
 
 	private JdbcFunction<Connection, DataGrain> buildFunction;
 	private JdbcFunction<Connection, DataGrain> cleanFunction;
 
 	DuetFunctionsImplOfDataGrain(
-		DataConductor dataConductor,
+		DataConductor dataConductor, SchemaTable newTable,
+		DependencyPlanner.Ordering newOrdering,
 		JdbcFunction<Connection, DataGrain> newBuildFunction,
 		DataGrainOperator cleanOperator
 	) {
+		table = newTable;
+		ordering = newOrdering;
+
 		buildFunction = conn -> {
-			DataGrain processedDataGrain = newBuildFunction.applyJdbc(conn)
-				.reverse();
+			DataGrain processedDataGrain = newBuildFunction.applyJdbc(conn);
+
+			/**
+			 * The streaming data grain is not reversed, which would load all of the rows into memory
+			 */
+			if (processedDataGrain.isStreaming()) {
+				cleanDataGrain = processedDataGrain;
+				return processedDataGrain;
+			}
+			// :~)
 
+			processedDataGrain = processedDataGrain.reverse();
 			cleanDataGrain = processedDataGrain.reverse();
 
 			return processedDataGrain;
@@ -277,4 +439,16 @@ class DuetFunctionsImplOfDataGrain implements DuetFunctions {
 
 		return cleanFunction;
 	}
+
+	@Override
+	public Optional<SchemaTable> getTable()
+	{
+		return Optional.of(table);
+	}
+
+	@Override
+	public DependencyPlanner.Ordering getOrdering()
+	{
+		return ordering;
+	}
 }
@@ -1,14 +1,28 @@
 package guru.mikelue.jdut;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
 
 import org.apache.commons.lang3.mutable.MutableBoolean;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import guru.mikelue.jdut.assertion.ResultSetAssert;
 import guru.mikelue.jdut.datagrain.DataGrain;
+import guru.mikelue.jdut.datagrain.DataRow;
+import guru.mikelue.jdut.datagrain.SchemaTable;
+import guru.mikelue.jdut.jdbc.JdbcTemplateFactory;
+import guru.mikelue.jdut.jdbc.function.DbResultSet;
 import guru.mikelue.jdut.operation.DataGrainOperator;
+import guru.mikelue.jdut.operation.DataRowsOperator;
+import guru.mikelue.jdut.operation.DefaultOperators;
 import guru.mikelue.jdut.test.AbstractDataSourceTestBase;
 import guru.mikelue.jdut.test.DoLiquibase;
 
@@ -76,4 +90,182 @@ public class DataConductorTest extends AbstractDataSourceTestBase {
 			arguments(false)
 		};
 	}
+
+	/**
+	 * Tests the loading of schema by the conducting connection(only one connection is leased).
+	 */
+	@Test @DoLiquibase
+	public void conductWithSingleConnection()
+	{
+		AtomicInteger numberOfLeasing = new AtomicInteger(0);
+		DataConductor testedConductor = new DataConductor(buildCountingDataSource(numberOfLeasing));
+		DataGrain resultDataGrain = testedConductor.conduct(
+			DataGrain.build(
+				builder -> builder.name("tab_2"),
+				builder -> builder.implicitColumns("cp_1", "cp_2")
+					.addValues(20, "Tk")
+			),
+			(DataGrainOperator)(conn, dataGrain) -> dataGrain
+		);
+
+		assertEquals(1, numberOfLeasing.get());
+		assertEquals(2, resultDataGrain.getRow(0).getTable().getNumberOfColumns());
+	}
+
+	/**
+	 * Tests the loading of schema for parallel data grain, which is decorated by fork/join
+	 * but the schema is loaded by the conducting connection.
+	 */
+	@Test @DoLiquibase
+	public void conductParallel() throws SQLException
+	{
+		final int numberOfRows = 1000;
+
+		AtomicInteger numberOfLeasing = new AtomicInteger(0);
+		DataConductor testedConductor = new DataConductor(buildCountingDataSource(numberOfLeasing));
+		testedConductor.conduct(
+			DataGrain.build(
+				builder -> builder.name("tab_5"),
+				builder -> {
+					builder.implicitColumns("cp_1", "cp_2");
+					IntStream.range(0, numberOfRows)
+						.forEach(i -> builder.addValues(i, "v-" + i));
+				}
+			).parallel(),
+			DefaultOperators::insert,
+			rowBuilder -> rowBuilder.fieldOfValue("cp_2", "decorated")
+		);
+
+		assertEquals(1, numberOfLeasing.get());
+
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbResultSet.buildRunnable(
+				conn, "SELECT COUNT(*) FROM tab_5 WHERE cp_2 = 'decorated'",
+				rs -> new ResultSetAssert(rs)
+					.assertNextTrue()
+					.assertInt(1, numberOfRows)
+			).runJdbc()
+		).runJdbc();
+	}
+
+	/**
+	 * Tests the function of JDBC, which decorates the data grain after the loading of schema.
+	 */
+	@Test @DoLiquibase
+	public void buildJdbcFunction() throws SQLException
+	{
+		MutableBoolean decoratedWithSchema = new MutableBoolean(false);
+
+		DataConductor testedConductor = new DataConductor(getDataSource());
+		DataGrain resultDataGrain = testedConductor.conduct(
+			testedConductor.buildJdbcFunction(
+				DataGrain.build(
+					builder -> builder.name("tab_3"),
+					builder -> builder.implicitColumns("cp_1")
+						.addValues(20)
+				),
+				(DataGrainOperator)(conn, dataGrain) -> dataGrain,
+				rowBuilder -> {
+					decoratedWithSchema.setValue(rowBuilder.getTable().getNumberOfColumns() == 2);
+					rowBuilder.fieldOfValue("cp_2", "decorated");
+				}
+			)
+		);
+
+		assertTrue(decoratedWithSchema.booleanValue());
+		assertEquals(2, resultDataGrain.getRow(0).getTable().getNumberOfColumns());
+		assertEquals("decorated", resultDataGrain.getRow(0).getData("cp_2"));
+	}
+
+	/**
+	 * Tests the conducting of streaming data grain, which is inserted by chunks.
+	 */
+	@Test @DoLiquibase
+	public void conductStreaming() throws SQLException
+	{
+		final int numberOfRows = DataRowsOperator.DEFAULT_SIZE_OF_CHUNK * 2 + 10;
+
+		DataConductor testedConductor = new DataConductor(getDataSource());
+		testedConductor.conduct(
+			DataGrain.streaming(
+				() -> IntStream.range(0, numberOfRows)
+					.mapToObj(i -> DataRow.build(
+						builder -> builder
+							.tableSchema(SchemaTable.build(tableBuilder -> tableBuilder.name("tab_4")))
+							.fieldOfValue("cp_1", i)
+							.fieldOfValue("cp_2", "v-" + i)
+					))
+			),
+			DefaultOperators::batchInsert
+		);
+
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbResultSet.buildRunnable(
+				conn, "SELECT COUNT(*) FROM tab_4",
+				rs -> new ResultSetAssert(rs)
+					.assertNextTrue()
+					.assertInt(1, numberOfRows)
+			).runJdbc()
+		).runJdbc();
+	}
+
+	/**
+	 * Tests the conducting of columnar data grain, the reversed one(with the same values of decoration) is used to delete the rows.
+	 */
+	@Test @DoLiquibase
+	public void conductColumnar() throws SQLException
+	{
+		DataConductor testedConductor = new DataConductor(getDataSource());
+		DataGrain resultDataGrain = testedConductor.conduct(
+			DataGrain.buildColumnar(
+				builder -> builder.name("tab_6"),
+				builder -> {
+					builder.implicitColumns("cp_1");
+					IntStream.range(0, 100).forEach(builder::addValues);
+				}
+			).decorate(
+				rowBuilder -> rowBuilder.fieldOfValueSupplier("cp_2", () -> UUID.randomUUID().toString())
+			),
+			DefaultOperators::batchInsert
+		);
+
+		assertTrue(resultDataGrain.isColumnar());
+		assertNumberOfRows("tab_6", 100);
+
+		testedConductor.conduct(resultDataGrain.reverse(), DefaultOperators::batchDelete);
+		assertNumberOfRows("tab_6", 0);
+	}
+
+	private void assertNumberOfRows(String tableName, int expectedNumber) throws SQLException
+	{
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbResultSet.buildRunnable(
+				conn, "SELECT COUNT(*) FROM " + tableName,
+				rs -> new ResultSetAssert(rs)
+					.assertNextTrue()
+					.assertInt(1, expectedNumber)
+			).runJdbc()
+		).runJdbc();
+	}
+
+	private DataSource buildCountingDataSource(AtomicInteger numberOfLeasing)
+	{
+		return (DataSource)Proxy.newProxyInstance(
+			getClass().getClassLoader(), new Class<?>[] { DataSource.class },
+			(proxy, method, args) -> {
+				if ("getConnection".equals(method.getName())) {
+					numberOfLeasing.incrementAndGet();
+				}
+
+				try {
+					return method.invoke(getDataSource(), args);
+				} catch (InvocationTargetException e) {
+					throw e.getCause();
+				}
+			}
+		);
+	}
 }
@@ -0,0 +1,184 @@
+package guru.mikelue.jdut;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import guru.mikelue.jdut.datagrain.SchemaTable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DependencyPlannerTest {
+	private final Map<String, SchemaTable> schemaOfTables = new HashMap<>();
+	private final DependencyPlanner testedPlanner = new DependencyPlanner(
+		table -> schemaOfTables.getOrDefault(table.getName(), table)
+	);
+
+	public DependencyPlannerTest()
+	{
+		/**
+		 * t_child -> t_parent -> t_root
+		 * t_child -> t_root
+		 * t_self -> t_self
+		 * t_cycle_1 <-> t_cycle_2
+		 */
+		putTable("t_root");
+		putTable("t_parent", "t_root");
+		putTable("t_child", "t_parent", "t_root");
+		putTable("t_alone");
+		putTable("t_self", "t_self");
+		putTable("t_cycle_1", "t_cycle_2");
+		putTable("t_cycle_2", "t_cycle_1");
+		// :~)
+	}
+
+	/**
+	 * Tests the planned sequence of tables.
+	 */
+	@Test
+	public void plan()
+	{
+		assertEquals(
+			Arrays.asList("t_root", "t_parent", "t_child"),
+			testedPlanner.plan(Arrays.asList("t_child", "t_parent", "t_root"), this::toTable)
+		);
+
+		/**
+		 * Satisfied sequence is unchanged
+		 */
+		assertEquals(
+			Arrays.asList("t_alone", "t_root", "t_self", "t_parent", "t_child"),
+			testedPlanner.plan(Arrays.asList("t_alone", "t_root", "t_self", "t_parent", "t_child"), this::toTable)
+		);
+		// :~)
+
+		/**
+		 * Barrier(null) is not crossed
+		 */
+		assertEquals(
+			Arrays.asList("t_parent", null, "t_root", "t_child"),
+			testedPlanner.plan(Arrays.asList("t_parent", null, "t_child", "t_root"), this::toTable)
+		);
+		// :~)
+
+		/**
+		 * Cycle falls back to sequence of definitions
+		 */
+		assertEquals(
+			Arrays.asList("t_cycle_2", "t_root", "t_cycle_1"),
+			testedPlanner.plan(Arrays.asList("t_cycle_2", "t_root", "t_cycle_1"), this::toTable)
+		);
+		// :~)
+	}
+
+	/**
+	 * Tests the planned levels of tables.
+	 */
+	@Test
+	public void planLevels()
+	{
+		assertEquals(
+			Arrays.asList(
+				Arrays.asList("t_alone", "t_root", "t_self"),
+				Arrays.asList("t_parent", "t_self"),
+				Arrays.asList("t_child")
+			),
+			testedPlanner.planLevels(Arrays.asList("t_alone", "t_child", "t_root", "t_self", "t_parent", "t_self"), this::toTable)
+		);
+
+		/**
+		 * Barrier is a level of its own
+		 */
+		List<List<String>> levelsWithBarrier = testedPlanner.planLevels(
+			Arrays.asList("t_alone", "t_root", null, "t_parent"), this::toTable
+		);
+		assertEquals(3, levelsWithBarrier.size());
+		assertEquals(Arrays.asList("t_alone", "t_root"), levelsWithBarrier.get(0));
+		assertEquals(Arrays.asList((String)null), levelsWithBarrier.get(1));
+		assertEquals(Arrays.asList("t_parent"), levelsWithBarrier.get(2));
+		// :~)
+	}
+
+	/**
+	 * Tests the planned sequence and levels of tables by ordering.
+	 *
+	 * The names of items are prefixed by "D:"(deleting) or "?:"(unknown).
+	 */
+	@Test
+	public void planByOrdering()
+	{
+		/**
+		 * The referencing tables are first
+		 */
+		assertEquals(
+			Arrays.asList("D:t_child", "D:t_parent", "D:t_root"),
+			testedPlanner.plan(Arrays.asList("D:t_root", "D:t_child", "D:t_parent"), this::toTable, this::toOrdering)
+		);
+		assertEquals(
+			Arrays.asList(
+				Arrays.asList("D:t_child", "D:t_alone"),
+				Arrays.asList("D:t_parent"),
+				Arrays.asList("D:t_root")
+			),
+			testedPlanner.planLevels(Arrays.asList("D:t_root", "D:t_child", "D:t_alone", "D:t_parent"), this::toTable, this::toOrdering)
+		);
+		// :~)
+
+		/**
+		 * Unknown ordering is a barrier
+		 */
+		assertEquals(
+			Arrays.asList("t_child", "?:t_root", "t_parent"),
+			testedPlanner.plan(Arrays.asList("t_child", "?:t_root", "t_parent"), this::toTable, this::toOrdering)
+		);
+		// :~)
+
+		/**
+		 * Items are not moved across different ordering
+		 */
+		assertEquals(
+			Arrays.asList("t_parent", "t_child", "D:t_child", "D:t_parent"),
+			testedPlanner.plan(Arrays.asList("t_child", "t_parent", "D:t_parent", "D:t_child"), this::toTable, this::toOrdering)
+		);
+		// :~)
+	}
+
+	private Optional<SchemaTable> toTable(String tableName)
+	{
+		return Optional.ofNullable(tableName)
+			.map(name -> name.replaceFirst("^[D?]:", ""))
+			.map(name -> SchemaTable.build(builder -> builder.name(name)));
+	}
+
+	private DependencyPlanner.Ordering toOrdering(String tableName)
+	{
+		if (tableName.startsWith("D:")) {
+			return DependencyPlanner.Ordering.CHILD_FIRST;
+		}
+		if (tableName.startsWith("?:")) {
+			return DependencyPlanner.Ordering.DEFINITION;
+		}
+
+		return DependencyPlanner.Ordering.PARENT_FIRST;
+	}
+
+	private void putTable(String tableName, String... referencedTables)
+	{
+		schemaOfTables.put(
+			tableName,
+			SchemaTable.build(builder -> {
+				builder.name(tableName);
+
+				for (String referencedTable: referencedTables) {
+					builder.referencedTable(
+						SchemaTable.build(refBuilder -> refBuilder.name(referencedTable))
+					);
+				}
+			})
+		);
+	}
+}
@@ -0,0 +1,131 @@
+package guru.mikelue.jdut;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+import guru.mikelue.jdut.test.AbstractDataSourceTestBase;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class RollbackDuetConductorTest extends AbstractDataSourceTestBase {
+	private final static DuetConductor EMPTY_CONDUCTOR = new DuetConductor() {
+		@Override
+		public void build() {}
+		@Override
+		public void clean() {}
+	};
+
+	public RollbackDuetConductorTest() {}
+
+	/**
+	 * Tests the nested conductors on database which doesn't support the releasing of savepoint.
+	 */
+	@Test
+	public void cleanWithoutReleasingSavepoint()
+	{
+		DataSource testedDataSource = buildDataSource(
+			"releaseSavepoint", () -> new SQLFeatureNotSupportedException("Not supported")
+		);
+
+		RollbackDuetConductor outerConductor = new RollbackDuetConductor(testedDataSource, EMPTY_CONDUCTOR);
+		outerConductor.build();
+
+		try {
+			for (int i = 0; i < 2; i++) {
+				RollbackDuetConductor innerConductor = new RollbackDuetConductor(testedDataSource, EMPTY_CONDUCTOR);
+				innerConductor.build();
+				innerConductor.clean();
+			}
+		} finally {
+			outerConductor.clean();
+		}
+
+		assertThat(ConductorContext.getHeldConnection(testedDataSource))
+			.isEmpty();
+	}
+
+	/**
+	 * Tests the failed rolling back to savepoint, which keeps the savepoint for cleaning again.
+	 */
+	@Test
+	public void cleanAgainAfterFailedRollback()
+	{
+		AtomicInteger numberOfFailures = new AtomicInteger(1);
+		DataSource testedDataSource = buildDataSource(
+			"rollback", () -> numberOfFailures.getAndDecrement() > 0 ? new SQLException("Rollback failed") : null
+		);
+
+		RollbackDuetConductor outerConductor = new RollbackDuetConductor(testedDataSource, EMPTY_CONDUCTOR);
+		outerConductor.build();
+
+		try {
+			RollbackDuetConductor innerConductor = new RollbackDuetConductor(testedDataSource, EMPTY_CONDUCTOR);
+			innerConductor.build();
+
+			assertThatThrownBy(innerConductor::clean)
+				.isInstanceOf(DataConductException.class)
+				.hasMessageContaining("Rollback failed");
+
+			/**
+			 * The savepoint is rolled back again
+			 */
+			innerConductor.clean();
+			assertThat(numberOfFailures.get()).isEqualTo(-1);
+			// :~)
+		} finally {
+			outerConductor.clean();
+		}
+
+		assertThat(ConductorContext.getHeldConnection(testedDataSource))
+			.isEmpty();
+	}
+
+	/**
+	 * Builds data source whose connections throw exception(if the supplier gives one) while calling the method.
+	 */
+	private DataSource buildDataSource(String nameOfFailedMethod, Supplier<SQLException> exceptionSupplier)
+	{
+		return (DataSource)Proxy.newProxyInstance(
+			getClass().getClassLoader(), new Class<?>[] { DataSource.class },
+			(proxy, method, args) -> {
+				Object result = invoke(getDataSource(), method, args);
+				if (!"getConnection".equals(method.getName())) {
+					return result;
+				}
+
+				Connection connection = (Connection)result;
+				return Proxy.newProxyInstance(
+					getClass().getClassLoader(), new Class<?>[] { Connection.class },
+					(connProxy, connMethod, connArgs) -> {
+						if (nameOfFailedMethod.equals(connMethod.getName()) && connArgs != null) {
+							SQLException exception = exceptionSupplier.get();
+							if (exception != null) {
+								throw exception;
+							}
+						}
+
+						return invoke(connection, connMethod, connArgs);
+					}
+				);
+			}
+		);
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable
+	{
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
@@ -1,8 +1,17 @@
 package guru.mikelue.jdut.datagrain;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -112,4 +121,46 @@ public class DataFieldTest {
 			arguments(Optional.<Integer>empty())
 		};
 	}
+
+	/**
+	 * Tests the calling of supplier only once by concurrent threads.
+	 */
+	@Test
+	public void getDataByConcurrentThreads() throws Exception
+	{
+		AtomicInteger numberOfSupplying = new AtomicInteger(0);
+		CountDownLatch startLatch = new CountDownLatch(1);
+
+		DataField.Factory fieldFactory = new DataField.Factory(
+			SchemaTable.build(builder -> builder.name("gm_1"))
+		);
+		DataField<Integer> testedField = fieldFactory.composeDataSupplier(
+			SchemaColumn.build(builder -> builder.name("col_once")),
+			() -> {
+				numberOfSupplying.incrementAndGet();
+				return 81;
+			}
+		);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Integer>> futures = new ArrayList<>(8);
+			for (int i = 0; i < 8; i++) {
+				futures.add(executor.submit(() -> {
+					startLatch.await();
+					return testedField.getData();
+				}));
+			}
+
+			startLatch.countDown();
+
+			for (Future<Integer> future: futures) {
+				assertEquals(Integer.valueOf(81), future.get(5, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(1, numberOfSupplying.get());
+	}
 }
@@ -1,7 +1,10 @@
 package guru.mikelue.jdut.datagrain;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -63,6 +66,314 @@ public class DataGrainTest {
 		assertEquals((String)null, testedRows.get(4).getData("ct_2"));
 	}
 
+	/**
+	 * Tests the build of columnar data grain.
+	 */
+	@Test
+	public void buildColumnar()
+	{
+		DataGrain testedDataGrain = DataGrain.buildColumnar(
+			tableBuilder -> tableBuilder
+				.name("tb_thing"),
+			rowBuilder -> rowBuilder
+				.implicitColumns("ct_1", "ct_2", "ct_4")
+				.addValues(1, "BANANA-01", 10L)
+				.addValues(2, (Supplier<String>)() -> "BANANA-02", 20L)
+				.addValues(3, "BANANA-01", "Not-Long")
+				.addFields(
+					rowBuilder.newField("ct_1", 11),
+					rowBuilder.newField("ct_3", () -> "PINEAPPLE-03")
+				)
+				.addValues(null, null)
+		);
+
+		assertTrue(testedDataGrain.isColumnar());
+		assertEquals(5, testedDataGrain.getNumberOfRows());
+
+		/**
+		 * Asserts the type of vectors
+		 */
+		ColumnarRows testedRows = (ColumnarRows)testedDataGrain.getRows();
+		assertTrue(testedRows.getVector("ct_1") instanceof ColumnVector.IntVector);
+		assertTrue(testedRows.getVector("ct_2") instanceof ColumnVector.ObjectVector);
+		assertTrue(testedRows.getVector("ct_4") instanceof ColumnVector.ObjectVector);
+		// :~)
+
+		assertEquals(Integer.valueOf(1), testedDataGrain.getRow(0).getData("ct_1"));
+		assertEquals("BANANA-01", testedDataGrain.getRow(0).getData("ct_2"));
+		assertEquals(Long.valueOf(10L), testedDataGrain.getRow(0).getData("ct_4"));
+		assertEquals("BANANA-02", testedDataGrain.getRow(1).getData("ct_2"));
+		assertEquals("Not-Long", testedDataGrain.getRow(2).getData("ct_4"));
+		assertEquals(Integer.valueOf(11), testedDataGrain.getRow(3).getData("ct_1"));
+		assertEquals("PINEAPPLE-03", testedDataGrain.getRow(3).getData("ct_3"));
+		assertFalse(testedDataGrain.getRow(3).getColumns().contains("ct_2"));
+		assertNull(testedDataGrain.getRow(4).getData("ct_1"));
+		assertNull(testedDataGrain.getRow(4).getData("ct_2"));
+
+		/**
+		 * Asserts the decoration applied while getting row
+		 */
+		DataGrain decoratedDataGrain = testedDataGrain.decorate(
+			rowBuilder -> rowBuilder.fieldOfValue("ct_1", 99)
+		);
+		assertTrue(decoratedDataGrain.isColumnar());
+		assertEquals(Integer.valueOf(99), decoratedDataGrain.getRow(0).getData("ct_1"));
+		assertEquals(Integer.valueOf(1), testedDataGrain.getRow(0).getData("ct_1"));
+		// :~)
+	}
+
+	/**
+	 * Tests the decorated rows of columnar data grain, which are built only once.
+	 */
+	@Test
+	public void decorateColumnarOnce()
+	{
+		AtomicInteger numberOfDecorating = new AtomicInteger(0);
+		AtomicInteger generatedId = new AtomicInteger(0);
+
+		DataGrain decoratedDataGrain = DataGrain.buildColumnar(
+			tableBuilder -> tableBuilder
+				.name("tb_thing"),
+			rowBuilder -> rowBuilder
+				.implicitColumns("ct_1")
+				.addValues(1)
+				.addValues(2)
+		).decorate(
+			rowBuilder -> {
+				numberOfDecorating.incrementAndGet();
+				rowBuilder.fieldOfValueSupplier("ct_2", generatedId::incrementAndGet);
+			}
+		);
+
+		Object firstValue = decoratedDataGrain.getRow(0).getData("ct_2");
+		assertEquals(firstValue, decoratedDataGrain.getRow(0).getData("ct_2"));
+		assertEquals(firstValue, decoratedDataGrain.getRows().get(0).getData("ct_2"));
+		assertEquals(firstValue, decoratedDataGrain.reverse().reverse().getRow(0).getData("ct_2"));
+		assertEquals(decoratedDataGrain.getRow(1).<Integer>getData("ct_2"), decoratedDataGrain.reverse().getRow(0).<Integer>getData("ct_2"));
+
+		assertEquals(2, numberOfDecorating.get());
+		assertEquals(2, generatedId.get());
+	}
+
+	/**
+	 * Tests the decorated values of columnar data grain, which are kept by vectors instead of rows.
+	 */
+	@Test
+	public void decorateColumnarByVectors()
+	{
+		DataGrain decoratedDataGrain = DataGrain.buildColumnar(
+			tableBuilder -> tableBuilder
+				.name("tb_thing"),
+			rowBuilder -> rowBuilder
+				.implicitColumns("ct_1")
+				.addValues(1)
+				.addValues(2)
+				.addValues(3)
+		).decorate(
+			rowBuilder -> rowBuilder.fieldOfValue("ct_2", rowBuilder.<Integer>getData("ct_1").get() * 10)
+		);
+
+		/**
+		 * The row is built every time it is got
+		 */
+		assertNotSame(decoratedDataGrain.getRow(0), decoratedDataGrain.getRow(0));
+		assertEquals(Integer.valueOf(20), decoratedDataGrain.getRow(1).getData("ct_2"));
+		// :~)
+
+		/**
+		 * The reversed data grain shares the vectors of decorated values
+		 */
+		DataGrain reversedDataGrain = decoratedDataGrain.reverse();
+		assertTrue(reversedDataGrain.isColumnar());
+		assertEquals(Integer.valueOf(30), reversedDataGrain.getRow(0).getData("ct_2"));
+		assertEquals(Integer.valueOf(10), reversedDataGrain.reverse().getRow(0).getData("ct_2"));
+
+		ColumnVector vectorOfDecoratedValues = ((ColumnarRows)reversedDataGrain.getRows()).getVector("ct_2");
+		assertTrue(vectorOfDecoratedValues instanceof ColumnVector.IntVector);
+		// :~)
+	}
+
+	/**
+	 * Tests the dictionary of strings in columnar data grain.
+	 */
+	@Test
+	public void buildColumnarWithDictionary()
+	{
+		DataGrain testedDataGrain = DataGrain.buildColumnar(
+			tableBuilder -> tableBuilder
+				.name("tb_thing"),
+			rowBuilder -> {
+				rowBuilder.implicitColumns("ct_1", "ct_2");
+				for (int i = 0; i < 100; i++) {
+					rowBuilder.addValues(i * 2.5, i % 2 == 0 ? "EVEN" : "ODD");
+				}
+			}
+		);
+
+		ColumnarRows testedRows = (ColumnarRows)testedDataGrain.getRows();
+		assertTrue(testedRows.getVector("ct_1") instanceof ColumnVector.DoubleVector);
+		assertEquals(2, ((ColumnVector.StringVector)testedRows.getVector("ct_2")).getSizeOfDictionary());
+
+		assertEquals(Double.valueOf(5.0), testedDataGrain.getRow(2).getData("ct_1"));
+		assertEquals("ODD", testedDataGrain.getRow(99).getData("ct_2"));
+	}
+
+	/**
+	 * Tests the decorations applied in single pass of rows.
+	 */
+	@Test
+	public void decorateInSinglePass()
+	{
+		AtomicInteger numberOfDecorating = new AtomicInteger(0);
+
+		DataGrain sourceDataGrain = DataGrain.build(
+			tableBuilder -> tableBuilder
+				.name("tb_thing"),
+			rowBuilder -> rowBuilder
+				.implicitColumns("ct_1")
+				.addValues(1)
+				.addValues(2)
+		);
+
+		DataGrain testedDataGrain = sourceDataGrain
+			.decorate(rowBuilder -> {
+				numberOfDecorating.incrementAndGet();
+				rowBuilder.fieldOfValue("ct_1", rowBuilder.<Integer>getData("ct_1").get() * 10);
+			})
+			.decorate(rowBuilder -> {
+				numberOfDecorating.incrementAndGet();
+				rowBuilder.fieldOfValue("ct_1", rowBuilder.<Integer>getData("ct_1").get() + 1);
+			});
+
+		assertEquals(0, numberOfDecorating.get());
+
+		assertEquals(Integer.valueOf(11), testedDataGrain.getRow(0).getData("ct_1"));
+		assertEquals(Integer.valueOf(21), testedDataGrain.getRow(1).getData("ct_1"));
+		assertEquals(2, testedDataGrain.getNumberOfRows());
+		assertEquals(4, numberOfDecorating.get());
+
+		assertEquals(Integer.valueOf(1), sourceDataGrain.getRow(0).getData("ct_1"));
+	}
+
+	/**
+	 * Tests the explicit applying of pending decoration.
+	 */
+	@Test
+	public void applyDecoration()
+	{
+		AtomicInteger numberOfDecorating = new AtomicInteger(0);
+
+		DataGrain testedDataGrain = DataGrain.build(
+			tableBuilder -> tableBuilder
+				.name("tb_thing"),
+			rowBuilder -> rowBuilder
+				.implicitColumns("ct_1")
+				.addValues(1)
+				.addValues(2)
+		).decorate(rowBuilder -> numberOfDecorating.incrementAndGet());
+
+		assertSame(testedDataGrain, testedDataGrain.applyDecoration());
+		assertEquals(2, numberOfDecorating.get());
+
+		testedDataGrain.applyDecoration();
+		testedDataGrain.getRows();
+		assertEquals(2, numberOfDecorating.get());
+	}
+
+	/**
+	 * Tests the streaming data grain, which is decorated while the rows are streamed.
+	 */
+	@Test
+	public void streaming()
+	{
+		AtomicInteger numberOfSupplying = new AtomicInteger(0);
+		AtomicInteger numberOfDecorating = new AtomicInteger(0);
+
+		DataGrain testedDataGrain = DataGrain.streaming(
+			() -> {
+				numberOfSupplying.incrementAndGet();
+				return IntStream.range(0, 5)
+					.mapToObj(i -> DataRow.build(
+						builder -> builder
+							.tableSchema(SchemaTable.build(tableBuilder -> tableBuilder.name("tb_thing")))
+							.fieldOfValue("ct_1", i)
+					));
+			}
+		).decorate(rowBuilder -> {
+			numberOfDecorating.incrementAndGet();
+			rowBuilder.fieldOfValue("ct_1", rowBuilder.<Integer>getData("ct_1").get() * 10);
+		});
+
+		assertTrue(testedDataGrain.isStreaming());
+		assertEquals(0, numberOfSupplying.get());
+
+		try (Stream<DataRow> testedRows = testedDataGrain.streamOfRows()) {
+			assertArrayEquals(
+				new Object[] { 0, 10, 20, 30, 40 },
+				testedRows.map(row -> row.getData("ct_1")).toArray()
+			);
+		}
+		assertEquals(5, numberOfDecorating.get());
+
+		assertEquals(Integer.valueOf(20), testedDataGrain.getRow(2).getData("ct_1"));
+		assertEquals(5, testedDataGrain.getNumberOfRows());
+
+		/**
+		 * Aggregates with non-streaming data grain
+		 */
+		DataGrain aggregatedDataGrain = testedDataGrain.aggregate(
+			DataGrain.build(
+				tableBuilder -> tableBuilder.name("tb_thing"),
+				rowBuilder -> rowBuilder
+					.implicitColumns("ct_1")
+					.addValues(99)
+			)
+		);
+		assertTrue(aggregatedDataGrain.isStreaming());
+		assertEquals(6, aggregatedDataGrain.getRows().size());
+		assertEquals(Integer.valueOf(99), aggregatedDataGrain.getRow(5).getData("ct_1"));
+		// :~)
+	}
+
+	/**
+	 * Tests the decoration and materialization in parallel mode, the order of rows is kept.
+	 */
+	@Test
+	public void decorateInParallel()
+	{
+		final int numberOfRows = ParallelRows.SIZE_OF_RANGE * 8 + 3;
+		AtomicInteger numberOfSupplying = new AtomicInteger(0);
+
+		DataGrain testedDataGrain = DataGrain.build(
+			tableBuilder -> tableBuilder
+				.name("tb_thing"),
+			rowBuilder -> {
+				rowBuilder.implicitColumns("ct_1");
+				for (int i = 0; i < numberOfRows; i++) {
+					rowBuilder.addValues(i);
+				}
+			}
+		)
+			.parallel()
+			.decorate(rowBuilder -> rowBuilder
+				.fieldOfValue("ct_2", rowBuilder.<Integer>getData("ct_1").get() * 2)
+				.fieldOfValueSupplier("ct_3", numberOfSupplying::incrementAndGet)
+			);
+
+		assertTrue(testedDataGrain.isParallel());
+		assertEquals(0, numberOfSupplying.get());
+
+		testedDataGrain.materialize();
+		assertEquals(numberOfRows, numberOfSupplying.get());
+
+		for (int i = 0; i < numberOfRows; i++) {
+			assertEquals(Integer.valueOf(i * 2), testedDataGrain.getRow(i).getData("ct_2"));
+		}
+
+		testedDataGrain.materialize(); // The suppliers should not be called again
+		assertEquals(numberOfRows, numberOfSupplying.get());
+	}
+
 	/**
 	 * Tests aggregate.
 	 */
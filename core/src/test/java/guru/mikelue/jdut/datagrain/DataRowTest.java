@@ -1,6 +1,8 @@
 package guru.mikelue.jdut.datagrain;
 
+import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -96,6 +98,52 @@ public class DataRowTest {
 		assertEquals(Integer.valueOf(54), testedRow.getData("ct_4"));
 	}
 
+	/**
+	 * Tests the fields kept by columns of table schema.
+	 */
+	@Test
+	public void buildWithColumnsOfSchema()
+	{
+		AtomicInteger numberOfSupplying = new AtomicInteger(0);
+		SchemaTable sampleTableSchema = SchemaTable.build(tableBuilder -> tableBuilder
+			.name("gc_slots")
+			.column(SchemaColumn.build(columnBuilder -> columnBuilder.name("ct_1")))
+			.column(SchemaColumn.build(columnBuilder -> columnBuilder.name("ct_2")))
+			.column(SchemaColumn.build(columnBuilder -> columnBuilder.name("ct_3")))
+		);
+
+		DataRow sourceRow = DataRow.build(
+			builder -> builder
+				.tableSchema(SchemaTable.build(tableBuilder -> tableBuilder.name("gc_slots")))
+				.fieldOfValue("CT_1", 20)
+				.fieldOfValue("ct_2", null)
+				.fieldOfValueSupplier("ct_4", () -> numberOfSupplying.incrementAndGet())
+		);
+		DataRow testedRow = DataRow.build(
+			builder -> builder.tableSchema(sampleTableSchema),
+			sourceRow
+		);
+
+		assertEquals(3, testedRow.getColumns().size());
+		assertTrue(testedRow.getColumns().containsAll(Arrays.asList("ct_1", "ct_2", "ct_4")));
+		assertEquals(Integer.valueOf(20), testedRow.getData("ct_1"));
+		assertEquals("ct_1", testedRow.getDataField("ct_1").getColumnName());
+		assertNull(testedRow.getData("ct_2"));
+		assertThrows(IllegalArgumentException.class, () -> testedRow.getDataField("ct_3"));
+
+		/**
+		 * Asserts the supplier of field(not in schema) is called only once
+		 */
+		assertEquals(Integer.valueOf(1), testedRow.getData("ct_4"));
+		assertEquals(Integer.valueOf(1), testedRow.getData("ct_4"));
+		assertThrows(MissedColumnException.class, testedRow::validate);
+		// :~)
+
+		assertFalse(testedRow.hasAttribute("at_1"));
+		testedRow.putAttribute("at_1", "v1");
+		assertEquals("v1", testedRow.getAttribute("at_1"));
+	}
+
 	/**
 	 * Tests the validation of data row(succeeded).
 	 */
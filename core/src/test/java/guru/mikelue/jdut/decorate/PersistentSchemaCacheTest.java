@@ -0,0 +1,77 @@
+package guru.mikelue.jdut.decorate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import guru.mikelue.jdut.annotation.IfDatabaseVendor;
+import guru.mikelue.jdut.datagrain.SchemaTable;
+import guru.mikelue.jdut.jdbc.JdbcTemplateFactory;
+import guru.mikelue.jdut.jdbc.function.DbStatement;
+import guru.mikelue.jdut.test.AbstractDataSourceTestBase;
+import guru.mikelue.jdut.test.DoLiquibase;
+import guru.mikelue.jdut.vendor.DatabaseVendor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PersistentSchemaCacheTest extends AbstractDataSourceTestBase {
+	@TempDir
+	Path cacheDirectory;
+
+	public PersistentSchemaCacheTest() {}
+
+	/**
+	 * Tests the loading of schema from file saved by another decorator.
+	 */
+	@Test @DoLiquibase
+	@IfDatabaseVendor(notMatch={DatabaseVendor.Oracle, DatabaseVendor.MsSql})
+	public void loadSavedSchema() throws SQLException, IOException
+	{
+		SchemaTable sampleTable = SchemaTable.build(tableBuilder -> tableBuilder.name("pc_tab_1"));
+
+		SchemaTable savedTable = buildDecorator("v1").getSchema(sampleTable);
+		assertThat(savedTable.getNumberOfColumns()).isEqualTo(2);
+		assertThat(savedTable.getReferencedTables()).hasSize(1);
+		assertThat(Files.list(cacheDirectory).filter(file -> file.toString().endsWith(".yaml")))
+			.hasSize(1);
+
+		/**
+		 * Changes the schema, which is not seen by the same version of cache
+		 */
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbStatement.buildRunnableForStatement(
+				conn, stat -> stat.executeUpdate("ALTER TABLE pc_tab_1 ADD COLUMN pc_extra INTEGER")
+			).runJdbc()
+		).runJdbc();
+		// :~)
+
+		SchemaTable loadedTable = buildDecorator("v1").getSchema(sampleTable);
+		assertThat(loadedTable).isEqualTo(savedTable);
+		assertThat(loadedTable.getKeys()).isEqualTo(savedTable.getKeys());
+		assertThat(loadedTable.getColumn("pc_name").getNullable())
+			.isEqualTo(savedTable.getColumn("pc_name").getNullable());
+		assertThat(loadedTable.getReferencedTables()).hasSize(1);
+		assertThat(loadedTable.getReferencedTables().get(0).isSameTable(savedTable.getReferencedTables().get(0)))
+			.isTrue();
+
+		/**
+		 * New version of schema loads schema from database
+		 */
+		assertThat(buildDecorator("v2").getSchema(sampleTable).getNumberOfColumns())
+			.isEqualTo(3);
+		// :~)
+	}
+
+	private TableSchemaLoadingDecorator buildDecorator(String schemaVersion)
+	{
+		return TableSchemaLoadingDecorator.build(
+			getDataSource(),
+			builder -> builder.persistentCache(new PersistentSchemaCache(cacheDirectory, schemaVersion))
+		);
+	}
+}
@@ -0,0 +1,149 @@
+package guru.mikelue.jdut.decorate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+import mockit.Mocked;
+import org.junit.jupiter.api.Test;
+
+import guru.mikelue.jdut.datagrain.SchemaTable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SchemaRegistryTest {
+	public SchemaRegistryTest() {}
+
+	/**
+	 * Tests the single loading of a table by concurrent threads.
+	 */
+	@Test
+	public void getSchemaByConcurrentThreads() throws Exception
+	{
+		SchemaRegistry testedRegistry = new SchemaRegistry();
+
+		AtomicInteger numberOfLoading = new AtomicInteger(0);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+			List<Future<SchemaTable>> futures = new ArrayList<>(8);
+			for (int i = 0; i < 8; i++) {
+				futures.add(executor.submit(() -> {
+					startLatch.await();
+					return testedRegistry.getSchema(
+						buildTable("tab_1"),
+						table -> {
+							numberOfLoading.incrementAndGet();
+							sleep();
+							return table;
+						}
+					);
+				}));
+			}
+
+			startLatch.countDown();
+
+			SchemaTable firstResult = futures.get(0).get(5, TimeUnit.SECONDS);
+			for (Future<SchemaTable> future: futures) {
+				assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(firstResult);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(numberOfLoading.get()).isEqualTo(1);
+	}
+
+	/**
+	 * Tests the eviction of least-recently used table.
+	 */
+	@Test
+	public void evictLeastRecentlyUsed()
+	{
+		SchemaRegistry testedRegistry = new SchemaRegistry(2);
+
+		testedRegistry.getSchema(buildTable("tab_1"), table -> table);
+		testedRegistry.getSchema(buildTable("tab_2"), table -> table);
+		testedRegistry.getSchema(buildTable("tab_1"), table -> table); // Accesses tab_1
+		testedRegistry.getSchema(buildTable("tab_3"), table -> table);
+
+		assertThat(testedRegistry.size()).isEqualTo(2);
+		assertThat(testedRegistry.getLoadedSchema(buildTable("tab_1"))).isPresent();
+		assertThat(testedRegistry.getLoadedSchema(buildTable("tab_2"))).isNotPresent();
+		assertThat(testedRegistry.getLoadedSchema(buildTable("tab_3"))).isPresent();
+	}
+
+	/**
+	 * Tests the invalidation of tables.
+	 */
+	@Test
+	public void invalidate()
+	{
+		SchemaRegistry testedRegistry = new SchemaRegistry();
+
+		testedRegistry.getSchema(buildTable("tab_1"), table -> table);
+		testedRegistry.getSchema(
+			SchemaTable.build(builder -> builder.name("tab_1").keys("id")),
+			table -> table
+		);
+		testedRegistry.getSchema(buildTable("tab_2"), table -> table);
+
+		testedRegistry.invalidate(buildTable("TAB_1"));
+		assertThat(testedRegistry.size()).isEqualTo(1);
+		assertThat(testedRegistry.getLoadedSchema(buildTable("tab_2"))).isPresent();
+
+		testedRegistry.invalidateAll();
+		assertThat(testedRegistry.size()).isEqualTo(0);
+	}
+
+	/**
+	 * Tests the reloading after failed loading.
+	 */
+	@Test
+	public void getSchemaAfterFailure()
+	{
+		SchemaRegistry testedRegistry = new SchemaRegistry();
+
+		assertThatThrownBy(
+			() -> testedRegistry.getSchema(buildTable("tab_1"), table -> { throw new IllegalStateException("Failed"); })
+		).isInstanceOf(IllegalStateException.class);
+
+		assertThat(testedRegistry.size()).isEqualTo(0);
+		assertThat(testedRegistry.getSchema(buildTable("tab_1"), table -> table).getName())
+			.isEqualTo("tab_1");
+	}
+
+	/**
+	 * Tests the shared registry by identity of data source.
+	 */
+	@Test
+	public void shared(
+		@Mocked DataSource dataSource1, @Mocked DataSource dataSource2
+	) {
+		assertThat(SchemaRegistry.shared(dataSource1))
+			.isSameAs(SchemaRegistry.shared(dataSource1))
+			.isNotSameAs(SchemaRegistry.shared(dataSource2));
+	}
+
+	private static SchemaTable buildTable(String name)
+	{
+		return SchemaTable.build(builder -> builder.name(name));
+	}
+
+	private static void sleep()
+	{
+		try {
+			Thread.sleep(100);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.sql.JDBCType;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -76,6 +77,48 @@ public class TableSchemaLoadingDecoratorTest extends AbstractDataSourceTestBase
 		assertColumn(tableSchema, "col_varchar_2", JDBCType.VARCHAR, false, true);
 	}
 
+	/**
+	 * Tests the prefetching of tables and the whole schema.
+	 */
+	@Test @DoLiquibase
+	public void prefetch()
+	{
+		SchemaTable sampleTable1 = SchemaTable.build(tableBuilder -> tableBuilder.name("pf_tab_1"));
+		SchemaTable sampleTable2 = SchemaTable.build(tableBuilder -> tableBuilder.name("pf_tab_2"));
+
+		SchemaTable expectedTable1 = new TableSchemaLoadingDecorator(getDataSource()).getSchema(sampleTable1);
+		SchemaTable expectedTable2 = new TableSchemaLoadingDecorator(getDataSource()).getSchema(sampleTable2);
+
+		/**
+		 * Prefetches tables
+		 */
+		TableSchemaLoadingDecorator testedDecorator = new TableSchemaLoadingDecorator(getDataSource());
+		testedDecorator.prefetch(Arrays.asList(sampleTable1, sampleTable2, sampleTable1));
+
+		assertPrefetchedTable(expectedTable1, testedDecorator.getSchema(sampleTable1));
+		assertPrefetchedTable(expectedTable2, testedDecorator.getSchema(sampleTable2));
+		assertColumn(testedDecorator.getSchema(sampleTable2), "pf2_value", JDBCType.VARCHAR, false, true);
+		// :~)
+
+		/**
+		 * Prefetches current schema
+		 */
+		testedDecorator = new TableSchemaLoadingDecorator(getDataSource());
+		testedDecorator.prefetchSchema(null, null);
+
+		assertPrefetchedTable(expectedTable1, testedDecorator.getSchema(sampleTable1));
+		assertPrefetchedTable(expectedTable2, testedDecorator.getSchema(sampleTable2));
+		// :~)
+	}
+	private void assertPrefetchedTable(SchemaTable expectedTable, SchemaTable prefetchedTable)
+	{
+		assertThat(prefetchedTable).isEqualTo(expectedTable);
+		assertThat(prefetchedTable.getColumns())
+			.containsExactlyInAnyOrderElementsOf(expectedTable.getColumns());
+		assertThat(prefetchedTable.getReferencedTables())
+			.hasSameSizeAs(expectedTable.getReferencedTables());
+	}
+
 	private void assertColumn(
 		SchemaTable tableSchema, String columnName, JDBCType expectedType,
 		Boolean isNullable, boolean hasDefaultValue
@@ -0,0 +1,139 @@
+package guru.mikelue.jdut.jdbc.function;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import mockit.Expectations;
+import mockit.Mocked;
+import mockit.Verifications;
+import org.junit.jupiter.api.Test;
+
+import guru.mikelue.jdut.jdbc.JdbcFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatementCacheTest {
+	@Mocked
+	private Connection mockedConn;
+	@Mocked
+	private PreparedStatement mockedStatement;
+
+	public StatementCacheTest() {}
+
+	/**
+	 * Tests the reusing of statements in scope of cache.
+	 */
+	@Test
+	public void scoped() throws SQLException
+	{
+		JdbcFunction<Connection, StatementCache> sampleFunc = conn -> {
+			for (int i = 0; i < 3; i++) {
+				DbStatement.buildRunnableForPreparedStatement(
+					conn, "SELECT 1", stat -> stat.executeQuery()
+				).runJdbc();
+			}
+
+			/**
+			 * Nested usage of same SQL gets non-cached statement
+			 */
+			DbStatement.buildRunnableForPreparedStatement(
+				conn, "SELECT 2",
+				stat -> DbStatement.buildRunnableForPreparedStatement(
+					conn, "SELECT 2", nestedStat -> nestedStat.executeUpdate()
+				).runJdbc()
+			).runJdbc();
+			// :~)
+
+			return StatementCache.current(conn).get();
+		};
+
+		StatementCache testedCache = sampleFunc
+			.surroundedBy(StatementCache::scoped)
+			.applyJdbc(mockedConn);
+
+		assertEquals(2, testedCache.getNumberOfHits());
+		assertEquals(3, testedCache.getNumberOfMisses());
+		assertFalse(StatementCache.current().isPresent());
+
+		new Verifications() {{
+			mockedConn.prepareStatement("SELECT 1");
+			times = 1;
+
+			mockedConn.prepareStatement("SELECT 2");
+			times = 2;
+
+			mockedStatement.close();
+			times = 3;
+		}};
+	}
+
+	/**
+	 * Tests the clearing of statement before it is returned to cache,
+	 * the statement which cannot be cleared is evicted.
+	 */
+	@Test
+	public void clearStatement() throws SQLException
+	{
+		new Expectations() {{
+			mockedStatement.clearBatch();
+			result = null;
+			result = new SQLException("Cannot clear");
+			result = null;
+		}};
+
+		JdbcFunction<Connection, StatementCache> sampleFunc = conn -> {
+			for (int i = 0; i < 3; i++) {
+				DbStatement.buildRunnableForPreparedStatement(
+					conn, "INSERT INTO tab_1 VALUES(?)",
+					stat -> {
+						stat.setInt(1, 10);
+						stat.addBatch();
+						stat.executeBatch();
+					}
+				).runJdbc();
+			}
+
+			return StatementCache.current(conn).get();
+		};
+
+		StatementCache testedCache = sampleFunc
+			.surroundedBy(StatementCache::scoped)
+			.applyJdbc(mockedConn);
+
+		assertEquals(1, testedCache.getNumberOfHits());
+		assertEquals(2, testedCache.getNumberOfMisses());
+
+		new Verifications() {{
+			mockedStatement.clearBatch();
+			times = 3;
+			mockedStatement.clearParameters();
+			times = 2;
+
+			mockedStatement.close();
+			times = 2;
+		}};
+	}
+
+	/**
+	 * Tests the closing of statement without cache.
+	 */
+	@Test
+	public void noCache() throws SQLException
+	{
+		DbStatement.buildRunnableForPreparedStatement(
+			mockedConn, "SELECT 1", stat -> stat.executeQuery()
+		).runJdbc();
+		DbStatement.buildRunnableForPreparedStatement(
+			mockedConn, "SELECT 1", stat -> stat.executeQuery()
+		).runJdbc();
+
+		new Verifications() {{
+			mockedConn.prepareStatement("SELECT 1");
+			times = 2;
+
+			mockedStatement.close();
+			times = 2;
+		}};
+	}
+}
@@ -0,0 +1,84 @@
+package guru.mikelue.jdut.jdbc.util;
+
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import mockit.Mocked;
+import mockit.Verifications;
+
+import guru.mikelue.jdut.datagrain.DataRow;
+import guru.mikelue.jdut.datagrain.SchemaColumn;
+import guru.mikelue.jdut.datagrain.SchemaTable;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class DataRowBinderTest {
+	@Mocked
+	private PreparedStatement mockStatement;
+
+	public DataRowBinderTest() {}
+
+	/**
+	 * Tests the binding of rows by compiled binders of columns.
+	 */
+	@Test
+	void bind() throws SQLException
+	{
+		SchemaTable sampleTable = SchemaTable.build(tableBuilder -> tableBuilder
+			.name("gb_1")
+			.column(SchemaColumn.build(columnBuilder -> columnBuilder.name("col_id").jdbcType(JDBCType.INTEGER)))
+			.column(SchemaColumn.build(columnBuilder -> columnBuilder.name("col_name").jdbcType(JDBCType.NVARCHAR)))
+			.column(SchemaColumn.build(columnBuilder -> columnBuilder.name("col_data").jdbcType(JDBCType.VARBINARY)))
+		);
+
+		DataRowBinder testedBinder = DataRowBinder.compile(
+			sampleTable, Arrays.asList("col_id", "col_name", "col_data")
+		);
+		assertThat(testedBinder.getNumberOfParameters()).isEqualTo(3);
+
+		byte[] sampleBytes = new byte[] { 1, 2 };
+		int nextParamIndex = testedBinder.bind(
+			mockStatement,
+			DataRow.build(builder -> builder
+				.tableSchema(sampleTable)
+				.fieldOfValue("col_id", 10)
+				.fieldOfValue("col_name", "Joe")
+				.fieldOfValue("col_data", sampleBytes)
+			),
+			1
+		);
+		assertThat(nextParamIndex).isEqualTo(4);
+
+		testedBinder.bind(
+			mockStatement,
+			DataRow.build(builder -> builder
+				.tableSchema(sampleTable)
+				.fieldOfValue("col_id", 11L)
+				.fieldOfValue("col_name", null)
+				.fieldOfValue("col_data", null)
+			),
+			4
+		);
+
+		new Verifications() {{
+			mockStatement.setInt(1, 10);
+			times = 1;
+			mockStatement.setNString(2, "Joe");
+			times = 1;
+			mockStatement.setBytes(3, sampleBytes);
+			times = 1;
+
+			mockStatement.setLong(4, 11L);
+			times = 1;
+			mockStatement.setNull(5, Types.NVARCHAR);
+			times = 1;
+			mockStatement.setNull(6, Types.VARBINARY);
+			times = 1;
+		}};
+	}
+}
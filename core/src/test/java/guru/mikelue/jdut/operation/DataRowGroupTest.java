@@ -0,0 +1,53 @@
+package guru.mikelue.jdut.operation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import guru.mikelue.jdut.datagrain.DataGrain;
+import guru.mikelue.jdut.datagrain.DataRow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DataRowGroupTest {
+	public DataRowGroupTest() {}
+
+	/**
+	 * Tests the grouping of consecutive rows.
+	 */
+	@Test
+	public void groupConsecutive()
+	{
+		List<DataRow> rows = DataGrain.build(
+			builder -> builder.name("tab_gp_1"),
+			builder -> builder
+				.implicitColumns("gc_1", "gc_2")
+				.addValues(1, "V1")
+				.addValues(2, "V2")
+				.implicitColumns("gc_2", "gc_1") // Same set of columns
+				.addValues("V3", 3)
+				.implicitColumns("gc_1")
+				.addValues(4)
+				.implicitColumns("gc_1", "gc_2")
+				.addValues(5, "V5")
+		).aggregate(DataGrain.build(
+			builder -> builder.name("tab_gp_2"),
+			builder -> builder
+				.implicitColumns("gc_1")
+				.addValues(6)
+		)).getRows();
+
+		List<DataRowGroup> testedGroups = DataRowGroup.groupConsecutive(rows);
+
+		assertEquals(
+			Arrays.asList(3, 1, 1, 1),
+			testedGroups.stream()
+				.map(group -> group.getRows().size())
+				.collect(Collectors.toList())
+		);
+		assertEquals("tab_gp_2", testedGroups.get(3).getTable().getName());
+		assertEquals(2, testedGroups.get(0).getColumns().size());
+	}
+}
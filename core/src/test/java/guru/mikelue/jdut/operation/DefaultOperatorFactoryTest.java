@@ -10,6 +10,8 @@ import javax.sql.DataSource;
 
 import mockit.Mocked;
 import mockit.Expectations;
+import mockit.Verifications;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -92,6 +94,42 @@ public class DefaultOperatorFactoryTest {
 			// :~)
 		};
 	}
+	/**
+	 * Tests the resolving of operators, which touches database only once.
+	 */
+	@Test
+	public void getWithResolvedOperators() throws SQLException
+	{
+		new Expectations() {{
+			mockDataSource.getConnection().getMetaData();
+			result = mockMetaData;
+
+			mockMetaData.getDatabaseProductName();
+			result = "match-1";
+		}};
+
+		CallingTracer tracer = new CallingTracer();
+		OperatorFactory testedFactory = DefaultOperatorFactory.build(
+			mockDataSource,
+			builder -> builder
+				.add(
+					metaData -> metaData.getDatabaseProductName().equals("match-1"),
+					buildSampleOperators(tracer::grainInsert1, null)
+				)
+		);
+
+		testedFactory.get(DefaultOperators.INSERT).operate(null, null);
+		assertTrue(tracer.insert1);
+		assertNotNull(testedFactory.get(DefaultOperators.UPDATE)); // The defined one
+		assertNotNull(testedFactory.get(DefaultOperators.DELETE));
+		assertNull(testedFactory.get("no-such-operator"));
+
+		new Verifications() {{
+			mockDataSource.getConnection();
+			times = 1;
+		}};
+	}
+
 	private Map<String, DataGrainOperator> buildSampleOperators(
 		DataGrainOperator insertOperator, DataGrainOperator updateOperator
 	) {
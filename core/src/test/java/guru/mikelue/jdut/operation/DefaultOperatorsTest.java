@@ -82,6 +82,175 @@ public class DefaultOperatorsTest extends AbstractDataSourceTestBase {
 		// :~)
 	}
 
+	/**
+	 * Tests the default batch insert.
+	 */
+	@Test @DoLiquibase
+	public void batchInsert() throws SQLException
+	{
+		final DataGrain dataGrain = DataGrain.build(
+			builder -> builder.name("do_batch_insert"),
+			builder -> {
+				builder.implicitColumns("bi_id", "bi_v1", "bi_v2");
+				for (int i = 1; i <= 5; i++) {
+					builder.addValues(i, "BV-" + i, i * 10);
+				}
+
+				builder.implicitColumns("bi_id", "bi_v1") // Another group of columns(default value)
+					.addValues(6, "BV-6");
+
+				builder.implicitColumns("bi_v2", "bi_v1", "bi_id") // Same set of columns with another sequence
+					.addValues(70, "BV-7", 7);
+			}
+		).decorate(getSchemaLoading());
+
+		/**
+		 * Executes the tested lambda
+		 */
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> {
+				operatorFactory.get(DefaultOperators.BATCH_INSERT).operate(conn, dataGrain);
+			}
+		).runJdbc();
+		// :~)
+
+		/**
+		 * Asserts data
+		 */
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbResultSet.buildRunnable(
+				conn, "SELECT * FROM do_batch_insert WHERE bi_id IN (1, 5, 6, 7) ORDER BY bi_id ASC",
+				rs -> new ResultSetAssert(rs)
+					.assertNextTrue()
+					.assertString("bi_v1", "BV-1")
+					.assertInt("bi_v2", 10)
+
+					.assertNextTrue()
+					.assertString("bi_v1", "BV-5")
+					.assertInt("bi_v2", 50)
+
+					.assertNextTrue()
+					.assertString("bi_v1", "BV-6")
+					.assertInt("bi_v2", 3)
+
+					.assertNextTrue()
+					.assertString("bi_v1", "BV-7")
+					.assertInt("bi_v2", 70)
+
+					.assertNextFalse()
+			).runJdbc()
+		).runJdbc();
+		// :~)
+	}
+
+	/**
+	 * Tests the batch insert with size of batch, which is smaller than number of rows.
+	 */
+	@Test @DoLiquibase
+	public void batchInsertBySize() throws SQLException
+	{
+		final DataGrain dataGrain = DataGrain.build(
+			builder -> builder.name("do_batch_insert_size"),
+			builder -> {
+				builder.implicitColumns("bis_id", "bis_v1");
+				for (int i = 1; i <= 11; i++) {
+					builder.addValues(i, "BS-" + i);
+				}
+			}
+		).decorate(getSchemaLoading());
+
+		/**
+		 * Executes the tested lambda
+		 */
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> {
+				new BatchInsertOperator(3).toDataGrainOperator().operate(conn, dataGrain);
+			}
+		).runJdbc();
+		// :~)
+
+		/**
+		 * Asserts data
+		 */
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbResultSet.buildRunnable(
+				conn, "SELECT COUNT(*), MAX(bis_id) FROM do_batch_insert_size",
+				rs -> new ResultSetAssert(rs)
+					.assertNextTrue()
+					.assertInt(1, 11)
+					.assertInt(2, 11)
+			).runJdbc()
+		).runJdbc();
+		// :~)
+	}
+
+	/**
+	 * Tests the insert by multi-row VALUES.
+	 */
+	@Test @DoLiquibase
+	public void multiRowInsert() throws SQLException
+	{
+		final DataGrain dataGrain = DataGrain.build(
+			builder -> builder.name("do_multi_row_insert"),
+			builder -> {
+				builder.implicitColumns("mri_id", "mri_v1");
+				for (int i = 1; i <= 11; i++) {
+					builder.addValues(i, "MR-" + i);
+				}
+
+				builder.implicitColumns("mri_id") // Another group of columns(default value)
+					.addValues(12);
+			}
+		).decorate(getSchemaLoading());
+
+		/**
+		 * Executes the tested lambda
+		 */
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> {
+				new MultiRowInsertOperator(4).toDataGrainOperator().operate(conn, dataGrain);
+			}
+		).runJdbc();
+		// :~)
+
+		/**
+		 * Asserts data
+		 */
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbResultSet.buildRunnable(
+				conn, "SELECT * FROM do_multi_row_insert WHERE mri_id IN (1, 11, 12) ORDER BY mri_id ASC",
+				rs -> new ResultSetAssert(rs)
+					.assertNextTrue()
+					.assertString("mri_v1", "MR-1")
+
+					.assertNextTrue()
+					.assertString("mri_v1", "MR-11")
+
+					.assertNextTrue()
+					.assertString("mri_v1", "DF")
+
+					.assertNextFalse()
+			).runJdbc()
+		).runJdbc();
+		// :~)
+
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbResultSet.buildRunnable(
+				conn, "SELECT COUNT(*) FROM do_multi_row_insert",
+				rs -> new ResultSetAssert(rs)
+					.assertNextTrue()
+					.assertInt(1, 12)
+			).runJdbc()
+		).runJdbc();
+	}
+
 	@Test @DoLiquibase
 	public void update() throws SQLException
 	{
@@ -204,6 +373,113 @@ public class DefaultOperatorsTest extends AbstractDataSourceTestBase {
 		// :~)
 	}
 
+	/**
+	 * Tests the deletion by IN-list of keys.
+	 */
+	@Test @DoLiquibase
+	public void batchDelete() throws SQLException
+	{
+		final DataGrain dataGrain = DataGrain.build(
+			builder -> builder.name("do_batch_delete"),
+			builder -> builder
+				.implicitColumns("bd_id")
+				.addValues(1)
+				.addValues(2)
+				.addValues(3)
+				.addValues(4)
+				.addValues(5)
+		).aggregate(DataGrain.build(
+			builder -> builder.name("do_batch_delete_ck"),
+			builder -> builder
+				.implicitColumns("bdc_id_1", "bdc_id_2")
+				.addValues(1, "A")
+				.addValues(2, "B")
+				.addValues(3, "C")
+		)).decorate(getSchemaLoading());
+
+		/**
+		 * Executes the tested lambda
+		 */
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> {
+				new BatchDeleteOperator(2).toDataGrainOperator().operate(conn, dataGrain);
+			}
+		).runJdbc();
+		// :~)
+
+		/**
+		 * Asserts the remaining data
+		 */
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbResultSet.buildRunnable(
+				conn, "SELECT bd_id FROM do_batch_delete",
+				rs -> new ResultSetAssert(rs)
+					.assertNextTrue()
+					.assertInt(1, 6)
+					.assertNextFalse()
+			).runJdbc()
+		).runJdbc();
+
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbResultSet.buildRunnable(
+				conn, "SELECT bdc_id_1 FROM do_batch_delete_ck",
+				rs -> new ResultSetAssert(rs)
+					.assertNextTrue()
+					.assertInt(1, 1)
+					.assertNextFalse()
+			).runJdbc()
+		).runJdbc();
+		// :~)
+	}
+
+	/**
+	 * Tests the deletion of interleaved rows of tables, the sequence of rows is kept.
+	 */
+	@Test @DoLiquibase
+	public void batchDeleteInterleaved() throws SQLException
+	{
+		final DataGrain dataGrain = DataGrain.build(
+			builder -> builder.name("do_bdi_parent"),
+			builder -> builder
+				.implicitColumns("bdp_id")
+				.addValues(1)
+		).aggregate(DataGrain.build(
+			builder -> builder.name("do_bdi_child"),
+			builder -> builder
+				.implicitColumns("bdc_id", "bdc_parent_id")
+				.addValues(1, 2)
+		)).aggregate(DataGrain.build(
+			builder -> builder.name("do_bdi_parent"),
+			builder -> builder
+				.implicitColumns("bdp_id")
+				.addValues(2)
+		)).decorate(getSchemaLoading());
+
+		/**
+		 * Executes the tested lambda
+		 */
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> {
+				new BatchDeleteOperator().toDataGrainOperator().operate(conn, dataGrain);
+			}
+		).runJdbc();
+		// :~)
+
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbResultSet.buildRunnable(
+				conn, "SELECT COUNT(*) FROM do_bdi_parent",
+				rs -> new ResultSetAssert(rs)
+					.assertNextTrue()
+					.assertInt(1, 0)
+			).runJdbc()
+		).runJdbc();
+	}
+
 	@Test @DoLiquibase
 	public void deleteAll() throws SQLException
 	{
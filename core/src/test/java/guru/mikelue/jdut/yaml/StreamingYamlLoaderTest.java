@@ -0,0 +1,93 @@
+package guru.mikelue.jdut.yaml;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import guru.mikelue.jdut.ConductorConfig;
+import guru.mikelue.jdut.yaml.node.TableNode;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class StreamingYamlLoaderTest {
+	public StreamingYamlLoaderTest() {}
+
+	/**
+	 * Tests the loading of documents without rows and the streaming of rows.
+	 */
+	@Test
+	void load()
+	{
+		String sampleYaml = YamlTags.DEFAULT_TAGS + "---\n" +
+			"- defines:\n" +
+			"  - &v1 { col_v: \"V1\" }\n" +
+			"- !sql!table st_1 :\n" +
+			"  - { col_id: 1, <<: *v1 }\n" +
+			"  - { col_id: 2, col_ref: &r2 20 }\n" +
+			"  - { col_id: 3, col_ref: *r2 }\n" +
+			"- !sql!table st_2 : {\n" +
+			"  columns: [ col_id ],\n" +
+			"  data: [ [ 1 ], [ 2 ] ],\n" +
+			"  keys: [ col_id ]\n" +
+			"}\n" +
+			"---\n" +
+			"- !sql!table st_3 :\n" +
+			"  - { col_id: 9 }\n";
+
+		StreamingYamlLoader testedLoader = new StreamingYamlLoader(
+			() -> new StringReader(sampleYaml),
+			() -> new JdutConstructor(ConductorConfig.build(builder -> {}))
+		);
+
+		List<StreamingYamlLoader.Document> documents = testedLoader.load();
+		assertThat(documents).hasSize(2);
+
+		/**
+		 * Asserts the document without rows
+		 */
+		StreamingYamlLoader.Document firstDocument = documents.get(0);
+		assertThat(firstDocument.elements).hasSize(3);
+		assertThat(((Map<?, ?>)firstDocument.elements.get(1)).get(new TableNode.TableName("st_1")))
+			.isEqualTo(Collections.emptyList());
+		assertThat(((Map<?, ?>)((Map<?, ?>)firstDocument.elements.get(2)).get(new TableNode.TableName("st_2"))).get("keys"))
+			.isEqualTo(Arrays.asList("col_id"));
+
+		assertThat(firstDocument.getStreamingRows(0)).isEmpty();
+		// :~)
+
+		/**
+		 * Asserts the streamed rows, which could be streamed again
+		 */
+		Map<String, Object> expectedFirstRow = new HashMap<>();
+		expectedFirstRow.put("col_id", 1);
+		expectedFirstRow.put("col_v", "V1");
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(rowsOf(firstDocument, 1))
+				.hasSize(3)
+				.element(0).isEqualTo(expectedFirstRow);
+		}
+		assertThat(((Map<?, ?>)rowsOf(firstDocument, 1).get(2)).get("col_ref"))
+			.isEqualTo(20);
+
+		assertThat(rowsOf(firstDocument, 2))
+			.containsExactly(Arrays.asList(1), Arrays.asList(2));
+		assertThat(rowsOf(documents.get(1), 0))
+			.containsExactly(Collections.singletonMap("col_id", 9));
+		// :~)
+	}
+
+	private static List<Object> rowsOf(StreamingYamlLoader.Document document, int indexOfElement)
+	{
+		try (Stream<?> rows = document.getStreamingRows(indexOfElement).get().get()) {
+			return rows.map(Object.class::cast).collect(Collectors.toList());
+		}
+	}
+}
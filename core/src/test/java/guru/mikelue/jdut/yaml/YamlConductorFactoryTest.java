@@ -13,12 +13,17 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.function.Supplier;
 import java.util.Base64;
+import java.util.UUID;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.mutable.MutableObject;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import guru.mikelue.jdut.ConductorContext;
 import guru.mikelue.jdut.DuetConductor;
 import guru.mikelue.jdut.annotation.IfDatabaseVendor;
 import guru.mikelue.jdut.assertion.ResultSetAssert;
@@ -109,6 +114,202 @@ public class YamlConductorFactoryTest extends AbstractDataSourceTestBase {
 		// :~)
 	}
 
+	/**
+	 * Tests the loading of data by streaming.
+	 */
+	@Test
+	@DoLiquibase
+	public void conductResourceByStreaming() throws SQLException
+	{
+		YamlConductorFactory factory = YamlConductorFactory.build(
+			getDataSource(),
+			builder -> builder
+				.resourceLoader(ReaderFunctions.loadByClass(getClass()))
+				.streamingData(true)
+		);
+
+		DuetConductor conductor = factory.conductResource(
+			"YamlConductorFactoryTest-conductResourceWithSimpleData.yaml"
+		);
+		assertFalse(factory.getCompiledFixture("YamlConductorFactoryTest-conductResourceWithSimpleData.yaml").isPresent());
+
+		conductor.build();
+
+		assertNumberOfRows("sd_tab_1", 4);
+		assertNumberOfRows("sd_tab_2", 6);
+
+		conductor.clean();
+
+		assertNumberOfRows("sd_tab_1", 0);
+		assertNumberOfRows("sd_tab_2", 0);
+	}
+
+	/**
+	 * Tests the loading of data from CSV and TSV.
+	 */
+	@Test
+	@DoLiquibase
+	public void conductResourceWithCsv() throws SQLException
+	{
+		YamlConductorFactory factory = YamlConductorFactory.build(
+			getDataSource(),
+			builder -> builder
+				.resourceLoader(ReaderFunctions.loadByClass(getClass()))
+		);
+
+		DuetConductor conductor = factory.conductResource(
+			"YamlConductorFactoryTest-conductResourceWithCsv.yaml"
+		);
+
+		conductor.build();
+
+		assertNumberOfRows("csv_tab_1", 3);
+		assertNumberOfRows("csv_tab_2", 3);
+
+		/**
+		 * Asserts the values converted by types of columns
+		 */
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbResultSet.buildRunnable(
+				conn, "SELECT cv_name, cv_amount, cv_date, cv_flag FROM csv_tab_1 ORDER BY cv_id",
+				rs -> new ResultSetAssert(rs)
+					.assertNextTrue()
+					.assertString(1, "Joe")
+					.assertBigDecimal(2, new BigDecimal("10.25"), MathContext.DECIMAL32)
+					.assertDate(3, java.sql.Date.valueOf("2019-10-11"))
+					.assertBoolean(4, true)
+					.assertNextTrue()
+					.assertString(1, "Bob, \"The Builder\"")
+					.assertString(2, null)
+					.assertBoolean(4, false)
+					.assertNextTrue()
+					.assertString(1, "Line 1\nLine 2")
+					.assertString(3, null)
+					.assertBoolean(4, true)
+			).runJdbc()
+		).runJdbc();
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbResultSet.buildRunnable(
+				conn, "SELECT cv_value FROM csv_tab_2 WHERE cv_id = 13",
+				rs -> new ResultSetAssert(rs)
+					.assertNextTrue()
+					.assertString(1, "V \"13\"")
+			).runJdbc()
+		).runJdbc();
+		// :~)
+
+		conductor.clean();
+
+		assertNumberOfRows("csv_tab_1", 0);
+		assertNumberOfRows("csv_tab_2", 0);
+	}
+
+	/**
+	 * Tests the loading of data by generator.
+	 */
+	@Test
+	@DoLiquibase
+	public void conductResourceWithGenerator() throws SQLException
+	{
+		YamlConductorFactory factory = YamlConductorFactory.build(
+			getDataSource(),
+			builder -> builder
+				.resourceLoader(ReaderFunctions.loadByClass(getClass()))
+				.namedSupplier("code_supplier", () -> "CODE-1")
+		);
+
+		DuetConductor conductor = factory.conductResource(
+			"YamlConductorFactoryTest-conductResourceWithGenerator.yaml"
+		);
+
+		conductor.build();
+
+		assertNumberOfRows("gn_tab_1", 3000);
+		assertNumberOfRows("gn_tab_2", 5);
+
+		/**
+		 * Asserts the generated values
+		 */
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbResultSet.buildRunnable(
+				conn,
+				"SELECT MAX(gn_id), MAX(gn_name), MIN(gn_score), MAX(gn_score), COUNT(DISTINCT gn_kind), MAX(gn_code) FROM gn_tab_1",
+				rs -> new ResultSetAssert(rs)
+					.assertNextTrue()
+					.assertInt(1, 3000)
+					.assertString(2, "name-03000")
+					.assertInt(3, 1)
+					.assertInt(4, 100)
+					.assertInt(5, 3)
+					.assertString(6, "CODE-1")
+			).runJdbc()
+		).runJdbc();
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbResultSet.buildRunnable(
+				conn, "SELECT SUM(gn_no) FROM gn_tab_2",
+				rs -> new ResultSetAssert(rs)
+					.assertNextTrue()
+					.assertInt(1, 150)
+			).runJdbc()
+		).runJdbc();
+		// :~)
+
+		conductor.clean();
+
+		assertNumberOfRows("gn_tab_1", 0);
+		assertNumberOfRows("gn_tab_2", 0);
+	}
+
+	/**
+	 * Tests the key given by supplier, which cannot be used by streamed rows(the rows are streamed again for cleaning).
+	 */
+	@Test
+	@DoLiquibase
+	public void conductResourceWithSupplierOfKey() throws SQLException
+	{
+		YamlConductorFactory factory = YamlConductorFactory.build(
+			getDataSource(),
+			builder -> builder
+				.resourceLoader(ReaderFunctions.loadByClass(getClass()))
+				.namedSupplier("uuid_supplier", () -> UUID.randomUUID().toString())
+		);
+
+		/**
+		 * The listed rows are kept for cleaning
+		 */
+		DuetConductor conductor = factory.conductResource(
+			"YamlConductorFactoryTest-conductResourceWithSupplierOfKey-listed.yaml"
+		);
+
+		conductor.build();
+		assertNumberOfRows("sk_tab_1", 2);
+
+		conductor.clean();
+		assertNumberOfRows("sk_tab_1", 0);
+		// :~)
+
+		/**
+		 * The generated rows and the streamed rows are rejected
+		 */
+		DuetConductor generatedConductor = factory.conductResource(
+			"YamlConductorFactoryTest-conductResourceWithSupplierOfKey-generated.yaml"
+		);
+		assertThrows(LoadingYamlException.class, generatedConductor::build);
+		assertNumberOfRows("sk_tab_1", 0);
+
+		DuetConductor streamedConductor = factory.conductResource(
+			"YamlConductorFactoryTest-conductResourceWithSupplierOfKey-listed.yaml",
+			builder -> builder.streamingData(true)
+		);
+		assertThrows(LoadingYamlException.class, streamedConductor::build);
+		assertNumberOfRows("sk_tab_1", 0);
+		// :~)
+	}
+
 	/**
 	 * Tests the loading of code.
 	 */
@@ -492,6 +693,208 @@ public class YamlConductorFactoryTest extends AbstractDataSourceTestBase {
 		conductor.clean();
 	}
 
+	/**
+	 * Tests the building/cleaning ordered by foreign keys, which are defined by reversed sequence in YAML.<br>
+	 *
+	 * The independent tables are built/cleaned in parallel if the parallelism is greater than 1.
+	 */
+	@ParameterizedTest
+	@ValueSource(ints={1, 4})
+	@DoLiquibase
+	public void conductResourceWithDependencies(int parallelism) throws SQLException
+	{
+		YamlConductorFactory factory = YamlConductorFactory.build(
+			getDataSource(), builder -> builder
+				.resourceLoader(ReaderFunctions.loadByClass(getClass()))
+				.parallelism(parallelism)
+		);
+
+		DuetConductor conductor = factory.conductResource(
+			"YamlConductorFactoryTest-conductResourceWithDependencies.yaml"
+		);
+
+		conductor.build();
+		assertNumberOfRows("dp_tab_1", 2);
+		assertNumberOfRows("dp_tab_2", 2);
+		assertNumberOfRows("dp_tab_3", 3);
+		assertNumberOfRows("dp_tab_4", 2);
+
+		conductor.clean();
+		assertNumberOfRows("dp_tab_1", 0);
+		assertNumberOfRows("dp_tab_2", 0);
+		assertNumberOfRows("dp_tab_3", 0);
+		assertNumberOfRows("dp_tab_4", 0);
+	}
+
+	/**
+	 * Tests the ordering of tables built by deleting operator.
+	 *
+	 * The referencing tables are deleted before the referenced ones.
+	 */
+	@ParameterizedTest
+	@ValueSource(ints={1, 4})
+	@DoLiquibase
+	public void conductResourceWithDeletingDependencies(int parallelism) throws SQLException
+	{
+		YamlConductorFactory factory = YamlConductorFactory.build(
+			getDataSource(), builder -> builder
+				.resourceLoader(ReaderFunctions.loadByClass(getClass()))
+				.parallelism(parallelism)
+		);
+
+		DuetConductor conductor = factory.conductResource(
+			"YamlConductorFactoryTest-conductResourceWithDeletingDependencies.yaml"
+		);
+
+		conductor.build();
+		assertNumberOfRows("dd_tab_1", 0);
+		assertNumberOfRows("dd_tab_2", 0);
+		assertNumberOfRows("dd_tab_3", 0);
+		assertNumberOfRows("dd_tab_4", 0);
+
+		conductor.clean();
+	}
+
+	/**
+	 * Tests the disabled ordering of tables, which uses the sequence of definitions.
+	 */
+	@Test
+	@DoLiquibase
+	public void conductResourceWithoutDependencyPlanning() throws SQLException
+	{
+		YamlConductorFactory factory = YamlConductorFactory.build(
+			getDataSource(), builder -> builder
+				.resourceLoader(ReaderFunctions.loadByClass(getClass()))
+		);
+
+		/**
+		 * The referencing table is built first
+		 */
+		DuetConductor conductorWithoutPlanning = factory.conductResource(
+			"YamlConductorFactoryTest-conductResourceWithoutDependencyPlanning.yaml",
+			builder -> builder.dependencyPlanning(false)
+		);
+		assertThrows(RuntimeException.class, conductorWithoutPlanning::build);
+		assertNumberOfRows("np_tab_1", 0);
+		assertNumberOfRows("np_tab_2", 0);
+		// :~)
+
+		DuetConductor conductor = factory.conductResource(
+			"YamlConductorFactoryTest-conductResourceWithoutDependencyPlanning.yaml"
+		);
+
+		conductor.build();
+		assertNumberOfRows("np_tab_1", 1);
+		assertNumberOfRows("np_tab_2", 1);
+
+		conductor.clean();
+		assertNumberOfRows("np_tab_1", 0);
+		assertNumberOfRows("np_tab_2", 0);
+	}
+
+	/**
+	 * Tests the cleaning by rolling back the transaction of held connection.
+	 */
+	@Test
+	@DoLiquibase
+	public void conductResourceWithRollbackClean() throws SQLException
+	{
+		YamlConductorFactory factory = YamlConductorFactory.build(
+			getDataSource(), builder -> builder
+				.resourceLoader(ReaderFunctions.loadByClass(getClass()))
+				.rollbackClean(true)
+		);
+
+		DuetConductor conductor = factory.conductResource(
+			"YamlConductorFactoryTest-conductResourceWithRollbackClean.yaml"
+		);
+
+		conductor.build();
+
+		/**
+		 * Asserts the built data by held connection
+		 */
+		Connection heldConnection = ConductorContext.getCurrentConnection().get();
+		DbResultSet.buildRunnable(
+			heldConnection, "SELECT COUNT(*) FROM rb_tab_1",
+			rs -> new ResultSetAssert(rs)
+				.assertNextTrue()
+				.assertInt(1, 3)
+		).runJdbc();
+		// :~)
+
+		conductor.clean();
+
+		assertFalse(ConductorContext.getCurrentConnection().isPresent());
+		assertNumberOfRows("rb_tab_1", 0);
+	}
+
+	/**
+	 * Tests the nested cleaning by rolling back to savepoints of held connection.
+	 */
+	@Test
+	@DoLiquibase
+	public void conductResourceWithNestedRollbackClean() throws SQLException
+	{
+		YamlConductorFactory factory = YamlConductorFactory.build(
+			getDataSource(), builder -> builder
+				.resourceLoader(ReaderFunctions.loadByClass(getClass()))
+				.rollbackClean(true)
+		);
+
+		DuetConductor outerConductor = factory.conductResource(
+			"YamlConductorFactoryTest-conductResourceWithNestedRollbackClean-outer.yaml"
+		);
+		DuetConductor innerConductor = factory.conductResource(
+			"YamlConductorFactoryTest-conductResourceWithNestedRollbackClean-inner.yaml"
+		);
+
+		outerConductor.build();
+
+		Connection heldConnection = ConductorContext.getCurrentConnection().get();
+
+		/**
+		 * Every inner building sees the outer data only
+		 */
+		for (int i = 0; i < 2; i++) {
+			innerConductor.build();
+			assertNumberOfRows(heldConnection, "rb_tab_2", 3);
+			innerConductor.clean();
+
+			assertSame(heldConnection, ConductorContext.getCurrentConnection().get());
+			assertNumberOfRows(heldConnection, "rb_tab_2", 2);
+		}
+		// :~)
+
+		outerConductor.clean();
+
+		assertFalse(ConductorContext.getCurrentConnection().isPresent());
+		assertNumberOfRows("rb_tab_2", 0);
+	}
+
+	private void assertNumberOfRows(Connection conn, String tableName, int expectedNumber) throws SQLException
+	{
+		DbResultSet.buildRunnable(
+			conn, "SELECT COUNT(*) FROM " + tableName,
+			rs -> new ResultSetAssert(rs)
+				.assertNextTrue()
+				.assertInt(1, expectedNumber)
+		).runJdbc();
+	}
+
+	private void assertNumberOfRows(String tableName, int expectedNumber) throws SQLException
+	{
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbResultSet.buildRunnable(
+				conn, "SELECT COUNT(*) FROM " + tableName,
+				rs -> new ResultSetAssert(rs)
+					.assertNextTrue()
+					.assertInt(1, expectedNumber)
+			).runJdbc()
+		).runJdbc();
+	}
+
 	@ParameterizedTest
 	@MethodSource("conductDbType1") @DoLiquibase
 	@IfDatabaseVendor(notMatch=DatabaseVendor.PostgreSql)
@@ -629,4 +1032,58 @@ public class YamlConductorFactoryTest extends AbstractDataSourceTestBase {
 				.hasMessageContaining("sqlExceptionConvert");
 		}
 	}
+
+	/**
+	 * Tests the compiled fixture, which is parsed again only if the content of resource is changed.
+	 */
+	@Test
+	public void conductResourceByCompiledFixture()
+	{
+		MutableObject<String> content = new MutableObject<>(
+			"%TAG !sql! tag:jdut.mikelue.guru:sql:1.0/\n" +
+			"---\n" +
+			"- !sql!table cf_tab_1 :\n" +
+			"  - { cf_id: 1 }\n"
+		);
+
+		YamlConductorFactory factory = YamlConductorFactory.build(
+			getDataSource(),
+			builder -> builder
+				.resourceLoader(name -> new StringReader(content.getValue()))
+		);
+
+		factory.conductResource("compiled-fixture");
+		CompiledFixture firstFixture = factory.getCompiledFixture("compiled-fixture").get();
+		assertThat(firstFixture.hashOfContent)
+			.isEqualTo(CompiledYamlProvider.hash(content.getValue()));
+
+		factory.conductResource("compiled-fixture");
+		assertThat(factory.getCompiledFixture("compiled-fixture").get())
+			.isSameAs(firstFixture);
+
+		/**
+		 * The changed content is parsed again
+		 */
+		content.setValue(content.getValue() + "  - { cf_id: 2 }\n");
+		factory.conductResource("compiled-fixture");
+		assertThat(factory.getCompiledFixture("compiled-fixture").get())
+			.isNotSameAs(firstFixture);
+		// :~)
+	}
+
+	/**
+	 * Tests the hash of content read from reader, which must be the same as the one of {@link CompiledYamlProvider}.
+	 */
+	@Test
+	public void hashOfReader() throws IOException
+	{
+		/**
+		 * The surrogate pair is across the buffer of reading
+		 */
+		String content = StringUtils.repeat('a', 4095) + "\uD83D\uDE00-\u6e2c\u8a66";
+		// :~)
+
+		assertThat(CompiledFixture.hash(new StringReader(content)))
+			.isEqualTo(CompiledYamlProvider.hash(content));
+	}
 }
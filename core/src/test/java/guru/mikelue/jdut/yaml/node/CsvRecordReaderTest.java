@@ -0,0 +1,75 @@
+package guru.mikelue.jdut.yaml.node;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import guru.mikelue.jdut.yaml.LoadingYamlException;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class CsvRecordReaderTest {
+	public CsvRecordReaderTest() {}
+
+	/**
+	 * Tests the reading of records with quoted values, empty values, and blank lines.
+	 */
+	@Test
+	void readRecords()
+	{
+		StringBuilder largeValue = new StringBuilder(20000);
+		for (int i = 0; i < 2000; i++) {
+			largeValue.append("0123456789");
+		}
+
+		String sampleCsv =
+			"c1,c2,c3\r\n" +
+			"1,,\"\"\n" +
+			"\n" +
+			"\"A \"\"quoted\"\", value\",\"Line 1\r\nLine 2\"," + largeValue + "\n" +
+			"3,last";
+
+		List<String[]> records = readAll(sampleCsv, ',');
+
+		assertThat(records).hasSize(4);
+		assertThat(records.get(0)).containsExactly("c1", "c2", "c3");
+		assertThat(records.get(1)).containsExactly("1", null, "");
+		assertThat(records.get(2)).containsExactly("A \"quoted\", value", "Line 1\r\nLine 2", largeValue.toString());
+		assertThat(records.get(3)).containsExactly("3", "last");
+	}
+
+	/**
+	 * Tests the reading of records separated by tab.
+	 */
+	@Test
+	void readRecordsOfTsv()
+	{
+		assertThat(readAll("1\tA,B\t \n", '\t'))
+			.hasSize(1)
+			.element(0).isEqualTo(new String[] { "1", "A,B", " " });
+	}
+
+	/**
+	 * Tests the error of malformed quoted value.
+	 */
+	@ParameterizedTest
+	@ValueSource(strings={ "1,\"unclosed\n", "1,\"value\"x,2\n" })
+	void malformedQuote(String sampleCsv)
+	{
+		assertThatThrownBy(() -> readAll(sampleCsv, ','))
+			.isInstanceOf(LoadingYamlException.class);
+	}
+
+	private static List<String[]> readAll(String content, char separator)
+	{
+		List<String[]> records = new ArrayList<>();
+		new CsvRecordReader(new StringReader(content), separator)
+			.forEachRemaining(records::add);
+
+		return records;
+	}
+}
@@ -0,0 +1,118 @@
+package guru.mikelue.jdut.yaml.node;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import guru.mikelue.jdut.datagrain.DataRow;
+import guru.mikelue.jdut.datagrain.SchemaTable;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class RowsGeneratorTest {
+	public RowsGeneratorTest() {}
+
+	/**
+	 * Tests the generated values of expressions.
+	 */
+	@Test
+	void streamRows()
+	{
+		AtomicInteger counter = new AtomicInteger(0);
+
+		RowsGenerator testedGenerator = RowsGenerator.build(
+			builder -> builder
+				.numberOfRows(100).seed(31)
+				.sequence("col_id", 10, 2)
+				.sequence("col_big", 5000000000L, 1)
+				.template("col_name", "name-%03d")
+				.random("col_score", 1, 5)
+				.random("col_ratio", 0.5, 1.5)
+				.randomOf("col_kind", Arrays.asList("A", "B"))
+				.supplier("col_counter", counter::incrementAndGet)
+				.value("col_fixed", "V1")
+		);
+
+		List<DataRow> rows = streamRows(testedGenerator);
+		assertThat(rows).hasSize(100);
+
+		DataRow lastRow = rows.get(99);
+		assertThat(lastRow.<Integer>getData("col_id")).isEqualTo(208);
+		assertThat(lastRow.<Long>getData("col_big")).isEqualTo(5000000099L);
+		assertThat(lastRow.<String>getData("col_name")).isEqualTo("name-100");
+		assertThat(lastRow.<String>getData("col_fixed")).isEqualTo("V1");
+
+		assertThat(rows)
+			.extracting(row -> row.<Integer>getData("col_score"))
+			.allSatisfy(score -> assertThat(score).isBetween(1, 5))
+			.contains(1, 5);
+		assertThat(rows)
+			.extracting(row -> row.<Double>getData("col_ratio"))
+			.allSatisfy(ratio -> assertThat(ratio).isBetween(0.5, 1.5));
+		assertThat(rows)
+			.extracting(row -> row.<String>getData("col_kind"))
+			.containsOnly("A", "B");
+
+		/**
+		 * The supplier is called while the value is used
+		 */
+		assertThat(counter.get()).isEqualTo(0);
+		assertThat(lastRow.<Integer>getData("col_counter")).isEqualTo(1);
+		// :~)
+	}
+
+	/**
+	 * Tests the type of sequence, which is decided by the last value of sequence.
+	 */
+	@Test
+	void typeOfSequence()
+	{
+		RowsGenerator testedGenerator = RowsGenerator.build(
+			builder -> builder
+				.sequence("col_big", 2147483000, 1)
+				.sequence("col_int", 1, 1)
+				.numberOfRows(1000)
+		);
+
+		List<DataRow> rows = streamRows(testedGenerator);
+		assertThat(rows.get(0).<Object>getData("col_big")).isEqualTo(2147483000L);
+		assertThat(rows.get(999).<Object>getData("col_big")).isEqualTo(2147483999L);
+		assertThat(rows.get(999).<Object>getData("col_int")).isEqualTo(1000);
+	}
+
+	/**
+	 * Tests the same rows generated by the same seed.
+	 */
+	@Test
+	void sameRowsForSeed()
+	{
+		RowsGenerator testedGenerator = RowsGenerator.build(
+			builder -> builder
+				.numberOfRows(20)
+				.random("col_score", 1, 1000000)
+		);
+
+		assertThat(valuesOf(testedGenerator))
+			.isEqualTo(valuesOf(testedGenerator));
+	}
+
+	private static List<Object> valuesOf(RowsGenerator generator)
+	{
+		return streamRows(generator).stream()
+			.map(row -> row.getData("col_score"))
+			.collect(Collectors.toList());
+	}
+
+	private static List<DataRow> streamRows(RowsGenerator generator)
+	{
+		try (Stream<DataRow> rows = generator.streamRows(
+			SchemaTable.build(builder -> builder.name("tab_1"))
+		)) {
+			return rows.collect(Collectors.toList());
+		}
+	}
+}
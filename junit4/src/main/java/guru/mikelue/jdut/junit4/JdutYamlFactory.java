@@ -82,7 +82,12 @@ public class JdutYamlFactory implements TestRule {
 	}
 
 	/**
-	 * Constructs this object by data source.
+	 * Constructs this object by data source.<br>
+	 *
+	 * The loaded schema is kept by the registry of the built factory, which is not shared with other objects.
+	 * Use {@link #JdutYamlFactory(YamlConductorFactory)} with {@link guru.mikelue.jdut.decorate.TableSchemaLoadingDecorator.Builder#sharedSchemaRegistry}
+	 * to share the loaded schema, which must be {@link guru.mikelue.jdut.decorate.SchemaRegistry#invalidate invalidated}
+	 * if the schema of table is changed.
 	 *
 	 * @param dataSource The object of data source
 	 *
@@ -158,6 +163,24 @@ public class JdutYamlFactory implements TestRule {
 		return true;
 	}
 
+	/**
+	 * Checks if the data should be cleaned by rolling back the transaction of held connection.
+	 *
+	 * <p>If this method returns true, the testing code should use the connection provided by
+	 * {@link guru.mikelue.jdut.ConductorContext#getCurrentConnection ConductorContext.getCurrentConnection()}.
+	 * By default, this method returns false.</p>
+	 *
+	 * @param description The context of test
+	 *
+	 * @return true if the data should be cleaned by rolling back
+	 *
+	 * @see guru.mikelue.jdut.RollbackDuetConductor
+	 */
+	protected boolean needRollbackClean(Description description)
+	{
+		return false;
+	}
+
 	/**
 	 * Builds {@link DuetConductor}({@link Optional}) by default convention.
 	 *
@@ -181,6 +204,9 @@ public class JdutYamlFactory implements TestRule {
 
 		Class<?> testClass = description.getTestClass();
 		Consumer<ConductorConfig.Builder> config = defaultBuilderOfConductorConfig(description);
+		if (needRollbackClean(description)) {
+			config = config.andThen(builder -> builder.rollbackClean(true));
+		}
 
 		/**
 		 * This method is used for @ClassRule
@@ -10,6 +10,7 @@ import org.junit.rules.TestRule;
 import org.junit.runner.Description;
 import org.junit.runners.model.Statement;
 
+import guru.mikelue.jdut.ConductorContext;
 import guru.mikelue.jdut.annotation.JdutResource;
 import guru.mikelue.jdut.assertion.ResultSetAssert;
 import guru.mikelue.jdut.jdbc.JdbcTemplateFactory;
@@ -61,6 +62,47 @@ public class JdutYamlFactoryTest extends AbstractDataSourceTestBase {
 		assertData(0);
 	}
 
+	/**
+	 * Tests build/clean data on method level with rolling back of held connection.
+	 */
+	// file: classpath:guru/mikelue/jdut/junit4
+	// 	-> JdutYamlFactoryTest-sampleTestWithRollback.yaml
+	@Test @JdutResource
+	public void sampleTestWithRollback() throws Throwable, SQLException
+	{
+		final TestRule testedRule = new JdutYamlFactory(getDataSource()) {
+			@Override
+			protected boolean needRollbackClean(Description description)
+			{
+				return true;
+			}
+		};
+
+		final MutableBoolean isAssertAfterBuild = new MutableBoolean(false);
+		testedRule.apply(
+			new Statement() {
+				@Override
+				public void evaluate() throws Throwable
+				{
+					isAssertAfterBuild.setTrue();
+
+					DbResultSet.buildRunnable(
+						ConductorContext.getCurrentConnection().get(),
+						"SELECT COUNT(*) FROM method_t1 WHERE t1_id = 33",
+						rs -> new ResultSetAssert(rs)
+							.assertNextTrue()
+							.assertInt(1, 2)
+					).runJdbc();
+				}
+			},
+			Description.createTestDescription(getClass(), "sampleTestWithRollback", getClass().getMethod("sampleTestWithRollback").getAnnotation(JdutResource.class))
+		).evaluate();
+
+		Assert.assertTrue(isAssertAfterBuild.booleanValue());
+		Assert.assertFalse(ConductorContext.getCurrentConnection().isPresent());
+		assertData(0);
+	}
+
 	/**
 	 * Tests build/clean data without @JdutResource(nothing happened).
 	 */
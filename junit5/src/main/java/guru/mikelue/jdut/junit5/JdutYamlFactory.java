@@ -3,7 +3,9 @@ package guru.mikelue.jdut.junit5;
 import java.io.Reader;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -75,6 +77,7 @@ import guru.mikelue.jdut.yaml.YamlConductorFactory;
  *
  * @see #buildDuetConductor
  * @see #needConductData
+ * @see #needRollbackClean
  */
 public abstract class JdutYamlFactory implements BeforeAllCallback, AfterAllCallback,
 	BeforeEachCallback, AfterEachCallback {
@@ -100,7 +103,15 @@ public abstract class JdutYamlFactory implements BeforeAllCallback, AfterAllCall
 	}
 
 	/**
-	 * Builds a new object by {@link Supplier} of {@link DataSource}.
+	 * Builds a new object by {@link Supplier} of {@link DataSource}.<br>
+	 *
+	 * <p>The built object uses a single {@link YamlConductorFactory} for every {@link DataSource}(like the rule of JUnit 4),
+	 * so the compiled fixtures kept by the factory are reused by the following callbacks.</p>
+	 *
+	 * <p>The loaded schema is kept by the registry of the factory, which is not shared with other objects.
+	 * Use {@link #buildByFactory} with {@link guru.mikelue.jdut.decorate.TableSchemaLoadingDecorator.Builder#sharedSchemaRegistry}
+	 * to share the loaded schema, which must be {@link guru.mikelue.jdut.decorate.SchemaRegistry#invalidate invalidated}
+	 * if the schema of table is changed.</p>
 	 *
 	 * @param supplier The functional interface of supplying {@link DataSource}
 	 *
@@ -109,10 +120,15 @@ public abstract class JdutYamlFactory implements BeforeAllCallback, AfterAllCall
 	public static JdutYamlFactory buildByDataSource(Supplier<DataSource> supplier)
 	{
 		return new JdutYamlFactory() {
+			private final Map<DataSource, YamlConductorFactory> factories = new ConcurrentHashMap<>(2);
+
 			@Override
 			protected YamlConductorFactory getYamlConductorFactory(ExtensionContext context, Event event)
 			{
-				return YamlConductorFactory.build(supplier.get());
+				return factories.computeIfAbsent(
+					supplier.get(),
+					dataSource -> YamlConductorFactory.build(dataSource)
+				);
 			}
 		};
 	}
@@ -370,6 +386,28 @@ public abstract class JdutYamlFactory implements BeforeAllCallback, AfterAllCall
 		return true;
 	}
 
+	/**
+	 * Checks if the data should be cleaned by rolling back the transaction of held connection.
+	 *
+	 * <p>If this method returns true, the testing code should use the connection provided by
+	 * {@link guru.mikelue.jdut.ConductorContext#getCurrentConnection ConductorContext.getCurrentConnection()}.
+	 * By default, this method returns false.</p>
+	 *
+	 * <p>If this method returns true for both of class-level and method-level events, the method-level data
+	 * is built in a savepoint of the transaction holding the class-level data.</p>
+	 *
+	 * @param context The context provided by JUnit 5
+	 * @param event The event for scope of current triggered.
+	 *
+	 * @return true if the data should be cleaned by rolling back
+	 *
+	 * @see guru.mikelue.jdut.RollbackDuetConductor
+	 */
+	protected boolean needRollbackClean(ExtensionContext context, Event event)
+	{
+		return false;
+	}
+
 	/**
 	 * Builds the {@link DuetConductor} by default convention({@link #defaultBuilderOfConductorConfig}).
 	 *
@@ -382,9 +420,13 @@ public abstract class JdutYamlFactory implements BeforeAllCallback, AfterAllCall
 	 */
 	protected DuetConductor buildDuetConductor(ExtensionContext context, Event event)
 	{
+		Consumer<ConductorConfig.Builder> config = defaultBuilderOfConductorConfig(context);
+		if (needRollbackClean(context, event)) {
+			config = config.andThen(builder -> builder.rollbackClean(true));
+		}
+
 		return getYamlConductorFactory(context, event).conductResource(
-			event.getResourceUrl(context),
-			defaultBuilderOfConductorConfig(context)
+			event.getResourceUrl(context), config
 		);
 	}
 
@@ -1,5 +1,7 @@
 package guru.mikelue.jdut.junit5;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.lang.reflect.Method;
@@ -14,9 +16,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import guru.mikelue.jdut.ConductorContext;
 import guru.mikelue.jdut.DuetConductor;
 import guru.mikelue.jdut.annotation.JdutResource;
 import guru.mikelue.jdut.assertion.ResultSetAssert;
+import guru.mikelue.jdut.datagrain.SchemaTable;
+import guru.mikelue.jdut.decorate.TableSchemaLoadingDecorator;
 import guru.mikelue.jdut.jdbc.JdbcTemplateFactory;
 import guru.mikelue.jdut.jdbc.function.DbResultSet;
 import guru.mikelue.jdut.jdbc.function.DbStatement;
@@ -77,6 +82,47 @@ public class JdutYamlFactoryTest extends AbstractDataSourceTestBase {
 		assertData(0);
 	}
 
+	/**
+	 * Tests build/clean data on method level with rolling back of held connection
+	 */
+	@Test @JdutResource
+	void sampleTestByMethodWithRollback() throws Exception, SQLException
+	{
+		Method thisMethod = getClass().getDeclaredMethod("sampleTestByMethodWithRollback");
+
+		expectationsOfExtensionContext(thisMethod);
+		new Expectations() {{
+			mockExtContext.getRequiredTestMethod();
+			result = thisMethod;
+		}};
+
+		JdutYamlFactory factory = new JdutYamlFactory() {
+			@Override
+			protected YamlConductorFactory getYamlConductorFactory(ExtensionContext context, Event event)
+			{
+				return YamlConductorFactory.build(getDataSource());
+			}
+			@Override
+			protected boolean needRollbackClean(ExtensionContext context, Event event)
+			{
+				return true;
+			}
+		};
+
+		factory.beforeEach(mockExtContext);
+		DbResultSet.buildRunnable(
+			ConductorContext.getCurrentConnection().get(),
+			"SELECT COUNT(*) FROM method_t1 WHERE t1_id = 52",
+			rs -> new ResultSetAssert(rs)
+				.assertNextTrue()
+				.assertInt(1, 2)
+		).runJdbc();
+
+		factory.afterEach(mockExtContext);
+		assertFalse(ConductorContext.getCurrentConnection().isPresent());
+		assertData(0);
+	}
+
 	/**
 	 * Tests build/clean data on class level
 	 */
@@ -102,6 +148,55 @@ public class JdutYamlFactoryTest extends AbstractDataSourceTestBase {
 		};
 	}
 
+	/**
+	 * Tests the factory built by data source, which is reused by every callback.
+	 */
+	@Test
+	void buildByDataSource()
+	{
+		JdutYamlFactory testedFactory = JdutYamlFactory.buildByDataSource(this::getDataSource);
+
+		YamlConductorFactory yamlFactory = testedFactory.getYamlConductorFactory(mockExtContext, JdutYamlFactory.Event.ClassLevel);
+		assertSame(yamlFactory, testedFactory.getYamlConductorFactory(mockExtContext, JdutYamlFactory.Event.MethodLevel));
+		assertSame(yamlFactory, testedFactory.getYamlConductorFactory(mockExtContext, JdutYamlFactory.Event.MethodLevel));
+	}
+
+	/**
+	 * Tests the factory built by data source, which doesn't use the schema loaded by other factories(before the changing of schema).
+	 */
+	@Test @JdutResource
+	void buildByDataSourceWithChangedSchema() throws Exception, SQLException
+	{
+		/**
+		 * Loads the schema of table into shared registry and changes the schema
+		 */
+		TableSchemaLoadingDecorator.build(getDataSource(), builder -> builder.sharedSchemaRegistry())
+			.getSchema(SchemaTable.build(builder -> builder.name("method_t1")));
+		JdbcTemplateFactory.buildRunnable(
+			() -> getDataSource().getConnection(),
+			conn -> DbStatement.buildRunnableForStatement(
+				conn, stmt -> stmt.execute("ALTER TABLE method_t1 ADD t1_name VARCHAR(32)")
+			).runJdbc()
+		).runJdbc();
+		// :~)
+
+		Method thisMethod = getClass().getDeclaredMethod("buildByDataSourceWithChangedSchema");
+
+		expectationsOfExtensionContext(thisMethod);
+		new Expectations() {{
+			mockExtContext.getRequiredTestMethod();
+			result = thisMethod;
+		}};
+
+		JdutYamlFactory testedFactory = JdutYamlFactory.buildByDataSource(this::getDataSource);
+
+		testedFactory.beforeEach(mockExtContext);
+		assertData(2);
+
+		testedFactory.afterEach(mockExtContext);
+		assertData(0);
+	}
+
 	/**
 	 * Tests build/clean without @JdutResource on method level(nothing happended).
 	 */
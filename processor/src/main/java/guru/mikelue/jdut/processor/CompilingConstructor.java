@@ -0,0 +1,81 @@
+package guru.mikelue.jdut.processor;
+
+import org.yaml.snakeyaml.constructor.AbstractConstruct;
+import org.yaml.snakeyaml.constructor.Construct;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.Tag;
+
+import static guru.mikelue.jdut.yaml.YamlTags.NAMESPACE_DB_TYPE;
+import static guru.mikelue.jdut.yaml.YamlTags.NAMESPACE_JDUT;
+import static guru.mikelue.jdut.yaml.YamlTags.NAMESPACE_SQL;
+
+/**
+ * Loads YAML of JDUT while compiling, only the tags which could be converted to Java code are supported.<br>
+ *
+ * <p>The <em>!sql!table</em> is loaded as {@link TableNameMarker}, other tags of JDUT
+ * need objects of runtime(e.g., named suppliers of {@link guru.mikelue.jdut.ConductorConfig}),
+ * which are rejected by {@link UnsupportedTagException}.</p>
+ */
+class CompilingConstructor extends SafeConstructor {
+	private final Construct sqlConstruct = new SqlConstruct();
+
+	CompilingConstructor() {}
+
+	@Override
+	protected Construct getConstructor(Node node)
+	{
+		String tag = node.getTag().getValue();
+
+		if (tag.startsWith(NAMESPACE_SQL)) {
+			return sqlConstruct;
+		}
+		if (tag.startsWith(NAMESPACE_JDUT) || tag.startsWith(NAMESPACE_DB_TYPE)) {
+			throw new UnsupportedTagException(tag);
+		}
+
+		return super.getConstructor(node);
+	}
+
+	private class SqlConstruct extends AbstractConstruct {
+		private SqlConstruct() {}
+
+		@Override
+		public Object construct(Node node)
+		{
+			String tag = node.getTag().getValue();
+
+			if ("table".equals(tag.replace(NAMESPACE_SQL, ""))) {
+				return new TableNameMarker(
+					(String)CompilingConstructor.this.yamlConstructors.get(Tag.STR).construct(node)
+				);
+			}
+
+			throw new UnsupportedTagException(tag);
+		}
+	}
+}
+
+/**
+ * The name of table loaded while compiling, which is generated as {@link guru.mikelue.jdut.yaml.node.TableNode.TableName}.
+ */
+class TableNameMarker {
+	final String name;
+
+	TableNameMarker(String newName)
+	{
+		name = newName;
+	}
+}
+
+/**
+ * Thrown if the YAML has content which cannot be compiled to Java code.
+ */
+class UnsupportedTagException extends RuntimeException {
+	private final static long serialVersionUID = 1L;
+
+	UnsupportedTagException(String tag)
+	{
+		super(String.format("Tag \"%s\" is resolved at runtime", tag));
+	}
+}
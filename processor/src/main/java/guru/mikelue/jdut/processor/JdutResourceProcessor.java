@@ -0,0 +1,283 @@
+package guru.mikelue.jdut.processor;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import guru.mikelue.jdut.annotation.JdutResource;
+import guru.mikelue.jdut.yaml.CompiledYamlProvider;
+
+/**
+ * Compiles the YAML resources of {@link JdutResource} to Java code of {@link CompiledYamlProvider}.<br>
+ *
+ * <p>For every type which has {@link JdutResource}(on itself or its methods), a class named <em>{SimpleName}_JdutYaml</em>
+ * is generated in the same package, and is registered in <em>META-INF/services</em>
+ * (merged with the providers registered by previous compiling, e.g., incremental compiling).
+ * {@link guru.mikelue.jdut.yaml.YamlConductorFactory#conductResource} uses the generated documents if the hash of content of
+ * the resource is matched, so the modified resource(without re-compiling) is still parsed at runtime.</p>
+ *
+ * <p>The resources are located by:</p>
+ * <ul>
+ * 	<li>{@link JdutResource#resources()} if it is not empty</li>
+ * 	<li><em>{SimpleName}.yaml</em> for the annotated type</li>
+ * 	<li><em>{SimpleName}-{methodName}.yaml</em> for the annotated method</li>
+ * </ul>
+ *
+ * The name of resource is relative to the package of type, unless it starts with <em>"/"</em>.
+ * The resources are searched in {@link StandardLocation#CLASS_OUTPUT}, {@link StandardLocation#SOURCE_PATH},
+ * and {@link StandardLocation#CLASS_PATH}(in order).
+ *
+ * <p>The YAML containing tags which need objects of runtime(e.g., <em>!jdut!supplier</em>, <em>!dbtype!*</em>, <em>!sql!code</em>)
+ * is not compiled, a note is reported by this processor and the resource is parsed at runtime as usual.</p>
+ */
+public class JdutResourceProcessor extends AbstractProcessor {
+	/**
+	 * The suffix of name of generated class.
+	 */
+	public final static String SUFFIX_OF_CLASS = "_JdutYaml";
+
+	private final static String SERVICE_FILE = "META-INF/services/" + CompiledYamlProvider.class.getName();
+	private final static StandardLocation[] LOCATIONS_OF_RESOURCE = {
+		StandardLocation.CLASS_OUTPUT, StandardLocation.SOURCE_PATH, StandardLocation.CLASS_PATH
+	};
+
+	private final Set<String> generatedProviders = new LinkedHashSet<>();
+
+	public JdutResourceProcessor() {}
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes()
+	{
+		return Collections.singleton(JdutResource.class.getName());
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		if (roundEnv.processingOver()) {
+			writeServiceFile();
+			return false;
+		}
+
+		/**
+		 * Groups the names of resources by type
+		 */
+		Map<TypeElement, Set<String>> resourcesOfTypes = new LinkedHashMap<>();
+		for (Element element: roundEnv.getElementsAnnotatedWith(JdutResource.class)) {
+			TypeElement type;
+			String defaultResource;
+
+			if (element.getKind().isClass() || element.getKind().isInterface()) {
+				type = (TypeElement)element;
+				defaultResource = type.getSimpleName() + ".yaml";
+			} else if (element.getKind() == ElementKind.METHOD) {
+				type = (TypeElement)element.getEnclosingElement();
+				defaultResource = type.getSimpleName() + "-" + element.getSimpleName() + ".yaml";
+			} else {
+				continue;
+			}
+
+			String[] resources = element.getAnnotation(JdutResource.class).resources();
+			resourcesOfTypes.computeIfAbsent(type, key -> new LinkedHashSet<>())
+				.addAll(resources.length > 0 ? Arrays.asList(resources) : Collections.singletonList(defaultResource));
+		}
+		// :~)
+
+		resourcesOfTypes.forEach(this::generateProvider);
+
+		return false;
+	}
+
+	private void generateProvider(TypeElement type, Set<String> resources)
+	{
+		String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		ProviderSourceWriter sourceWriter = new ProviderSourceWriter(
+			packageName, nameOfProvider(type), type.getQualifiedName().toString()
+		);
+
+		Set<String> hashesOfContent = new HashSet<>();
+		for (String resource: resources) {
+			Optional<String> content = readResource(packageName, resource);
+			if (!content.isPresent()) {
+				note(type, "Resource is not found while compiling: \"%s\"", resource);
+				continue;
+			}
+
+			String hashOfContent = CompiledYamlProvider.hash(content.get());
+			if (!hashesOfContent.add(hashOfContent)) {
+				continue;
+			}
+
+			try {
+				List<Object> documents = new ArrayList<>(4);
+				new Yaml(new CompilingConstructor()).loadAll(new StringReader(content.get()))
+					.forEach(documents::add);
+
+				sourceWriter.addResource(resource, hashOfContent, documents);
+			} catch (UnsupportedTagException | IllegalArgumentException e) {
+				note(type, "Resource \"%s\" is parsed at runtime. %s", resource, e.getMessage());
+			} catch (YAMLException e) {
+				processingEnv.getMessager().printMessage(
+					Diagnostic.Kind.ERROR, String.format("Cannot parse resource \"%s\": %s", resource, e.getMessage()), type
+				);
+			}
+		}
+
+		if (sourceWriter.isEmpty()) {
+			return;
+		}
+
+		try {
+			JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(sourceWriter.getQualifiedName(), type);
+			try (Writer writer = sourceFile.openWriter()) {
+				writer.write(sourceWriter.toSource());
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(
+				Diagnostic.Kind.ERROR, String.format("Cannot generate \"%s\": %s", sourceWriter.getQualifiedName(), e.getMessage()), type
+			);
+			return;
+		}
+
+		generatedProviders.add(sourceWriter.getQualifiedName());
+	}
+
+	private Optional<String> readResource(String packageName, String resource)
+	{
+		String nameOfPackage = resource.startsWith("/") ? "" : packageName;
+		String relativeName = resource.startsWith("/") ? resource.substring(1) : resource;
+
+		for (StandardLocation location: LOCATIONS_OF_RESOURCE) {
+			try {
+				FileObject file = processingEnv.getFiler().getResource(location, nameOfPackage, relativeName);
+				try (InputStream input = file.openInputStream()) {
+					ByteArrayOutputStream content = new ByteArrayOutputStream(4096);
+					byte[] buffer = new byte[4096];
+					for (int numberOfBytes = input.read(buffer); numberOfBytes >= 0; numberOfBytes = input.read(buffer)) {
+						content.write(buffer, 0, numberOfBytes);
+					}
+
+					return Optional.of(new String(content.toByteArray(), StandardCharsets.UTF_8));
+				}
+			} catch (IOException | IllegalArgumentException e) {
+				// Tries next location
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * The providers registered by previous compiling(e.g., incremental compiling of IDE) are kept.
+	 */
+	private void writeServiceFile()
+	{
+		if (generatedProviders.isEmpty()) {
+			return;
+		}
+
+		Set<String> allProviders = new TreeSet<>(readServiceFile());
+		allProviders.addAll(generatedProviders);
+
+		try {
+			FileObject serviceFile = processingEnv.getFiler().createResource(
+				StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE
+			);
+			try (Writer writer = serviceFile.openWriter()) {
+				for (String provider: allProviders) {
+					writer.write(provider);
+					writer.write('\n');
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(
+				Diagnostic.Kind.ERROR, String.format("Cannot write \"%s\": %s", SERVICE_FILE, e.getMessage())
+			);
+		}
+	}
+
+	/**
+	 * Reads the names of providers from existing service file, the empty set is returned if there is no such file.
+	 */
+	private Set<String> readServiceFile()
+	{
+		Set<String> providers = new HashSet<>();
+
+		try {
+			FileObject serviceFile = processingEnv.getFiler().getResource(
+				StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE
+			);
+			try (BufferedReader reader = new BufferedReader(serviceFile.openReader(true))) {
+				for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+					int indexOfComment = line.indexOf('#');
+					String provider = (indexOfComment >= 0 ? line.substring(0, indexOfComment) : line).trim();
+
+					if (!provider.isEmpty()) {
+						providers.add(provider);
+					}
+				}
+			}
+		} catch (IOException e) {
+			/**
+			 * The service file is not existing
+			 */
+		}
+
+		return providers;
+	}
+
+	private void note(Element element, String format, Object... args)
+	{
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, String.format(format, args), element);
+	}
+
+	/**
+	 * The nested type is named by its enclosing types, e.g., <em>Outer_Inner_JdutYaml</em>.
+	 */
+	private static String nameOfProvider(TypeElement type)
+	{
+		StringBuilder name = new StringBuilder(type.getSimpleName());
+		for (Element enclosing = type.getEnclosingElement();
+			enclosing.getKind().isClass() || enclosing.getKind().isInterface();
+			enclosing = enclosing.getEnclosingElement()
+		) {
+			name.insert(0, enclosing.getSimpleName() + "_");
+		}
+
+		return name.append(SUFFIX_OF_CLASS).toString();
+	}
+}
@@ -0,0 +1,407 @@
+package guru.mikelue.jdut.processor;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes the source of {@link guru.mikelue.jdut.yaml.CompiledYamlProvider} for the loaded documents of YAML.<br>
+ *
+ * <p>Small mappings and sequences are generated as inline expressions. The large ones are generated as
+ * methods, which are split into chunks by the weight(number of nodes) of elements,
+ * so the generated code wouldn't exceed the limitation of size of a method.</p>
+ */
+class ProviderSourceWriter {
+	/**
+	 * The maximum weight of mapping/sequence generated as inline expression.
+	 */
+	final static int INLINE_WEIGHT = 64;
+	/**
+	 * The maximum weight of elements generated in a method.
+	 */
+	final static int CHUNK_WEIGHT = 512;
+	/**
+	 * The maximum weight of all of the resources in a generated class.
+	 */
+	final static int MAX_WEIGHT_OF_CLASS = 20000;
+
+	private final static int SIZE_OF_STRING_LITERAL = 4096;
+
+	private final String packageName;
+	private final String simpleName;
+	private final String nameOfSourceType;
+
+	private final List<String> cases = new ArrayList<>(4);
+	private final List<String> methods = new ArrayList<>(16);
+	private int nextMethodId = 0;
+	private int weightOfClass = 0;
+
+	ProviderSourceWriter(String newPackageName, String newSimpleName, String newNameOfSourceType)
+	{
+		packageName = newPackageName;
+		simpleName = newSimpleName;
+		nameOfSourceType = newNameOfSourceType;
+	}
+
+	/**
+	 * Gets the name(with package) of generated class.
+	 */
+	String getQualifiedName()
+	{
+		return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+	}
+
+	boolean isEmpty()
+	{
+		return cases.isEmpty();
+	}
+
+	/**
+	 * Adds the documents of a resource.
+	 *
+	 * @throws IllegalArgumentException If the documents cannot be generated as Java code
+	 */
+	void addResource(String nameOfResource, String hashOfContent, List<Object> documents)
+	{
+		int weightOfResource = 0;
+		for (Object document: documents) {
+			if (!(document instanceof List)) {
+				throw new IllegalArgumentException("The document is not a sequence");
+			}
+
+			weightOfResource += weight(document, new IdentityHashMap<>());
+		}
+
+		if (weightOfClass + weightOfResource > MAX_WEIGHT_OF_CLASS) {
+			throw new IllegalArgumentException(String.format(
+				"The number of nodes is too large: %d(maximum: %d)",
+				weightOfClass + weightOfResource, MAX_WEIGHT_OF_CLASS
+			));
+		}
+		weightOfClass += weightOfResource;
+
+		String nameOfMethod = "resource" + (nextMethodId++);
+		StringBuilder method = new StringBuilder(256)
+			.append("\t/**\n\t * ").append(nameOfResource.replace("*/", "*&#47;")).append("\n\t */\n")
+			.append("\tprivate static List<List<?>> ").append(nameOfMethod).append("()\n\t{\n")
+			.append("\t\tList<List<?>> documents = new ArrayList<>(").append(documents.size()).append(");\n");
+		for (Object document: documents) {
+			method.append("\t\tdocuments.add(").append(expression(document)).append(");\n");
+		}
+		method.append("\t\treturn documents;\n\t}\n");
+
+		methods.add(method.toString());
+		cases.add(String.format(
+			"\t\t\tcase %s:\n\t\t\t\treturn Optional.of(%s());\n", literal(hashOfContent), nameOfMethod
+		));
+	}
+
+	/**
+	 * Writes the whole source of generated class.
+	 */
+	String toSource()
+	{
+		StringBuilder source = new StringBuilder(4096);
+
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+
+		source
+			.append("import java.math.BigInteger;\n")
+			.append("import java.util.ArrayList;\n")
+			.append("import java.util.Arrays;\n")
+			.append("import java.util.Base64;\n")
+			.append("import java.util.Date;\n")
+			.append("import java.util.LinkedHashMap;\n")
+			.append("import java.util.LinkedHashSet;\n")
+			.append("import java.util.List;\n")
+			.append("import java.util.Map;\n")
+			.append("import java.util.Optional;\n")
+			.append("import java.util.Set;\n\n")
+			.append("import guru.mikelue.jdut.yaml.CompiledYamlProvider;\n")
+			.append("import guru.mikelue.jdut.yaml.node.TableNode;\n\n")
+			.append("/**\n")
+			.append(" * The compiled YAML of {@link ").append(nameOfSourceType).append("}.<br>\n")
+			.append(" *\n")
+			.append(" * Generated by {@code ").append(JdutResourceProcessor.class.getName()).append("}, do not edit.\n")
+			.append(" */\n")
+			.append("public final class ").append(simpleName).append(" implements CompiledYamlProvider {\n")
+			.append("\tpublic ").append(simpleName).append("() {}\n\n")
+			.append("\t@Override\n")
+			.append("\tpublic Optional<List<List<?>>> getDocuments(String hashOfContent)\n\t{\n")
+			.append("\t\tswitch (hashOfContent) {\n");
+		cases.forEach(source::append);
+		source
+			.append("\t\t\tdefault:\n\t\t\t\treturn Optional.empty();\n")
+			.append("\t\t}\n\t}\n");
+
+		methods.forEach(method -> source.append('\n').append(method));
+
+		source
+			.append('\n')
+			.append("\tprivate static List<Object> list(Object... elements)\n\t{\n")
+			.append("\t\treturn new ArrayList<>(Arrays.asList(elements));\n\t}\n")
+			.append("\tprivate static Set<Object> set(Object... elements)\n\t{\n")
+			.append("\t\treturn new LinkedHashSet<>(Arrays.asList(elements));\n\t}\n")
+			.append("\tprivate static Map<Object, Object> map(Object... keysAndValues)\n\t{\n")
+			.append("\t\tMap<Object, Object> map = new LinkedHashMap<>(keysAndValues.length);\n")
+			.append("\t\tfor (int i = 0; i < keysAndValues.length; i += 2) {\n")
+			.append("\t\t\tmap.put(keysAndValues[i], keysAndValues[i + 1]);\n")
+			.append("\t\t}\n")
+			.append("\t\treturn map;\n\t}\n")
+			.append("}\n");
+
+		return source.toString();
+	}
+
+	private String expression(Object value)
+	{
+		if (value == null) {
+			return "null";
+		}
+		if (value instanceof String) {
+			return literal((String)value);
+		}
+		if (value instanceof Boolean) {
+			return (Boolean)value ? "Boolean.TRUE" : "Boolean.FALSE";
+		}
+		if (value instanceof Integer) {
+			return value.toString();
+		}
+		if (value instanceof Long) {
+			return value + "L";
+		}
+		if (value instanceof BigInteger) {
+			return "new BigInteger(\"" + value + "\")";
+		}
+		if (value instanceof Double) {
+			double doubleValue = (Double)value;
+			return Double.isNaN(doubleValue) || Double.isInfinite(doubleValue) ?
+				String.format("Double.longBitsToDouble(0x%xL)", Double.doubleToRawLongBits(doubleValue)) :
+				Double.toString(doubleValue) + "d";
+		}
+		if (value instanceof Date) {
+			return "new Date(" + ((Date)value).getTime() + "L)";
+		}
+		if (value instanceof byte[]) {
+			return "Base64.getDecoder().decode(" + literal(Base64.getEncoder().encodeToString((byte[])value)) + ")";
+		}
+		if (value instanceof TableNameMarker) {
+			return "new TableNode.TableName(" + literal(((TableNameMarker)value).name) + ")";
+		}
+
+		if (value instanceof List || value instanceof Set || value instanceof Object[] || value instanceof Map) {
+			return weight(value, new IdentityHashMap<>()) <= INLINE_WEIGHT ?
+				inlineContainer(value) : methodOfContainer(value);
+		}
+
+		throw new IllegalArgumentException(String.format("Unsupported type of value: %s", value.getClass().getName()));
+	}
+
+	private String inlineContainer(Object container)
+	{
+		StringBuilder expression = new StringBuilder(64);
+
+		if (container instanceof Map) {
+			expression.append("map(");
+			String separator = "";
+			for (Map.Entry<?, ?> entry: ((Map<?, ?>)container).entrySet()) {
+				expression.append(separator)
+					.append(expression(entry.getKey())).append(", ")
+					.append(expression(entry.getValue()));
+				separator = ", ";
+			}
+			return expression.append(')').toString();
+		}
+
+		expression.append(
+			container instanceof Object[] ? "new Object[] {" :
+			container instanceof Set ? "set(" : "list("
+		);
+		/**
+		 * The single argument(null or array) must be casted,
+		 * otherwise it is taken as the array of varargs
+		 */
+		String castOfSingle = size(container) == 1 && !(container instanceof Object[]) ? "(Object)" : "";
+		String separator = "";
+		for (Object element: elements(container)) {
+			expression.append(separator).append(castOfSingle).append(expression(element));
+			separator = ", ";
+		}
+		// :~)
+
+		return expression.append(container instanceof Object[] ? "}" : ")").toString();
+	}
+
+	private String methodOfContainer(Object container)
+	{
+		String nameOfMethod = "value" + (nextMethodId++);
+		String type;
+		String initialization;
+		List<String> statements = new ArrayList<>();
+
+		if (container instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>)container;
+			type = "Map<Object, Object>";
+			initialization = "new LinkedHashMap<>(" + map.size() + ")";
+			for (Map.Entry<?, ?> entry: map.entrySet()) {
+				statements.add(String.format(
+					"value.put(%s, %s);", expression(entry.getKey()), expression(entry.getValue())
+				));
+			}
+		} else if (container instanceof Object[]) {
+			Object[] array = (Object[])container;
+			type = "Object[]";
+			initialization = "new Object[" + array.length + "]";
+			for (int i = 0; i < array.length; i++) {
+				statements.add(String.format("value[%d] = %s;", i, expression(array[i])));
+			}
+		} else {
+			Collection<?> elements = (Collection<?>)container;
+			type = container instanceof Set ? "Set<Object>" : "List<Object>";
+			initialization = (container instanceof Set ? "new LinkedHashSet<>(" : "new ArrayList<>(") + elements.size() + ")";
+			for (Object element: elements) {
+				statements.add("value.add(" + expression(element) + ");");
+			}
+		}
+
+		/**
+		 * Splits the statements into chunks of methods
+		 */
+		StringBuilder method = new StringBuilder(256)
+			.append("\tprivate static ").append(type).append(' ').append(nameOfMethod).append("()\n\t{\n")
+			.append("\t\t").append(type).append(" value = ").append(initialization).append(";\n");
+
+		int indexOfChunk = 0;
+		for (int from = 0; from < statements.size(); indexOfChunk++) {
+			int to = from;
+			int weightOfChunk = 0;
+			while (to < statements.size() && (to == from || weightOfChunk < CHUNK_WEIGHT)) {
+				weightOfChunk += statements.get(to).length() / 16 + 1;
+				to++;
+			}
+
+			String nameOfChunk = nameOfMethod + "_" + indexOfChunk;
+			method.append("\t\t").append(nameOfChunk).append("(value);\n");
+
+			StringBuilder chunk = new StringBuilder(1024)
+				.append("\tprivate static void ").append(nameOfChunk)
+				.append('(').append(type).append(" value)\n\t{\n");
+			for (String statement: statements.subList(from, to)) {
+				chunk.append("\t\t").append(statement).append('\n');
+			}
+			methods.add(chunk.append("\t}\n").toString());
+
+			from = to;
+		}
+		// :~)
+
+		methods.add(method.append("\t\treturn value;\n\t}\n").toString());
+
+		return nameOfMethod + "()";
+	}
+
+	private static Iterable<?> elements(Object container)
+	{
+		return container instanceof Object[] ?
+			Arrays.asList((Object[])container) : (Collection<?>)container;
+	}
+	private static int size(Object container)
+	{
+		return container instanceof Object[] ?
+			((Object[])container).length : ((Collection<?>)container).size();
+	}
+
+	/**
+	 * The number of nodes of the value.
+	 *
+	 * @throws IllegalArgumentException If the value has recursive reference(by anchor of YAML)
+	 */
+	private static int weight(Object value, Map<Object, Boolean> visiting)
+	{
+		if (!(value instanceof Collection || value instanceof Object[] || value instanceof Map)) {
+			return 1;
+		}
+
+		if (visiting.put(value, Boolean.TRUE) != null) {
+			throw new IllegalArgumentException("The recursive structure is not supported");
+		}
+
+		int weight = 1;
+		if (value instanceof Map) {
+			for (Map.Entry<?, ?> entry: ((Map<?, ?>)value).entrySet()) {
+				weight += weight(entry.getKey(), visiting) + weight(entry.getValue(), visiting);
+			}
+		} else {
+			for (Object element: elements(value)) {
+				weight += weight(element, visiting);
+			}
+		}
+
+		visiting.remove(value);
+		return weight;
+	}
+
+	/**
+	 * Builds literal of string, the long string is split to multiple literals.
+	 */
+	private static String literal(String value)
+	{
+		if (value.length() <= SIZE_OF_STRING_LITERAL) {
+			return quote(value);
+		}
+
+		StringBuilder literal = new StringBuilder(value.length() + 64).append("String.join(\"\"");
+		for (int from = 0; from < value.length(); from += SIZE_OF_STRING_LITERAL) {
+			literal.append(", ").append(
+				quote(value.substring(from, Math.min(from + SIZE_OF_STRING_LITERAL, value.length())))
+			);
+		}
+
+		return literal.append(')').toString();
+	}
+
+	private static String quote(String value)
+	{
+		StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"':
+					literal.append("\\\"");
+					break;
+				case '\\':
+					literal.append("\\\\");
+					break;
+				case '\n':
+					literal.append("\\n");
+					break;
+				case '\r':
+					literal.append("\\r");
+					break;
+				case '\t':
+					literal.append("\\t");
+					break;
+				default:
+					if (c < 0x20 || c == 0x7f) {
+						literal.append(String.format("\\%03o", (int)c));
+					} else if (c > 0x7e) {
+						literal.append(String.format("\\u%04x", (int)c));
+					} else {
+						literal.append(c);
+					}
+			}
+		}
+
+		return literal.append('"').toString();
+	}
+}
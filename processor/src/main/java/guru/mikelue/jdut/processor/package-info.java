@@ -0,0 +1,11 @@
+/**
+ * The annotation processor which compiles YAML resources of {@link guru.mikelue.jdut.annotation.JdutResource JdutResource} to Java code.<br>
+ *
+ * <h3>{@link guru.mikelue.jdut.processor.JdutResourceProcessor JdutResourceProcessor}</h3>
+ * <p>Puts this module on the path of annotation processors of compiler, the generated
+ * {@link guru.mikelue.jdut.yaml.CompiledYamlProvider CompiledYamlProvider}s are loaded by
+ * {@link guru.mikelue.jdut.yaml.YamlConductorFactory YamlConductorFactory}, so the resources won't be parsed at runtime.</p>
+ *
+ * @see java.util.ServiceLoader
+ */
+package guru.mikelue.jdut.processor;
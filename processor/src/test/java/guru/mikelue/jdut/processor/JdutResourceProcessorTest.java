@@ -0,0 +1,237 @@
+package guru.mikelue.jdut.processor;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import guru.mikelue.jdut.yaml.CompiledYamlProvider;
+import guru.mikelue.jdut.yaml.YamlTags;
+import guru.mikelue.jdut.yaml.node.TableNode;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class JdutResourceProcessorTest {
+	public JdutResourceProcessorTest() {}
+
+	/**
+	 * Tests the generated provider of documents by compiling source with {@link guru.mikelue.jdut.annotation.JdutResource}.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void compile(@TempDir Path tempDir) throws IOException
+	{
+		StringBuilder largeData = new StringBuilder(8192);
+		for (int i = 0; i < 300; i++) {
+			largeData.append(String.format("    - { col_id: %d, col_name: \"name-%d\" }\n", i, i));
+		}
+
+		String sampleYaml = YamlTags.DEFAULT_TAGS + "---\n" +
+			"- !sql!table tab_1 :\n" +
+			"    - { col_id: 1, col_name: \"Joe\\n\\\"Bob\\\"\", col_amount: 10.5, col_big: 12345678901 }\n" +
+			"    - { col_id: 2, col_name: null, col_flag: true, col_date: 2019-10-11 }\n" +
+			"- !sql!table tab_2 :\n" +
+			"    columns: [ col_id ]\n" +
+			"    data: [ [ 1 ] ]\n" +
+			"---\n" +
+			"- !sql!table tab_3 :\n" +
+			largeData;
+		String runtimeYaml = YamlTags.DEFAULT_TAGS + "---\n" +
+			"- !sql!table tab_1 :\n" +
+			"    - { col_id: !dbtype!integer 1 }\n";
+
+		/**
+		 * Prepares the source and resources
+		 */
+		Path sourceDir = Files.createDirectories(tempDir.resolve("src/sample"));
+		Path outputDir = Files.createDirectories(tempDir.resolve("classes/sample"));
+
+		Path sourceFile = Files.write(
+			sourceDir.resolve("SampleTest.java"),
+			(
+				"package sample;\n" +
+				"@guru.mikelue.jdut.annotation.JdutResource\n" +
+				"public class SampleTest {\n" +
+				"	@guru.mikelue.jdut.annotation.JdutResource(resources=\"runtime.yaml\")\n" +
+				"	public void byMethod() {}\n" +
+				"}\n"
+			).getBytes(StandardCharsets.UTF_8)
+		);
+		Files.write(outputDir.resolve("SampleTest.yaml"), sampleYaml.getBytes(StandardCharsets.UTF_8));
+		Files.write(outputDir.resolve("runtime.yaml"), runtimeYaml.getBytes(StandardCharsets.UTF_8));
+		// :~)
+
+		/**
+		 * Compiles the source with processor
+		 */
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		assertThat(compileWithProcessor(tempDir, sourceFile, diagnostics))
+			.as("Diagnostics: %s", diagnostics.getDiagnostics())
+			.isTrue();
+		assertThat(diagnostics.getDiagnostics())
+			.anySatisfy(diagnostic -> assertThat(diagnostic.getMessage(null)).contains("runtime.yaml"));
+		// :~)
+
+		/**
+		 * Loads the generated provider by service loader
+		 */
+		try (URLClassLoader classLoader = new URLClassLoader(
+			new URL[] { outputDir.getParent().toUri().toURL() }, getClass().getClassLoader()
+		)) {
+			List<CompiledYamlProvider> providers = new ArrayList<>();
+			ServiceLoader.load(CompiledYamlProvider.class, classLoader).forEach(providers::add);
+
+			assertThat(providers)
+				.extracting(provider -> provider.getClass().getName())
+				.containsExactly("sample.SampleTest" + JdutResourceProcessor.SUFFIX_OF_CLASS);
+
+			CompiledYamlProvider testedProvider = providers.get(0);
+			assertThat(testedProvider.getDocuments(CompiledYamlProvider.hash(runtimeYaml)))
+				.isEmpty();
+
+			List<List<?>> documents = testedProvider.getDocuments(CompiledYamlProvider.hash(sampleYaml)).get();
+			assertThat(documents).hasSize(2);
+
+			/**
+			 * Asserts the first document
+			 */
+			List<?> rowsOfTab1 = (List<?>)((Map<?, ?>)documents.get(0).get(0)).get(new TableNode.TableName("tab_1"));
+			Map<String, Object> expectedRow = new HashMap<>();
+			expectedRow.put("col_id", 1);
+			expectedRow.put("col_name", "Joe\n\"Bob\"");
+			expectedRow.put("col_amount", 10.5d);
+			expectedRow.put("col_big", 12345678901L);
+			assertThat(rowsOfTab1.get(0)).isEqualTo(expectedRow);
+			assertThat((Map<Object, Object>)rowsOfTab1.get(1))
+				.containsEntry("col_name", null)
+				.containsEntry("col_flag", true)
+				.containsKey("col_date");
+
+			assertThat((Map<Object, Object>)documents.get(0).get(1))
+				.containsKey(new TableNode.TableName("tab_2"));
+			// :~)
+
+			/**
+			 * Asserts the large document(generated by chunks of methods)
+			 */
+			List<?> rowsOfTab3 = (List<?>)((Map<?, ?>)documents.get(1).get(0)).get(new TableNode.TableName("tab_3"));
+			assertThat(rowsOfTab3).hasSize(300);
+			assertThat((Map<Object, Object>)rowsOfTab3.get(299))
+				.containsEntry("col_id", 299)
+				.containsEntry("col_name", "name-299");
+			// :~)
+		}
+		// :~)
+	}
+
+	/**
+	 * Tests the error of compiling for resource which cannot be parsed.
+	 */
+	@Test
+	void compileMalformedResource(@TempDir Path tempDir) throws IOException
+	{
+		Path sourceDir = Files.createDirectories(tempDir.resolve("src/sample"));
+		Path outputDir = Files.createDirectories(tempDir.resolve("classes/sample"));
+
+		Path sourceFile = Files.write(
+			sourceDir.resolve("MalformedTest.java"),
+			(
+				"package sample;\n" +
+				"@guru.mikelue.jdut.annotation.JdutResource\n" +
+				"public class MalformedTest {}\n"
+			).getBytes(StandardCharsets.UTF_8)
+		);
+		Files.write(
+			outputDir.resolve("MalformedTest.yaml"),
+			(YamlTags.DEFAULT_TAGS + "---\n- !sql!table tab_1 : [ { col_id: 1 }\n").getBytes(StandardCharsets.UTF_8)
+		);
+
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		assertThat(compileWithProcessor(tempDir, sourceFile, diagnostics))
+			.isFalse();
+		assertThat(diagnostics.getDiagnostics())
+			.anySatisfy(diagnostic -> {
+				assertThat(diagnostic.getKind()).isEqualTo(Diagnostic.Kind.ERROR);
+				assertThat(diagnostic.getMessage(null)).contains("MalformedTest.yaml");
+			});
+	}
+
+	/**
+	 * Tests the service file merged by compiling of different types separately(e.g., incremental compiling).
+	 */
+	@Test
+	void compileSeparately(@TempDir Path tempDir) throws IOException
+	{
+		Path sourceDir = Files.createDirectories(tempDir.resolve("src/sample"));
+		Path outputDir = Files.createDirectories(tempDir.resolve("classes/sample"));
+
+		for (String nameOfType: Arrays.asList("FirstTest", "SecondTest")) {
+			Path sourceFile = Files.write(
+				sourceDir.resolve(nameOfType + ".java"),
+				(
+					"package sample;\n" +
+					"@guru.mikelue.jdut.annotation.JdutResource\n" +
+					"public class " + nameOfType + " {}\n"
+				).getBytes(StandardCharsets.UTF_8)
+			);
+			Files.write(
+				outputDir.resolve(nameOfType + ".yaml"),
+				(YamlTags.DEFAULT_TAGS + "---\n- !sql!table tab_1 : [ { col_id: 1 } ]\n").getBytes(StandardCharsets.UTF_8)
+			);
+
+			DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+			assertThat(compileWithProcessor(tempDir, sourceFile, diagnostics))
+				.as("Diagnostics: %s", diagnostics.getDiagnostics())
+				.isTrue();
+		}
+
+		try (URLClassLoader classLoader = new URLClassLoader(
+			new URL[] { outputDir.getParent().toUri().toURL() }, getClass().getClassLoader()
+		)) {
+			List<CompiledYamlProvider> providers = new ArrayList<>();
+			ServiceLoader.load(CompiledYamlProvider.class, classLoader).forEach(providers::add);
+
+			assertThat(providers)
+				.extracting(provider -> provider.getClass().getName())
+				.containsExactlyInAnyOrder(
+					"sample.FirstTest" + JdutResourceProcessor.SUFFIX_OF_CLASS,
+					"sample.SecondTest" + JdutResourceProcessor.SUFFIX_OF_CLASS
+				);
+		}
+	}
+
+	private static boolean compileWithProcessor(
+		Path tempDir, Path sourceFile, DiagnosticCollector<JavaFileObject> diagnostics
+	) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+			return compiler.getTask(
+				null, fileManager, diagnostics,
+				Arrays.asList(
+					"-d", tempDir.resolve("classes").toString(),
+					"-s", tempDir.resolve("generated").toString(),
+					"-classpath", System.getProperty("java.class.path"),
+					"-processor", JdutResourceProcessor.class.getName()
+				),
+				null, fileManager.getJavaFileObjects(sourceFile.toFile())
+			).call();
+		}
+	}
+}
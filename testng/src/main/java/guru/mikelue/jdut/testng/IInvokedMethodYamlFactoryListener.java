@@ -177,7 +177,10 @@ public class IInvokedMethodYamlFactoryListener extends YamlFactoryListenerBase i
 			);
 		}
 
-		return AnnotationUtil.buildConductorByConvention(buildYamlConductorFactory(result.getTestContext()), method);
+		return AnnotationUtil.buildConductorByConvention(
+			buildYamlConductorFactory(result.getTestContext()), method,
+			buildConductorConfig(attributes)
+		);
 	}
 
 	/**
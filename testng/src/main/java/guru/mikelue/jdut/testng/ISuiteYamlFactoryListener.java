@@ -97,7 +97,7 @@ public class ISuiteYamlFactoryListener extends YamlFactoryListenerBase implement
 
 		return Optional.of(
 			buildYamlConductorFactory(attributes)
-				.conductResource(fileName)
+				.conductResource(fileName, buildConductorConfig(attributes))
 		);
 	}
 
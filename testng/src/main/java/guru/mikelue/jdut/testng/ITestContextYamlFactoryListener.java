@@ -121,7 +121,7 @@ public class ITestContextYamlFactoryListener extends YamlFactoryListenerBase imp
 
 		return Optional.of(
 			buildYamlConductorFactory(attributes)
-				.conductResource(fileName)
+				.conductResource(fileName, buildConductorConfig(attributes))
 		);
 	}
 
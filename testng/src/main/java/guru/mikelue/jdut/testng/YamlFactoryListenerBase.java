@@ -3,6 +3,7 @@ package guru.mikelue.jdut.testng;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import javax.sql.DataSource;
 
 import org.apache.commons.lang3.Validate;
@@ -15,6 +16,7 @@ import org.testng.ITestContext;
 import org.testng.ITestNGMethod;
 import org.testng.ITestResult;
 
+import guru.mikelue.jdut.ConductorConfig;
 import guru.mikelue.jdut.DuetConductor;
 import guru.mikelue.jdut.yaml.YamlConductorFactory;
 
@@ -97,7 +99,12 @@ public abstract class YamlFactoryListenerBase {
 	protected YamlFactoryListenerBase() {}
 
 	/**
-	 * Uses {@link #getDataSource} to build {@link YamlConductorFactory} or return a single instance of it.
+	 * Uses {@link #getDataSource} to build {@link YamlConductorFactory} or return a single instance of it.<br>
+	 *
+	 * The loaded schema is kept by the registry of the built factory, which is not shared with other listeners.
+	 * Override this method with {@link guru.mikelue.jdut.decorate.TableSchemaLoadingDecorator.Builder#sharedSchemaRegistry}
+	 * to share the loaded schema, which must be {@link guru.mikelue.jdut.decorate.SchemaRegistry#invalidate invalidated}
+	 * if the schema of table is changed.
 	 *
 	 * @param testResult This object contains both testing method and context
 	 *
@@ -111,9 +118,7 @@ public abstract class YamlFactoryListenerBase {
 				logger.debug("Builds YamlConductorFactory by default implementation. Data source from: [{}]",
 					formatIAttritubes(attributes));
 			}
-			yamlFactory = YamlConductorFactory.build(
-				getDataSource(attributes)
-			);
+			yamlFactory = YamlConductorFactory.build(getDataSource(attributes));
 		}
 
 		return yamlFactory;
@@ -173,6 +178,43 @@ public abstract class YamlFactoryListenerBase {
 		logger.debug("Remove DuetConductor from it");
 	}
 
+	/**
+	 * Checks if the data should be cleaned by rolling back the transaction of held connection.
+	 *
+	 * <p>If this method returns true, the testing code should use the connection provided by
+	 * {@link guru.mikelue.jdut.ConductorContext#getCurrentConnection ConductorContext.getCurrentConnection()}
+	 * <b>in the same thread</b> of building data.
+	 * By default, this method returns false.</p>
+	 *
+	 * @param attributes The attribute object used for retrieve testing environment
+	 *
+	 * @return true if the data should be cleaned by rolling back
+	 *
+	 * @see guru.mikelue.jdut.RollbackDuetConductor
+	 */
+	protected boolean needRollbackClean(IAttributes attributes)
+	{
+		return false;
+	}
+
+	/**
+	 * Builds the configuration of conduction by {@link #needRollbackClean}.
+	 *
+	 * @param attributes The attribute object used for retrieve testing environment
+	 *
+	 * @return The builder of configuration
+	 */
+	protected final Consumer<ConductorConfig.Builder> buildConductorConfig(IAttributes attributes)
+	{
+		boolean rollbackClean = needRollbackClean(attributes);
+
+		return builder -> {
+			if (rollbackClean) {
+				builder.rollbackClean(true);
+			}
+		};
+	}
+
 	/**
 	 * Gets the logger with name of implementing class.
 	 *
@@ -5,6 +5,8 @@ import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.testng.Assert;
+import org.testng.IAttributes;
 import org.testng.IInvokedMethod;
 import org.testng.IInvokedMethodListener;
 import org.testng.ITestContext;
@@ -15,6 +17,7 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
+import guru.mikelue.jdut.ConductorContext;
 import guru.mikelue.jdut.annotation.JdutResource;
 import guru.mikelue.jdut.assertion.ResultSetAssert;
 import guru.mikelue.jdut.jdbc.JdbcTemplateFactory;
@@ -74,6 +77,7 @@ public class IInvokedMethodYamlFactoryListenerTest extends AbstractDataSourceTes
 
 		switch (method.getName()) {
 			case "loadAndClean":
+			case "loadAndCleanWithRollback":
 			case "withoutAnnotation":
 				tableId = 22;
 				break;
@@ -128,6 +132,49 @@ public class IInvokedMethodYamlFactoryListenerTest extends AbstractDataSourceTes
 		// :~)
 	}
 
+	/**
+	 * Tests building/clean on method level with rolling back of held connection.
+	 */
+	@Test @JdutResource
+	void loadAndCleanWithRollback() throws SQLException
+	{
+		IInvokedMethodYamlFactoryListener rollbackListener = new IInvokedMethodYamlFactoryListener() {
+			@Override
+			protected boolean needRollbackClean(IAttributes attributes)
+			{
+				return true;
+			}
+		};
+
+		Object[] callbackArgs = TestMethodInfoKeeper.getCallbackArgs(getClass(), "loadAndCleanWithRollback");
+		ITestContext testContext = ((ITestResult)callbackArgs[1]).getTestContext();
+
+		YamlFactoryListenerBase.setDataSource(testContext, getDataSource());
+		invokeCallback(rollbackListener::beforeInvocation, callbackArgs);
+
+		/**
+		 * Asserts the building of data(by the held connection)
+		 */
+		DbResultSet.buildRunnable(
+			ConductorContext.getCurrentConnection().get(),
+			"SELECT COUNT(*) FROM tab_22 WHERE t22_id = 33",
+			rs -> new ResultSetAssert(rs)
+				.assertNextTrue()
+				.assertInt(1, 2)
+		).runJdbc();
+		// :~)
+
+		invokeCallback(rollbackListener::afterInvocation, callbackArgs);
+		YamlFactoryListenerBase.removeDataSource(testContext);
+
+		/**
+		 * Asserts the clean of data
+		 */
+		Assert.assertFalse(ConductorContext.getCurrentConnection().isPresent());
+		assertData("SELECT COUNT(*) FROM tab_22 WHERE t22_id = 33", 0);
+		// :~)
+	}
+
 	/**
 	 * Tests the build/clean on method without @JdutResource(nothing happened).
 	 */